@@ -0,0 +1,109 @@
+package com.example.employeemanagement.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against a baseline and prints a per-benchmark table of
+ * score, error and delta. A benchmark regresses when its score moves in the wrong
+ * direction for its mode by more than the threshold percentage; the process then exits
+ * with status 1, which fails the {@code perf-gate} build.
+ * <p>
+ * Usage: {@code BenchmarkComparator <baseline.json> <current.json> [threshold-percent]}
+ */
+public final class BenchmarkComparator {
+    static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+    private static final String ROW_FORMAT = "%-50s %-28s %16s %14s %16s %14s %-7s %9s  %s%n";
+
+    private final double thresholdPercent;
+
+    BenchmarkComparator(double thresholdPercent) {
+        if (!(thresholdPercent >= 0)) {
+            throw new IllegalArgumentException("Threshold must be a non-negative percentage");
+        }
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkComparator <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        try {
+            double threshold = args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+            int regressions = new BenchmarkComparator(threshold)
+                    .compare(JmhResult.read(Path.of(args[0])), JmhResult.read(Path.of(args[1])), System.out);
+            System.exit(regressions == 0 ? 0 : 1);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Benchmark comparison failed: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Prints the comparison table and returns the number of regressed benchmarks.
+     * Benchmarks present in only one of the runs are listed but never count as regressions,
+     * so a run restricted to a subset of the suite can still be gated.
+     */
+    int compare(Map<String, JmhResult> baseline, Map<String, JmhResult> current, PrintStream out) {
+        out.printf(Locale.ROOT, ROW_FORMAT, "Benchmark", "Params", "Baseline", "Error", "Current", "Error",
+                "Unit", "Delta", "");
+        int regressions = 0;
+        int unmatched = 0;
+        for (JmhResult base : baseline.values()) {
+            JmhResult result = current.get(base.key());
+            if (result == null) {
+                printRow(out, base, null, null, "missing");
+                continue;
+            }
+            if (!result.getUnit().equals(base.getUnit()) || !result.getMode().equals(base.getMode())) {
+                printRow(out, base, result, null, "not comparable: " + base.getMode() + " " + base.getUnit()
+                        + " vs " + result.getMode() + " " + result.getUnit());
+                continue;
+            }
+            double delta = deltaPercent(base, result);
+            boolean regressed = regressionPercent(base, result) > thresholdPercent;
+            if (regressed) {
+                regressions++;
+            }
+            printRow(out, base, result, delta, regressed ? "REGRESSION" : "");
+        }
+        for (JmhResult result : current.values()) {
+            if (!baseline.containsKey(result.key())) {
+                unmatched++;
+                printRow(out, null, result, null, "no baseline");
+            }
+        }
+        out.printf(Locale.ROOT, "%n%d of %d benchmarks regressed by more than %.1f%%%s%n", regressions,
+                baseline.size(), thresholdPercent,
+                unmatched == 0 ? "" : "; " + unmatched + " have no baseline yet");
+        return regressions;
+    }
+
+    // Signed change in score, positive when the score went up
+    static double deltaPercent(JmhResult base, JmhResult result) {
+        return (result.getScore() - base.getScore()) / base.getScore() * 100.0;
+    }
+
+    // How much worse the result is, in percent; negative when it improved
+    static double regressionPercent(JmhResult base, JmhResult result) {
+        double delta = deltaPercent(base, result);
+        return base.higherIsBetter() ? -delta : delta;
+    }
+
+    // Either side may be null when the benchmark ran in only one of the two runs
+    private static void printRow(PrintStream out, JmhResult base, JmhResult result, Double delta, String status) {
+        JmhResult named = base != null ? base : result;
+        out.printf(Locale.ROOT, ROW_FORMAT, named.getBenchmark(), named.getParams(),
+                base == null ? "-" : number(base.getScore()), base == null ? "-" : number(base.getError()),
+                result == null ? "-" : number(result.getScore()), result == null ? "-" : number(result.getError()),
+                named.getUnit(), delta == null ? "-" : String.format(Locale.ROOT, "%+.1f%%", delta), status);
+    }
+
+    private static String number(double value) {
+        return Double.isNaN(value) ? "NaN" : String.format(Locale.ROOT, "%.3f", value);
+    }
+}
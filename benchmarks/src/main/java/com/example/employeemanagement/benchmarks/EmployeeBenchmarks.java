@@ -0,0 +1,41 @@
+package com.example.employeemanagement.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the EmployeeDatabase benchmarks with the GC profiler, so every result carries its
+ * allocation rate next to its throughput, and writes the results as JSON. Arguments are
+ * standard JMH options and take precedence, e.g.
+ * {@code java -jar target/benchmarks.jar EmployeeQuery -p size=100000 -rff query.json}.
+ */
+public final class EmployeeBenchmarks {
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private EmployeeBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(EmployeeBenchmarks.class.getPackageName() + ".Employee.*Benchmark");
+        }
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.employeemanagement.benchmarks;
+
+import com.example.employeemanagement.Employee;
+import com.example.employeemanagement.EmployeeBatch;
+import com.example.employeemanagement.EmployeeDatabase;
+import com.example.employeemanagement.StorageMode;
+import com.example.employeemanagement.Exception.*;
+
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Builds reproducible databases for the benchmarks. Names, departments, salaries, ratings and
+ * experience are drawn from a seeded {@link Random}, so every run and every fork sees the
+ * same data.
+ */
+final class EmployeeFixtures {
+    static final long SEED = 20240501L;
+    static final String[] DEPARTMENTS = {"HR", "IT", "Finance", "Marketing", "Operations", "Sales"};
+    private static final String[] FIRST_NAMES = {
+        "Ada", "Ben", "Carla", "Dmitri", "Elena", "Femi", "Grace", "Hiro", "Ines", "Joao",
+        "Kwame", "Lena", "Mateo", "Nadia", "Omar", "Priya", "Quinn", "Rosa", "Sven", "Tariq"
+    };
+    private static final String[] LAST_NAMES = {
+        "Adams", "Brown", "Chen", "Diallo", "Evans", "Fischer", "Garcia", "Hansen", "Ibrahim", "Jones",
+        "Kowalski", "Lopez", "Mensah", "Nakamura", "Okafor", "Petrov", "Quispe", "Rossi", "Singh", "Tanaka"
+    };
+    // Sixteen syllables, so five of them spell out any index below 2^20 as a surname
+    private static final String[] SYLLABLES = {
+        "ba", "ko", "ri", "ne", "su", "ta", "mo", "li", "da", "fe", "gu", "ha", "ji", "ve", "wo", "zu"
+    };
+    // Held so the level set on it is not lost if the logger is garbage collected
+    private static final Logger APPLICATION_LOGGER = Logger.getLogger(Employee.class.getPackageName());
+
+    private EmployeeFixtures() {
+    }
+
+    // Per-operation INFO lines would otherwise dominate the write benchmarks
+    static void quietLogging() {
+        APPLICATION_LOGGER.setLevel(Level.WARNING);
+    }
+
+    static EmployeeDatabase<Integer> populate(StorageMode storageMode, int size) {
+        quietLogging();
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>(storageMode);
+        Random random = new Random(SEED);
+        EmployeeBatch<Integer> batch = database.newBatch();
+        for (int i = 0; i < size; i++) {
+            batch.add(randomEmployee(database, random));
+        }
+        batch.commit();
+        return database;
+    }
+
+    /**
+     * Like {@link #populate}, but every employee gets a different name, as typo-tolerant
+     * search needs a dictionary as large as the database to be measured fairly.
+     */
+    static EmployeeDatabase<Integer> populateDistinctNames(StorageMode storageMode, int size) {
+        quietLogging();
+        EmployeeDatabase<Integer> database = new EmployeeDatabase<>(storageMode);
+        Random random = new Random(SEED);
+        EmployeeBatch<Integer> batch = database.newBatch();
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + surname(i);
+            batch.add(employee(database.nextEmployeeId(), name, random));
+        }
+        batch.commit();
+        return database;
+    }
+
+    private static String surname(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            name.append(SYLLABLES[(index >>> (4 * i)) & 15]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return index >>> 20 == 0 ? name.toString() : name.append(' ').append(index >>> 20).toString();
+    }
+
+    static Employee<Integer> randomEmployee(EmployeeDatabase<Integer> database, Random random) {
+        return employee(database.nextEmployeeId(), random);
+    }
+
+    static Employee<Integer> employee(int id, Random random) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return employee(id, name, random);
+    }
+
+    private static Employee<Integer> employee(int id, String name, Random random) {
+        String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+        double salary = 30_000 + random.nextInt(9_000_000) / 100.0;
+        double rating = random.nextInt(51) / 10.0;
+        int years = random.nextInt(40);
+        try {
+            return new Employee<>(id, name, department, salary, rating, years);
+        } catch (InvalidSalaryException | InvalidDepartmentException e) {
+            throw new IllegalStateException("Fixture data is valid by construction", e);
+        }
+    }
+}
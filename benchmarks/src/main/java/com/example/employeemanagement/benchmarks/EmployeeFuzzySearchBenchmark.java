@@ -0,0 +1,128 @@
+package com.example.employeemanagement.benchmarks;
+
+import com.example.employeemanagement.Employee;
+import com.example.employeemanagement.EmployeeDatabase;
+import com.example.employeemanagement.StorageMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typo-tolerant name search through the database's BK-tree against a scan that compares the
+ * query with every name. Every employee has a different name, and each query is an existing
+ * name with one character replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeFuzzySearchBenchmark {
+    private static final int QUERIES = 256;
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"1", "2"})
+    int maxDistance;
+
+    EmployeeDatabase<Integer> database;
+    String[] queries;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String nextQuery(String[] queries) {
+            next = (next + 1) % queries.length;
+            return queries[next];
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = EmployeeFixtures.populateDistinctNames(StorageMode.HEAP, size);
+        List<Employee<Integer>> employees = database.getAllEmployees();
+        Random random = new Random(EmployeeFixtures.SEED);
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            char[] name = employees.get(random.nextInt(employees.size())).getName().toCharArray();
+            name[random.nextInt(name.length)] = (char) ('a' + random.nextInt(26));
+            queries[i] = new String(name);
+        }
+        // Builds the BK-tree outside the measurement
+        database.fuzzySearchByName("a", 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> bkTree(Cursor cursor) {
+        return database.fuzzySearchByName(cursor.nextQuery(queries), maxDistance);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> naiveScan(Cursor cursor) {
+        String query = cursor.nextQuery(queries).toLowerCase(Locale.ROOT);
+        int[] rows = new int[2 * (query.length() + 1)];
+        List<Employee<Integer>> matches = new ArrayList<>();
+        List<Integer> distances = new ArrayList<>();
+        database.forEachEmployee(employee -> {
+            int distance = boundedDistance(query, employee.getName().toLowerCase(Locale.ROOT), maxDistance, rows);
+            if (distance <= maxDistance) {
+                matches.add(employee);
+                distances.add(distance);
+            }
+        });
+        List<Integer> order = new ArrayList<>(matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(distances::get));
+        List<Employee<Integer>> result = new ArrayList<>(matches.size());
+        for (int i : order) {
+            result.add(matches.get(i));
+        }
+        return result;
+    }
+
+    // Levenshtein distance, given up as max + 1 once a whole row exceeds max
+    private static int boundedDistance(String a, String b, int max, int[] rows) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int width = a.length() + 1;
+        int previous = 0;
+        int current = width;
+        for (int i = 0; i < width; i++) {
+            rows[i] = i;
+        }
+        for (int j = 1; j <= b.length(); j++) {
+            char c = b.charAt(j - 1);
+            rows[current] = j;
+            int rowMin = j;
+            for (int i = 1; i < width; i++) {
+                int value = Math.min(rows[previous + i - 1] + (a.charAt(i - 1) == c ? 0 : 1),
+                        Math.min(rows[previous + i], rows[current + i - 1]) + 1);
+                rows[current + i] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return rows[previous + width - 1];
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.employeemanagement.benchmarks;
+
+import com.example.employeemanagement.Employee;
+import com.example.employeemanagement.EmployeeDatabase;
+import com.example.employeemanagement.StorageMode;
+import com.example.employeemanagement.Exception.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeDatabase} writes. Adds and removes make {@value #OPERATIONS} calls per
+ * invocation and are undone, unmeasured, before the next one, so the database stays at
+ * {@code size} employees throughout. Salary raises compound, so salaries are reset before
+ * each iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeMutationBenchmark {
+    static final int OPERATIONS = 1000;
+
+    // Benchmarks reach this through the helper states: JMH would otherwise hand a benchmark
+    // method and a helper's setup two different instances
+    @State(Scope.Thread)
+    public static class Data {
+        @Param({"1000", "100000", "1000000"})
+        int size;
+
+        @Param({"HEAP"})
+        StorageMode storageMode;
+
+        EmployeeDatabase<Integer> database;
+        // Detached copies of the populated employees; off-heap views stop reading once removed
+        List<Employee<Integer>> baseEmployees;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            database = EmployeeFixtures.populate(storageMode, size);
+            Random replay = new Random(EmployeeFixtures.SEED);
+            baseEmployees = new ArrayList<>(size);
+            for (Employee<Integer> employee : database.getAllEmployees()) {
+                baseEmployees.add(EmployeeFixtures.employee(employee.getEmployeeId(), replay));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            database.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Additions {
+        final Random random = new Random(EmployeeFixtures.SEED);
+        final List<Employee<Integer>> pending = new ArrayList<>(OPERATIONS);
+        final List<Integer> added = new ArrayList<>(OPERATIONS);
+        Data data;
+
+        @Setup(Level.Trial)
+        public void bind(Data data) {
+            this.data = data;
+        }
+
+        // Removes what the last invocation added and creates the next employees to add
+        @Setup(Level.Invocation)
+        public void prepare() throws EmployeeNotFoundException {
+            for (Integer id : added) {
+                data.database.removeEmployee(id);
+            }
+            added.clear();
+            pending.clear();
+            for (int i = 0; i < OPERATIONS; i++) {
+                pending.add(EmployeeFixtures.randomEmployee(data.database, random));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Removals {
+        final int[] removed = new int[OPERATIONS];
+        int removedCount;
+        int cursor;
+        Data data;
+
+        @Setup(Level.Trial)
+        public void bind(Data data) {
+            this.data = data;
+        }
+
+        // Puts back what the last invocation removed
+        @Setup(Level.Invocation)
+        public void prepare() throws InvalidSalaryException,
+                InvalidDepartmentException {
+            for (int i = 0; i < removedCount; i++) {
+                Employee<Integer> employee = data.baseEmployees.get(removed[i]);
+                data.database.addEmployee(new Employee<>(employee.getEmployeeId(), employee.getName(),
+                        employee.getDepartment(), employee.getSalary(), employee.getPerformanceRating(),
+                        employee.getYearsOfExperience()));
+            }
+            removedCount = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Raises {
+        Data data;
+
+        @Setup(Level.Trial)
+        public void bind(Data data) {
+            this.data = data;
+        }
+
+        @Setup(Level.Iteration)
+        public void resetSalaries() throws EmployeeNotFoundException,
+                InvalidSalaryException {
+            for (Employee<Integer> base : data.baseEmployees) {
+                Employee<Integer> employee = data.database.getEmployee(base.getEmployeeId());
+                if (employee.getSalary() != base.getSalary()) {
+                    employee.setSalary(base.getSalary());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void addEmployee(Additions additions, Blackhole blackhole) {
+        for (Employee<Integer> employee : additions.pending) {
+            Integer id = additions.data.database.addEmployee(employee);
+            additions.added.add(id);
+            blackhole.consume(id);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public void removeEmployee(Removals removals) throws EmployeeNotFoundException {
+        Data data = removals.data;
+        int count = Math.min(OPERATIONS, data.baseEmployees.size());
+        for (int i = 0; i < count; i++) {
+            data.database.removeEmployee(data.baseEmployees.get(removals.cursor).getEmployeeId());
+            removals.removed[removals.removedCount++] = removals.cursor;
+            removals.cursor = (removals.cursor + 1) % data.baseEmployees.size();
+        }
+    }
+
+    @Benchmark
+    public void giveSalaryRaise(Raises raises) throws InvalidSalaryException {
+        raises.data.database.giveSalaryRaise(0.01, 3.0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.employeemanagement.benchmarks;
+
+import com.example.employeemanagement.Employee;
+import com.example.employeemanagement.EmployeeDatabase;
+import com.example.employeemanagement.StorageMode;
+import com.example.employeemanagement.Exception.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full scans run on the calling thread against the same scans split across the database's
+ * scan pool, at several sizes, to find where splitting starts to pay off on this machine.
+ * Scans stay sequential by default; a threshold passed to
+ * {@link EmployeeDatabase#setParallelScanThreshold} should sit near that crossover.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeParallelScanBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    int size;
+
+    @Param({"HEAP", "COLUMNAR", "OFF_HEAP"})
+    StorageMode storageMode;
+
+    @Param({"false", "true"})
+    boolean parallel;
+
+    EmployeeDatabase<Integer> database;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = EmployeeFixtures.populate(storageMode, size);
+        database.setParallelScanThreshold(parallel ? 0 : Integer.MAX_VALUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getHighPerformingEmployees() {
+        return database.getHighPerformingEmployees(4.5);
+    }
+
+    // Heap storage answers this from the salary index; the other modes scan
+    @Benchmark
+    public List<Employee<Integer>> getEmployeesInSalaryRange() throws InvalidSalaryException {
+        return database.getEmployeesInSalaryRange(50_000, 55_000);
+    }
+
+    // No index covers the active flag, so the query scans every employee
+    @Benchmark
+    public List<Employee<Integer>> queryInactive() {
+        return database.query().active(false).list();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.employeemanagement.benchmarks;
+
+import com.example.employeemanagement.DepartmentSalaryStats;
+import com.example.employeemanagement.Employee;
+import com.example.employeemanagement.EmployeeDatabase;
+import com.example.employeemanagement.EmployeeQuery;
+import com.example.employeemanagement.StorageMode;
+import com.example.employeemanagement.Exception.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only {@link EmployeeDatabase} operations against a database built once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeQueryBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"HEAP"})
+    StorageMode storageMode;
+
+    EmployeeDatabase<Integer> database;
+    int[] ids;
+
+    // Walks IDs and departments so consecutive calls do not hit the same entry
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int nextIndex(int bound) {
+            next = next + 1 == Integer.MAX_VALUE ? 0 : next + 1;
+            return next % bound;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidDepartmentException {
+        database = EmployeeFixtures.populate(storageMode, size);
+        List<Employee<Integer>> employees = database.getAllEmployees();
+        ids = new int[employees.size()];
+        for (int i = 0; i < ids.length; i++) {
+            // Spread lookups over the table rather than walking it in insertion order
+            ids[i] = employees.get((int) ((i * 2654435761L) % ids.length)).getEmployeeId();
+        }
+        // Builds the name index, department salary totals and sorted views outside the measurement
+        database.suggestNames("a", 1);
+        database.getAverageDepartmentSalary("HR");
+        database.sortByExperience();
+        database.sortBySalary();
+        database.sortByPerformance();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        database.close();
+    }
+
+    @Benchmark
+    public Employee<Integer> getEmployee(Cursor cursor) throws EmployeeNotFoundException {
+        return database.getEmployee(ids[cursor.nextIndex(ids.length)]);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getEmployeesByDepartment(Cursor cursor) throws InvalidDepartmentException {
+        return database.getEmployeesByDepartment(department(cursor));
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> searchEmployeesByName() {
+        return database.searchEmployeesByName("ana");
+    }
+
+    @Benchmark
+    public List<String> suggestNames() {
+        return database.suggestNames("ta", 8);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getEmployeesInSalaryRange() throws InvalidSalaryException {
+        return database.getEmployeesInSalaryRange(50_000, 55_000);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortByExperience() {
+        return database.sortByExperience();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortBySalary() {
+        return database.sortBySalary();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortByPerformance() {
+        return database.sortByPerformance();
+    }
+
+    @Benchmark
+    public double getAverageDepartmentSalary(Cursor cursor) throws InvalidDepartmentException {
+        return database.getAverageDepartmentSalary(department(cursor));
+    }
+
+    // The dashboard's count, which the leaderboard serves
+    @Benchmark
+    public List<Employee<Integer>> getTopPaidEmployees() {
+        return database.getTopPaidEmployees(5);
+    }
+
+    // Beyond the leaderboard, so selected from the whole database
+    @Benchmark
+    public List<Employee<Integer>> getTopPaidEmployeesAdHoc() {
+        return database.getTopPaidEmployees(100);
+    }
+
+    @Benchmark
+    public DepartmentSalaryStats getDepartmentSalaryStats(Cursor cursor) throws InvalidDepartmentException {
+        return database.getDepartmentSalaryStats(department(cursor));
+    }
+
+    // Department, salary band and rating, best paid first: the planner reads the salary view
+    @Benchmark
+    public List<Employee<Integer>> query(Cursor cursor) throws InvalidDepartmentException, InvalidSalaryException {
+        return database.query()
+                .inDepartment(department(cursor))
+                .salaryBetween(50_000, 55_000)
+                .minRating(4.0)
+                .sortBy(EmployeeQuery.Sort.SALARY)
+                .limit(10)
+                .list();
+    }
+
+    // The same query as an ad-hoc stream pipeline, the way callers wrote it before
+    @Benchmark
+    public List<Employee<Integer>> queryAsStream(Cursor cursor) {
+        String department = department(cursor);
+        return database.getAllEmployees().stream()
+                .filter(e -> e.getDepartment().equalsIgnoreCase(department))
+                .filter(e -> e.getSalary() >= 50_000 && e.getSalary() <= 55_000)
+                .filter(e -> e.getPerformanceRating() >= 4.0)
+                .sorted(Comparator.comparingDouble(Employee::getSalary))
+                .limit(10)
+                .toList();
+    }
+
+    private static String department(Cursor cursor) {
+        return EmployeeFixtures.DEPARTMENTS[cursor.nextIndex(EmployeeFixtures.DEPARTMENTS.length)];
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.employeemanagement.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The primary metric of one benchmark run, as read from a JMH JSON result file. Secondary
+ * metrics such as the GC profiler's allocation rates are not compared and are skipped.
+ */
+final class JmhResult {
+    private final String benchmark;
+    private final String params;
+    private final String mode;
+    private final double score;
+    private final double error;
+    private final String unit;
+
+    JmhResult(String benchmark, String params, String mode, double score, double error, String unit) {
+        this.benchmark = benchmark;
+        this.params = params;
+        this.mode = mode;
+        this.score = score;
+        this.error = error;
+        this.unit = unit;
+    }
+
+    // Benchmark method and parameters; results with the same key are comparable
+    String key() {
+        return params.isEmpty() ? benchmark : benchmark + " " + params;
+    }
+
+    String getBenchmark() {
+        return benchmark;
+    }
+
+    String getParams() {
+        return params;
+    }
+
+    String getMode() {
+        return mode;
+    }
+
+    double getScore() {
+        return score;
+    }
+
+    // NaN when JMH had too few iterations to estimate it
+    double getError() {
+        return error;
+    }
+
+    String getUnit() {
+        return unit;
+    }
+
+    // Throughput is the only mode where a larger score is better
+    boolean higherIsBetter() {
+        return "thrpt".equals(mode);
+    }
+
+    /** Reads a JMH JSON result file, keyed by {@link #key()} in file order. */
+    static Map<String, JmhResult> read(Path file) throws IOException {
+        Object root = new JsonReader(Files.readString(file, StandardCharsets.UTF_8)).readDocument();
+        if (!(root instanceof List<?> runs)) {
+            throw new IOException(file + " is not a JMH JSON result file");
+        }
+        Map<String, JmhResult> results = new LinkedHashMap<>();
+        for (Object run : runs) {
+            JmhResult result = of(asObject(run, file));
+            results.put(result.key(), result);
+        }
+        return results;
+    }
+
+    private static JmhResult of(Map<?, ?> run) throws IOException {
+        String name = String.valueOf(run.get("benchmark"));
+        // Drop the package so the table stays readable
+        String benchmark = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        StringJoiner params = new StringJoiner(",");
+        if (run.get("params") instanceof Map<?, ?> values) {
+            values.forEach((param, value) -> params.add(param + "=" + value));
+        }
+        Map<?, ?> metric = asObject(run.get("primaryMetric"), name);
+        return new JmhResult(benchmark, params.toString(), String.valueOf(run.get("mode")),
+                number(metric.get("score"), name), number(metric.get("scoreError"), name),
+                String.valueOf(metric.get("scoreUnit")));
+    }
+
+    private static Map<?, ?> asObject(Object value, Object source) throws IOException {
+        if (!(value instanceof Map<?, ?> object)) {
+            throw new IOException("Unexpected JMH result layout in " + source);
+        }
+        return object;
+    }
+
+    // JMH writes non-finite values as strings, e.g. "NaN"
+    private static double number(Object value, String benchmark) throws IOException {
+        if (value instanceof Double number) {
+            return number;
+        }
+        if (value instanceof String text) {
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid score '" + text + "' for " + benchmark, e);
+            }
+        }
+        throw new IOException("Missing score for " + benchmark);
+    }
+
+    /** Minimal JSON reader: objects, arrays, strings, numbers, booleans and null. */
+    private static final class JsonReader {
+        private final String text;
+        private int pos;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object readDocument() throws IOException {
+            Object value = readValue();
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw error("Unexpected trailing content");
+            }
+            return value;
+        }
+
+        private Object readValue() throws IOException {
+            skipWhitespace();
+            if (pos == text.length()) {
+                throw error("Unexpected end of input");
+            }
+            return switch (text.charAt(pos)) {
+                case '{' -> readObject();
+                case '[' -> readArray();
+                case '"' -> readString();
+                case 't' -> readLiteral("true", Boolean.TRUE);
+                case 'f' -> readLiteral("false", Boolean.FALSE);
+                case 'n' -> readLiteral("null", null);
+                default -> readNumber();
+            };
+        }
+
+        private Map<String, Object> readObject() throws IOException {
+            Map<String, Object> object = new LinkedHashMap<>();
+            pos++;
+            if (consume('}')) {
+                return object;
+            }
+            do {
+                skipWhitespace();
+                if (pos == text.length() || text.charAt(pos) != '"') {
+                    throw error("Expected a field name");
+                }
+                String field = readString();
+                expect(':');
+                object.put(field, readValue());
+            } while (consume(','));
+            expect('}');
+            return object;
+        }
+
+        private List<Object> readArray() throws IOException {
+            List<Object> array = new ArrayList<>();
+            pos++;
+            if (consume(']')) {
+                return array;
+            }
+            do {
+                array.add(readValue());
+            } while (consume(','));
+            expect(']');
+            return array;
+        }
+
+        private String readString() throws IOException {
+            StringBuilder value = new StringBuilder();
+            pos++;
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (pos == text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > text.length()) {
+                            throw error("Truncated unicode escape");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        pos += 4;
+                    }
+                    default -> value.append(escaped);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private Double readNumber() throws IOException {
+            int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            try {
+                return Double.valueOf(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                pos = start;
+                throw error("Unexpected character '" + text.charAt(start) + "'");
+            }
+        }
+
+        private Object readLiteral(String literal, Object value) throws IOException {
+            if (!text.startsWith(literal, pos)) {
+                throw error("Unexpected character '" + text.charAt(pos) + "'");
+            }
+            pos += literal.length();
+            return value;
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (pos < text.length() && text.charAt(pos) == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) throws IOException {
+            if (!consume(expected)) {
+                throw error("Expected '" + expected + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException(message + " at offset " + pos);
+        }
+    }
+}
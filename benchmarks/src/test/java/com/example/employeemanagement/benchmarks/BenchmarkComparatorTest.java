@@ -0,0 +1,123 @@
+package com.example.employeemanagement.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BenchmarkComparatorTest {
+    @TempDir
+    Path dir;
+
+    private static String run(String benchmark, String mode, String size, String score, String error, String unit) {
+        return """
+                {
+                    "jmhVersion" : "1.37",
+                    "benchmark" : "com.example.employeemanagement.benchmarks.%s",
+                    "mode" : "%s",
+                    "jvmArgs" : [ "-Xms4g", "-Xmx4g" ],
+                    "params" : { "size" : "%s", "storageMode" : "HEAP" },
+                    "primaryMetric" : {
+                        "score" : %s,
+                        "scoreError" : %s,
+                        "scoreConfidence" : [ 1.0E-3, "NaN" ],
+                        "scoreUnit" : "%s",
+                        "rawData" : [ [ 1, 2.5 ] ]
+                    },
+                    "secondaryMetrics" : { "gc.alloc.rate" : { "score" : 12.0, "scoreUnit" : "MB\\/sec" } }
+                }
+                """.formatted(benchmark, mode, size, score, error, unit);
+    }
+
+    private static Map<String, JmhResult> results(JmhResult... results) {
+        Map<String, JmhResult> map = new LinkedHashMap<>();
+        for (JmhResult result : results) {
+            map.put(result.key(), result);
+        }
+        return map;
+    }
+
+    private static JmhResult throughput(String benchmark, double score) {
+        return new JmhResult(benchmark, "size=1000", "thrpt", score, 1.0, "ops/s");
+    }
+
+    @Test
+    void testReadsPrimaryMetricsFromJmhJson() throws IOException {
+        Path file = dir.resolve("result.json");
+        Files.writeString(file, "[" + run("EmployeeQueryBenchmark.getEmployee", "thrpt", "1000", "1.5E7", "\"NaN\"", "ops/s")
+                + "," + run("EmployeeQueryBenchmark.getEmployee", "thrpt", "100000", "9000000.25", "12.5", "ops/s")
+                + "]", StandardCharsets.UTF_8);
+
+        Map<String, JmhResult> results = JmhResult.read(file);
+
+        assertEquals(2, results.size());
+        JmhResult small = results.get("EmployeeQueryBenchmark.getEmployee size=1000,storageMode=HEAP");
+        assertNotNull(small);
+        assertEquals(1.5E7, small.getScore());
+        assertTrue(Double.isNaN(small.getError()));
+        assertEquals("ops/s", small.getUnit());
+        assertTrue(small.higherIsBetter());
+        JmhResult large = results.get("EmployeeQueryBenchmark.getEmployee size=100000,storageMode=HEAP");
+        assertEquals(9000000.25, large.getScore());
+        assertEquals(12.5, large.getError());
+    }
+
+    @Test
+    void testRejectsMalformedFiles() throws IOException {
+        Path file = dir.resolve("broken.json");
+        Files.writeString(file, "[{\"benchmark\" : \"a.b\", \"primaryMetric\" : {\"score\" : }}]", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> JmhResult.read(file));
+        Files.writeString(file, "{\"not\" : \"a list\"}", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> JmhResult.read(file));
+    }
+
+    @Test
+    void testFlagsOnlyRegressionsBeyondThreshold() {
+        Map<String, JmhResult> baseline = results(throughput("A.faster", 100), throughput("A.slightlySlower", 100),
+                throughput("A.muchSlower", 100), new JmhResult("A.latency", "", "avgt", 10, 0.1, "us/op"));
+        Map<String, JmhResult> current = results(throughput("A.faster", 150), throughput("A.slightlySlower", 95),
+                throughput("A.muchSlower", 80), new JmhResult("A.latency", "", "avgt", 12, 0.1, "us/op"));
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+
+        int regressions = new BenchmarkComparator(10).compare(baseline, current,
+                new PrintStream(table, true, StandardCharsets.UTF_8));
+
+        assertEquals(2, regressions);
+        String output = table.toString(StandardCharsets.UTF_8);
+        assertTrue(output.lines().anyMatch(line -> line.startsWith("A.muchSlower") && line.contains("-20.0%")
+                && line.contains("REGRESSION")));
+        assertTrue(output.lines().anyMatch(line -> line.startsWith("A.latency") && line.contains("+20.0%")
+                && line.contains("REGRESSION")));
+        assertTrue(output.lines().anyMatch(line -> line.startsWith("A.faster") && line.contains("+50.0%")
+                && !line.contains("REGRESSION")));
+        assertTrue(output.lines().anyMatch(line -> line.startsWith("A.slightlySlower") && !line.contains("REGRESSION")));
+        assertTrue(output.contains("2 of 4 benchmarks regressed by more than 10.0%"));
+    }
+
+    @Test
+    void testMissingAndNewBenchmarksAreListedButNotRegressions() {
+        Map<String, JmhResult> baseline = results(throughput("A.removed", 100), throughput("A.kept", 100));
+        Map<String, JmhResult> current = results(throughput("A.kept", 100), throughput("A.added", 5),
+                new JmhResult("A.kept", "size=100000", "thrpt", 1, 1, "ops/s"));
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+
+        int regressions = new BenchmarkComparator(0).compare(baseline, current,
+                new PrintStream(table, true, StandardCharsets.UTF_8));
+
+        assertEquals(0, regressions);
+        String output = table.toString(StandardCharsets.UTF_8);
+        assertTrue(output.lines().anyMatch(line -> line.startsWith("A.removed") && line.endsWith("missing")));
+        assertTrue(output.lines().anyMatch(line -> line.startsWith("A.added") && line.endsWith("no baseline")));
+        assertTrue(output.contains("2 have no baseline yet"));
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkComparator(-1));
+    }
+}
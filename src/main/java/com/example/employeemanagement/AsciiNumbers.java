@@ -0,0 +1,92 @@
+package com.example.employeemanagement;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses numbers straight from ASCII bytes, so importers need not build a String per field.
+ * Both methods throw {@link NumberFormatException} for malformed input.
+ */
+final class AsciiNumbers {
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private AsciiNumbers() {
+    }
+
+    // Plain decimals are parsed exactly in place; anything else goes through Double.parseDouble
+    static double parseDouble(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = i < to && bytes[i] == '-';
+        if (negative || (i < to && bytes[i] == '+')) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        for (; i < to; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (point) {
+                    scale++;
+                }
+                if (mantissa >= MAX_EXACT_MANTISSA) {
+                    return slowParseDouble(bytes, from, to);
+                }
+            } else if (b == '.' && !point) {
+                point = true;
+            } else {
+                return slowParseDouble(bytes, from, to);
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Not a number: '" + text(bytes, from, to) + "'");
+        }
+        if (scale >= POWERS_OF_TEN.length) {
+            return slowParseDouble(bytes, from, to);
+        }
+        // Both operands are exact doubles, so the one division rounds correctly
+        double value = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    static int parseInt(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = i < to && bytes[i] == '-';
+        if (negative || (i < to && bytes[i] == '+')) {
+            i++;
+        }
+        if (i == to) {
+            throw new NumberFormatException("Not an integer: '" + text(bytes, from, to) + "'");
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            byte b = bytes[i];
+            if (b < '0' || b > '9') {
+                throw new NumberFormatException("Not an integer: '" + text(bytes, from, to) + "'");
+            }
+            value = value * 10 + (b - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Integer out of range: '" + text(bytes, from, to) + "'");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Integer out of range: '" + text(bytes, from, to) + "'");
+        }
+        return (int) value;
+    }
+
+    private static double slowParseDouble(byte[] bytes, int from, int to) {
+        return Double.parseDouble(text(bytes, from, to));
+    }
+
+    static String text(byte[] bytes, int from, int to) {
+        return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.employeemanagement;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that appends records to a file from a background thread. Callers only
+ * queue the record; formatting and writing happen on the writer thread, which drains the
+ * queue in batches and flushes once per batch. When the queue is full new records are
+ * dropped rather than blocking the caller, and a line counting them is written once there
+ * is room again.
+ *
+ * <p>Records are formatted after they are published, so their parameters should not change
+ * afterwards. The default format does not need the caller's class and method, which would
+ * otherwise have to be looked up on the calling thread.
+ */
+public final class AsyncFileLogHandler extends Handler {
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final int MAX_BATCH = 512;
+    private static final long FLUSH_WAIT_MILLIS = 200;
+    // Queued by close() to tell the writer thread to stop
+    private static final LogRecord CLOSE = new LogRecord(Level.OFF, "close");
+
+    private final BlockingQueue<LogRecord> queue;
+    private final Writer writer;
+    private final Thread writerThread;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Object progress = new Object();
+    private long written;
+    private volatile boolean closed;
+
+    public AsyncFileLogHandler(Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY);
+    }
+
+    public AsyncFileLogHandler(Path file, int capacity) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Log path cannot be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        setFormatter(new LineFormatter());
+        this.writerThread = new Thread(this::drain, "async-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (queue.offer(record)) {
+            published.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every record published before the call has been written and flushed.
+     */
+    @Override
+    public void flush() {
+        long target = published.get();
+        synchronized (progress) {
+            while (written < target && writerThread.isAlive()) {
+                try {
+                    progress.wait(FLUSH_WAIT_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes what is queued, stops the writer thread and closes the file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            // The writer is not interrupted: that would close the file channel under it
+            queue.put(CLOSE);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportError("Failed to close log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH);
+        long droppedReported = 0;
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                stopping = true;
+            }
+            queue.drainTo(batch, MAX_BATCH - batch.size());
+            stopping |= batch.remove(CLOSE);
+            long newlyDropped = dropped.get() - droppedReported;
+            droppedReported += newlyDropped;
+            write(batch, newlyDropped);
+            batch.clear();
+        }
+    }
+
+    private void write(List<LogRecord> batch, long newlyDropped) {
+        if (batch.isEmpty() && newlyDropped == 0) {
+            return;
+        }
+        Formatter formatter = getFormatter();
+        try {
+            for (LogRecord record : batch) {
+                writer.write(formatter.format(record));
+            }
+            if (newlyDropped > 0) {
+                writer.write("Dropped " + newlyDropped + " log records while the queue was full"
+                        + System.lineSeparator());
+            }
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            reportError("Failed to write log records", e, ErrorManager.WRITE_FAILURE);
+        }
+        synchronized (progress) {
+            written += batch.size();
+            progress.notifyAll();
+        }
+    }
+
+    // One line per record: time, level, logger and message, plus any stack trace
+    private static final class LineFormatter extends Formatter {
+        @Override
+        public String format(LogRecord record) {
+            StringBuilder line = new StringBuilder(128)
+                    .append(record.getInstant()).append(' ')
+                    .append(record.getLevel().getName()).append(' ')
+                    .append(record.getLoggerName()).append(" - ")
+                    .append(formatMessage(record))
+                    .append(System.lineSeparator());
+            Throwable thrown = record.getThrown();
+            if (thrown != null) {
+                StringWriter trace = new StringWriter();
+                thrown.printStackTrace(new PrintWriter(trace));
+                line.append(trace);
+            }
+            return line.toString();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.employeemanagement;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates integer IDs from per-thread blocks reserved on a shared counter, so threads
+ * creating employees at the same time only touch shared state once per block. IDs are
+ * unique but only ascending within a thread.
+ */
+public class BlockIdAllocator implements IdAllocator<Integer> {
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final AtomicLong highWater;
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(() -> new Block(1, 0));
+    // Blocks handed out and not yet drained, by first ID; guarded by itself
+    private final TreeMap<Long, Block> liveBlocks = new TreeMap<>();
+
+    public BlockIdAllocator() {
+        this(0, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockIdAllocator(int lastUsedId, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.highWater = new AtomicLong(lastUsedId);
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public Integer nextId() {
+        Block block = blocks.get();
+        long id = block.next;
+        while (id > block.last || block.isSkipped(id)) {
+            if (id > block.last) {
+                block = nextBlock(block);
+                id = block.next;
+            } else {
+                id++;
+            }
+        }
+        block.next = id + 1;
+        return SequentialIdAllocator.checkedId(id);
+    }
+
+    private Block nextBlock(Block drained) {
+        synchronized (liveBlocks) {
+            liveBlocks.remove(drained.first, drained);
+            long last = highWater.addAndGet(blockSize);
+            Block block = new Block(last - blockSize + 1, last);
+            liveBlocks.put(block.first, block);
+            blocks.set(block);
+            return block;
+        }
+    }
+
+    @Override
+    public void reserve(Integer id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        if (highWater.getAndAccumulate(id, Math::max) < id) {
+            // No block handed out so far reaches this ID, and later ones start above it
+            return;
+        }
+        synchronized (liveBlocks) {
+            Map.Entry<Long, Block> entry = liveBlocks.floorEntry((long) id);
+            if (entry != null) {
+                entry.getValue().skip(id);
+            }
+        }
+    }
+
+    /** A run of IDs owned by one thread; other threads only mark IDs in it to be skipped. */
+    private static final class Block {
+        final long first;
+        final long last;
+        volatile long next;
+        private volatile Set<Long> skipped;
+
+        Block(long first, long last) {
+            this.first = first;
+            this.last = last;
+            this.next = first;
+        }
+
+        boolean isSkipped(long id) {
+            Set<Long> ids = skipped;
+            return ids != null && ids.remove(id);
+        }
+
+        // Called under the liveBlocks lock
+        void skip(long id) {
+            // IDs the owner has already passed were handed out before the reservation
+            if (id > last || id < next) {
+                return;
+            }
+            if (skipped == null) {
+                skipped = ConcurrentHashMap.newKeySet();
+            }
+            skipped.add(id);
+        }
+    }
+}
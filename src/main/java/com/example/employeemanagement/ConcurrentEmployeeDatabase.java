@@ -0,0 +1,62 @@
+package com.example.employeemanagement;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link EmployeeDatabase} that can be shared between threads. Lookups, searches and sorts
+ * read concurrent collections without taking a lock. Writes, including setter calls on employees
+ * held by the database, are serialized on a single write lock so each one takes effect atomically
+ * across the employee map and every index.
+ */
+public class ConcurrentEmployeeDatabase<T> extends EmployeeDatabase<T> {
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public ConcurrentEmployeeDatabase() {
+        this(defaultIdAllocator());
+    }
+
+    public ConcurrentEmployeeDatabase(IdAllocator<T> idAllocator) {
+        this(idAllocator, StorageMode.HEAP);
+    }
+
+    public ConcurrentEmployeeDatabase(IdAllocator<T> idAllocator, StorageMode storageMode) {
+        super(true, idAllocator, storageMode);
+    }
+
+    private ConcurrentEmployeeDatabase(IdAllocator<T> idAllocator, EmployeeSnapshot snapshot) {
+        super(true, idAllocator, StorageMode.OFF_HEAP, snapshot);
+    }
+
+    /**
+     * Opens a snapshot for concurrent use; see {@link EmployeeDatabase#openSnapshot}.
+     */
+    public static ConcurrentEmployeeDatabase<Integer> openSnapshot(Path file) throws IOException {
+        return new ConcurrentEmployeeDatabase<>(defaultIdAllocator(), EmployeeSnapshot.open(file));
+    }
+
+    /**
+     * Restores a logged database for concurrent use; see {@link EmployeeDatabase#open}.
+     * Concurrent writers share log writes and fsyncs.
+     */
+    public static ConcurrentEmployeeDatabase<Integer> open(Path snapshotFile, Path logFile, LogSyncPolicy syncPolicy)
+            throws IOException {
+        EmployeeSnapshot snapshot = openIfPresent(snapshotFile);
+        ConcurrentEmployeeDatabase<Integer> database = snapshot != null
+                ? new ConcurrentEmployeeDatabase<>(defaultIdAllocator(), snapshot)
+                : new ConcurrentEmployeeDatabase<>(defaultIdAllocator(), StorageMode.OFF_HEAP);
+        database.recover(snapshot, snapshotFile, logFile, syncPolicy);
+        return database;
+    }
+
+    @Override
+    void lockWrites() {
+        writeLock.lock();
+    }
+
+    @Override
+    void unlockWrites() {
+        writeLock.unlock();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employeemanagement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes case-insensitive department names as small integer codes. Codes are never reused,
+ * so a code read by a concurrent scan stays valid.
+ */
+final class DepartmentDictionary {
+    static final short NO_DEPARTMENT = -1;
+
+    private final Map<String, Short> codes = new ConcurrentHashMap<>();
+
+    short encode(String department) {
+        String key = DepartmentIndex.normalize(department);
+        Short code = codes.get(key);
+        if (code == null) {
+            if (codes.size() >= Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct departments");
+            }
+            code = (short) codes.size();
+            codes.put(key, code);
+        }
+        return code;
+    }
+
+    short lookup(String department) {
+        Short code = codes.get(DepartmentIndex.normalize(department));
+        return code == null ? NO_DEPARTMENT : code;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Maps a case-insensitive department name to its members, kept in database insertion order.
+ */
+final class DepartmentIndex<T> implements EmployeeIndex<T> {
+    private static final Comparator<Employee<?>> INSERTION_ORDER = Comparator.comparingLong(Employee::getSequence);
+
+    private final boolean concurrent;
+    private final Map<String, NavigableSet<Employee<T>>> members;
+
+    DepartmentIndex(boolean concurrent) {
+        this.concurrent = concurrent;
+        this.members = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    static String normalize(String department) {
+        return department.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        members.computeIfAbsent(normalize(employee.getDepartment()), k -> newBucket()).add(employee);
+    }
+
+    // Looks each department's bucket up once rather than once per employee
+    @Override
+    public void addAll(List<Employee<T>> employees) {
+        Map<String, List<Employee<T>>> byDepartment = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            byDepartment.computeIfAbsent(employee.getDepartment(), k -> new ArrayList<>()).add(employee);
+        }
+        for (Map.Entry<String, List<Employee<T>>> group : byDepartment.entrySet()) {
+            members.computeIfAbsent(normalize(group.getKey()), k -> newBucket()).addAll(group.getValue());
+        }
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        removeFrom(normalize(employee.getDepartment()), employee);
+    }
+
+    @Override
+    public void departmentChanged(Employee<T> employee, String oldDepartment) {
+        String oldKey = normalize(oldDepartment);
+        if (oldKey.equals(normalize(employee.getDepartment()))) {
+            return;
+        }
+        // Add before removing so a concurrent reader never finds the employee in neither bucket
+        add(employee);
+        removeFrom(oldKey, employee);
+    }
+
+    int size(String department) {
+        NavigableSet<Employee<T>> bucket = members.get(normalize(department));
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    List<Employee<T>> get(String department) {
+        NavigableSet<Employee<T>> bucket = members.get(normalize(department));
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+
+    private NavigableSet<Employee<T>> newBucket() {
+        return concurrent ? new ConcurrentSkipListSet<>(INSERTION_ORDER) : new TreeSet<>(INSERTION_ORDER);
+    }
+
+    private void removeFrom(String key, Employee<T> employee) {
+        NavigableSet<Employee<T>> bucket = members.get(key);
+        if (bucket != null && bucket.remove(employee) && bucket.isEmpty()) {
+            members.remove(key);
+        }
+    }
+}
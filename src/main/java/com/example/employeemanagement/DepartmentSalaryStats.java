@@ -0,0 +1,119 @@
+package com.example.employeemanagement;
+
+/**
+ * Salary count, total, average, minimum and maximum for one department at one moment. An
+ * empty department reports zero for all of them.
+ */
+public final class DepartmentSalaryStats {
+    static final DepartmentSalaryStats EMPTY = new DepartmentSalaryStats(0, 0, 0.0, 0.0, false);
+
+    private final int count;
+    // Whole cents, so adding and then removing a salary leaves the total exactly as it was
+    private final long totalCents;
+    private final double min;
+    private final double max;
+    // Set when the salary at min or max left; the extremes must be recomputed before use
+    private final boolean extremesStale;
+
+    DepartmentSalaryStats(int count, long totalCents, double min, double max, boolean extremesStale) {
+        this.count = count;
+        this.totalCents = totalCents;
+        this.min = min;
+        this.max = max;
+        this.extremesStale = extremesStale;
+    }
+
+    // Sums salaries for a scan; parallel tasks each fill one and are then combined
+    static final class Accumulator {
+        private int count;
+        private long totalCents;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        void add(double salary) {
+            count++;
+            totalCents += cents(salary);
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+        }
+
+        Accumulator combine(Accumulator other) {
+            count += other.count;
+            totalCents += other.totalCents;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            return this;
+        }
+
+        DepartmentSalaryStats toStats() {
+            return count == 0 ? EMPTY : new DepartmentSalaryStats(count, totalCents, min, max, false);
+        }
+    }
+
+    static long cents(double salary) {
+        return Math.round(salary * 100.0);
+    }
+
+    DepartmentSalaryStats plus(double salary) {
+        if (count == 0) {
+            return new DepartmentSalaryStats(1, cents(salary), salary, salary, false);
+        }
+        return new DepartmentSalaryStats(count + 1, totalCents + cents(salary),
+            Math.min(min, salary), Math.max(max, salary), extremesStale);
+    }
+
+    DepartmentSalaryStats minus(double salary) {
+        if (count == 1) {
+            return EMPTY;
+        }
+        return new DepartmentSalaryStats(count - 1, totalCents - cents(salary), min, max,
+            extremesStale || salary == min || salary == max);
+    }
+
+    DepartmentSalaryStats changed(double oldSalary, double newSalary) {
+        if (count == 1) {
+            return new DepartmentSalaryStats(1, cents(newSalary), newSalary, newSalary, false);
+        }
+        // A salary moving off an extreme inwards leaves the next one unknown
+        boolean stale = extremesStale
+            || (oldSalary == min && newSalary > oldSalary)
+            || (oldSalary == max && newSalary < oldSalary);
+        return new DepartmentSalaryStats(count, totalCents - cents(oldSalary) + cents(newSalary),
+            Math.min(min, newSalary), Math.max(max, newSalary), stale);
+    }
+
+    DepartmentSalaryStats withExtremes(double newMin, double newMax) {
+        return new DepartmentSalaryStats(count, totalCents, newMin, newMax, false);
+    }
+
+    boolean extremesStale() {
+        return extremesStale;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getTotal() {
+        return totalCents / 100.0;
+    }
+
+    /** The average salary, rounded to cents. */
+    public double getAverage() {
+        return count == 0 ? 0.0 : Math.round((double) totalCents / count) / 100.0;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "DepartmentSalaryStats{count=" + count + ", total=" + getTotal() + ", average=" + getAverage()
+            + ", min=" + min + ", max=" + max + "}";
+    }
+}
@@ -8,36 +8,50 @@ import java.util.HashSet;
 import java.util.Set;
 
 public class Employee<T> implements Comparable<Employee<T>> {
-    private static int nextId = 1; // Static counter for auto-incrementing IDs
+    // Process-wide source for IDs of employees constructed without one
+    static final SequentialIdAllocator DEFAULT_ID_ALLOCATOR = new SequentialIdAllocator();
     private static final Logger LOGGER = Logger.getLogger(Employee.class.getName());
     private static final Set<String> VALID_DEPARTMENTS = new HashSet<>(Arrays.asList(
         "HR", "IT", "Finance", "Marketing", "Operations", "Sales"
     ));
     
     private final T employeeId;
-    private String name;
-    private String department;
-    private double salary;
-    private double performanceRating;
-    private int yearsOfExperience;
-    private boolean isActive;
+    private volatile String name;
+    private volatile String department;
+    private volatile double salary;
+    private volatile double performanceRating;
+    private volatile int yearsOfExperience;
+    private volatile boolean isActive;
 
+    // Set while the employee is held by an EmployeeDatabase
+    private volatile EmployeeChangeListener<T> listener;
+    private long sequence;
+    private int slot;
+
+    @SuppressWarnings("unchecked")
     public Employee(String name, String department, double salary) 
             throws InvalidSalaryException, InvalidDepartmentException {
-        this.employeeId = (T) Integer.valueOf(nextId++); // Auto-increment and cast to generic type
-        this.name = name;
-        this.department = department;
-        this.salary = salary;
-        this.performanceRating = 0.0;
-        this.yearsOfExperience = 0;
-        validateEmployee();
-        this.isActive = true;
-        LOGGER.log(Level.INFO, "Created new employee with auto-generated ID: {0}", this.employeeId);
+        this((T) DEFAULT_ID_ALLOCATOR.nextId(), name, department, salary); // Auto-increment and cast to generic type
     }
 
+    @SuppressWarnings("unchecked")
     public Employee(String name, String department, double salary, double performanceRating, int yearsOfExperience) 
             throws InvalidSalaryException, InvalidDepartmentException {
-        this.employeeId = (T) Integer.valueOf(nextId++); // Auto-increment and cast to generic type
+        this((T) DEFAULT_ID_ALLOCATOR.nextId(), name, department, salary, performanceRating, yearsOfExperience);
+    }
+
+    public Employee(T employeeId, String name, String department, double salary)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        this(employeeId, name, department, salary, 0.0, 0);
+    }
+
+    public Employee(T employeeId, String name, String department, double salary, double performanceRating,
+                    int yearsOfExperience) throws InvalidSalaryException, InvalidDepartmentException {
+        if (employeeId == null) {
+            LOGGER.log(Level.SEVERE, "Attempted to create employee with null ID");
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        this.employeeId = employeeId;
         this.name = name;
         this.department = department;
         this.salary = salary;
@@ -45,10 +59,15 @@ public class Employee<T> implements Comparable<Employee<T>> {
         this.yearsOfExperience = yearsOfExperience;
         validateEmployee();
         this.isActive = true;
-        LOGGER.log(Level.INFO, "Created new employee with auto-generated ID: {0}", this.employeeId);
+        LOGGER.log(Level.FINE, "Created new employee with ID: {0}", this.employeeId);
     }
 
-    private void validateSalary(double salary) throws InvalidSalaryException {
+    // For subclasses that keep their fields elsewhere, such as off-heap views
+    Employee(T employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    static void validateSalary(double salary) throws InvalidSalaryException {
         if (salary < 0) {
             LOGGER.log(Level.SEVERE, "Attempted to set invalid salary: {0}", salary);
             throw new InvalidSalaryException("Salary cannot be negative");
@@ -59,7 +78,7 @@ public class Employee<T> implements Comparable<Employee<T>> {
         }
     }
 
-    private void validateDepartment(String department) throws InvalidDepartmentException {
+    static void validateDepartment(String department) throws InvalidDepartmentException {
         if (department == null) {
             LOGGER.log(Level.SEVERE, "Attempted to set null department");
             throw new InvalidDepartmentException("Department cannot be null");
@@ -74,7 +93,7 @@ public class Employee<T> implements Comparable<Employee<T>> {
         }
     }
 
-    private void validateName(String name) throws IllegalArgumentException {
+    static void validateName(String name) throws IllegalArgumentException {
         if (name == null) {
             LOGGER.log(Level.SEVERE, "Attempted to set null name");
             throw new IllegalArgumentException("Name cannot be null");
@@ -90,6 +109,12 @@ public class Employee<T> implements Comparable<Employee<T>> {
     }
 
     private void validateEmployee() throws InvalidSalaryException, InvalidDepartmentException {
+        validateFields(name, department, salary);
+    }
+
+    // The checks every new employee passes, for callers that validate before an ID is known
+    static void validateFields(String name, String department, double salary)
+            throws InvalidSalaryException, InvalidDepartmentException {
         validateSalary(salary);
         validateDepartment(department);
         validateName(name);
@@ -104,22 +129,96 @@ public class Employee<T> implements Comparable<Employee<T>> {
     public int getYearsOfExperience() { return yearsOfExperience; }
     public boolean isActive() { return isActive; }
 
+    long getSequence() { return sequence; }
+
+    EmployeeChangeListener<T> getListener() { return listener; }
+
+    int getSlot() { return slot; }
+
+    void setSlot(int slot) { this.slot = slot; }
+
+    void attach(EmployeeChangeListener<T> listener, long sequence) {
+        this.listener = listener;
+        this.sequence = sequence;
+    }
+
+    void detach() {
+        this.listener = null;
+    }
+
+    // Indexed fields are written while holding the owning database's write lock, if any
+    private EmployeeChangeListener<T> beginChange() {
+        EmployeeChangeListener<T> owner = listener;
+        if (owner != null) {
+            owner.beginChange();
+        }
+        return owner;
+    }
+
+    private void endChange(EmployeeChangeListener<T> owner) {
+        if (owner != null) {
+            owner.endChange();
+        }
+    }
+
+    // Field writes go through these hooks so subclasses can store the values elsewhere
+    void storeName(String name) { this.name = name; }
+    void storeDepartment(String department) { this.department = department; }
+    void storeSalary(double salary) { this.salary = salary; }
+    void storePerformanceRating(double performanceRating) { this.performanceRating = performanceRating; }
+    void storeYearsOfExperience(int yearsOfExperience) { this.yearsOfExperience = yearsOfExperience; }
+    void storeActive(boolean active) { this.isActive = active; }
+
     public void setName(String name) {
         validateName(name);
-        this.name = name;
-        LOGGER.log(Level.INFO, "Updated name for employee {0}: {1}", new Object[]{employeeId, name});
+        EmployeeChangeListener<T> owner = beginChange();
+        try {
+            String oldName = getName();
+            storeName(name);
+            if (listener != null && !oldName.equals(name)) {
+                listener.nameChanged(this, oldName);
+            }
+        } finally {
+            endChange(owner);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated name for employee {0}: {1}", new Object[]{employeeId, name});
+        }
     }
 
     public void setDepartment(String department) throws InvalidDepartmentException {
         validateDepartment(department);
-        this.department = department;
-        LOGGER.log(Level.INFO, "Updated department for employee {0}: {1}", new Object[]{employeeId, department});
+        EmployeeChangeListener<T> owner = beginChange();
+        try {
+            String oldDepartment = getDepartment();
+            storeDepartment(department);
+            if (listener != null && !oldDepartment.equals(department)) {
+                listener.departmentChanged(this, oldDepartment);
+            }
+        } finally {
+            endChange(owner);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated department for employee {0}: {1}", new Object[]{employeeId, department});
+        }
     }
 
     public void setSalary(double salary) throws InvalidSalaryException {
         validateSalary(salary);
-        this.salary = Math.round(salary * 100.0) / 100.0;
-        LOGGER.log(Level.INFO, "Updated salary for employee {0}: {1}", new Object[]{employeeId, this.salary});
+        double rounded = Math.round(salary * 100.0) / 100.0;
+        EmployeeChangeListener<T> owner = beginChange();
+        try {
+            double oldSalary = getSalary();
+            storeSalary(rounded);
+            if (listener != null && Double.compare(oldSalary, rounded) != 0) {
+                listener.salaryChanged(this, oldSalary);
+            }
+        } finally {
+            endChange(owner);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated salary for employee {0}: {1}", new Object[]{employeeId, rounded});
+        }
     }
 
     public void setPerformanceRating(double performanceRating) throws IllegalArgumentException {
@@ -127,8 +226,20 @@ public class Employee<T> implements Comparable<Employee<T>> {
             LOGGER.log(Level.SEVERE, "Performance rating out of range (0-5): {0}", performanceRating);
             throw new IllegalArgumentException("Performance rating must be between 0 and 5");
         }
-        this.performanceRating = Math.round(performanceRating * 10.0) / 10.0; // Round to 1 decimal place
-        LOGGER.log(Level.INFO, "Updated performance rating for employee {0}: {1}", new Object[]{employeeId, this.performanceRating});
+        double rounded = Math.round(performanceRating * 10.0) / 10.0; // Round to 1 decimal place
+        EmployeeChangeListener<T> owner = beginChange();
+        try {
+            double oldRating = getPerformanceRating();
+            storePerformanceRating(rounded);
+            if (listener != null && Double.compare(oldRating, rounded) != 0) {
+                listener.performanceRatingChanged(this, oldRating);
+            }
+        } finally {
+            endChange(owner);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated performance rating for employee {0}: {1}", new Object[]{employeeId, rounded});
+        }
     }
 
     public void setYearsOfExperience(int yearsOfExperience) throws IllegalArgumentException {
@@ -136,13 +247,35 @@ public class Employee<T> implements Comparable<Employee<T>> {
             LOGGER.log(Level.SEVERE, "Years of experience cannot be negative: {0}", yearsOfExperience);
             throw new IllegalArgumentException("Years of experience cannot be negative");
         }
-        this.yearsOfExperience = yearsOfExperience;
-        LOGGER.log(Level.INFO, "Updated years of experience for employee {0}: {1}", new Object[]{employeeId, yearsOfExperience});
+        EmployeeChangeListener<T> owner = beginChange();
+        try {
+            int oldYears = getYearsOfExperience();
+            storeYearsOfExperience(yearsOfExperience);
+            if (listener != null && oldYears != yearsOfExperience) {
+                listener.yearsOfExperienceChanged(this, oldYears);
+            }
+        } finally {
+            endChange(owner);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated years of experience for employee {0}: {1}", new Object[]{employeeId, yearsOfExperience});
+        }
     }
 
     public void setActive(boolean active) {
-        isActive = active;
-        LOGGER.log(Level.INFO, "Updated active status for employee {0}: {1}", new Object[]{employeeId, active});
+        EmployeeChangeListener<T> owner = beginChange();
+        try {
+            boolean wasActive = isActive();
+            storeActive(active);
+            if (listener != null && wasActive != active) {
+                listener.activeChanged(this, wasActive);
+            }
+        } finally {
+            endChange(owner);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Updated active status for employee {0}: {1}", new Object[]{employeeId, active});
+        }
     }
 
     @Override
@@ -150,13 +283,13 @@ public class Employee<T> implements Comparable<Employee<T>> {
         if (other == null) {
             return 1; // This object is greater than null
         }
-        return Integer.compare(other.yearsOfExperience, this.yearsOfExperience);
+        return Integer.compare(other.getYearsOfExperience(), this.getYearsOfExperience());
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
+        if (!(obj instanceof Employee)) return false;
         Employee<?> employee = (Employee<?>) obj;
         return employeeId.equals(employee.employeeId);
     }
@@ -170,7 +303,7 @@ public class Employee<T> implements Comparable<Employee<T>> {
     public String toString() {
         return String.format("ID: %s | Name: %s | Department: %s | Salary: $%.2f | " +
                            "Rating: %.1f | Experience: %d years | Status: %s",
-                           employeeId, name, department, salary, performanceRating,
-                           yearsOfExperience, isActive ? "Active" : "Inactive");
+                           employeeId, getName(), getDepartment(), getSalary(), getPerformanceRating(),
+                           getYearsOfExperience(), isActive() ? "Active" : "Inactive");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects employees for {@link EmployeeDatabase#addEmployees} so a bulk load is checked and
+ * added in a single write. Employees created here take their IDs from the database's
+ * allocator. Not thread-safe.
+ */
+public final class EmployeeBatch<T> {
+    private final EmployeeDatabase<T> database;
+    private final List<Employee<T>> employees = new ArrayList<>();
+    private boolean committed;
+
+    EmployeeBatch(EmployeeDatabase<T> database) {
+        this.database = database;
+    }
+
+    public EmployeeBatch<T> add(Employee<T> employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        checkOpen();
+        employees.add(employee);
+        return this;
+    }
+
+    public EmployeeBatch<T> add(String name, String department, double salary)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        checkOpen();
+        return add(database.createEmployee(name, department, salary));
+    }
+
+    public EmployeeBatch<T> add(String name, String department, double salary, double performanceRating,
+                                int yearsOfExperience) throws InvalidSalaryException, InvalidDepartmentException {
+        checkOpen();
+        return add(database.createEmployee(name, department, salary, performanceRating, yearsOfExperience));
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Adds every collected employee, or none of them if the database rejects any.
+     *
+     * @return the added employees' IDs, in the order they were collected
+     */
+    public List<T> commit() {
+        checkOpen();
+        List<T> ids = database.addEmployees(employees);
+        committed = true;
+        return ids;
+    }
+
+    private void checkOpen() {
+        if (committed) {
+            throw new IllegalStateException("Batch has already been committed");
+        }
+    }
+}
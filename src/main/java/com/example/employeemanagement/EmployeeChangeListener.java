@@ -0,0 +1,28 @@
+package com.example.employeemanagement;
+
+/**
+ * Receives field changes from an {@link Employee} that is held by an {@link EmployeeDatabase},
+ * so the database can keep its secondary indexes in step with the record.
+ */
+interface EmployeeChangeListener<T> {
+    default void beginChange() {}
+
+    default void endChange() {}
+
+    // Whether the employee is still stored by this listener's database
+    default boolean holds(Employee<T> employee) {
+        return true;
+    }
+
+    default void nameChanged(Employee<T> employee, String oldName) {}
+
+    default void departmentChanged(Employee<T> employee, String oldDepartment) {}
+
+    default void salaryChanged(Employee<T> employee, double oldSalary) {}
+
+    default void performanceRatingChanged(Employee<T> employee, double oldRating) {}
+
+    default void yearsOfExperienceChanged(Employee<T> employee, int oldYears) {}
+
+    default void activeChanged(Employee<T> employee, boolean wasActive) {}
+}
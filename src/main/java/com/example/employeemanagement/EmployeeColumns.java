@@ -0,0 +1,59 @@
+package com.example.employeemanagement;
+
+import java.util.Arrays;
+
+/**
+ * Primitive column copies of the numeric employee fields, indexed by table slot. Empty and
+ * cleared slots have no department and a NaN rating, so scans skip them without touching
+ * the row.
+ */
+final class EmployeeColumns {
+    final double[] salaries;
+    final double[] ratings;
+    final int[] experience;
+    final short[] departments;
+
+    EmployeeColumns(int capacity) {
+        this.salaries = new double[capacity];
+        this.ratings = new double[capacity];
+        this.experience = new int[capacity];
+        this.departments = new short[capacity];
+        clear(0, capacity);
+    }
+
+    private EmployeeColumns(EmployeeColumns source, int capacity) {
+        this.salaries = Arrays.copyOf(source.salaries, capacity);
+        this.ratings = Arrays.copyOf(source.ratings, capacity);
+        this.experience = Arrays.copyOf(source.experience, capacity);
+        this.departments = Arrays.copyOf(source.departments, capacity);
+        clear(Math.min(source.departments.length, capacity), capacity);
+    }
+
+    EmployeeColumns resize(int capacity) {
+        return new EmployeeColumns(this, capacity);
+    }
+
+    void write(int slot, Employee<?> employee, short departmentCode) {
+        salaries[slot] = employee.getSalary();
+        ratings[slot] = employee.getPerformanceRating();
+        experience[slot] = employee.getYearsOfExperience();
+        departments[slot] = departmentCode;
+    }
+
+    void copyRow(int from, EmployeeColumns target, int to) {
+        target.salaries[to] = salaries[from];
+        target.ratings[to] = ratings[from];
+        target.experience[to] = experience[from];
+        target.departments[to] = departments[from];
+    }
+
+    void clear(int slot) {
+        ratings[slot] = Double.NaN;
+        departments[slot] = DepartmentDictionary.NO_DEPARTMENT;
+    }
+
+    private void clear(int from, int to) {
+        Arrays.fill(ratings, from, to, Double.NaN);
+        Arrays.fill(departments, from, to, DepartmentDictionary.NO_DEPARTMENT);
+    }
+}
@@ -5,23 +5,32 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Side;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.logging.Logger;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
 
 public class EmployeeController {
     private static final Logger LOGGER = Logger.getLogger(EmployeeController.class.getName());
-    private final EmployeeDatabase<Integer> employeeDatabase = new EmployeeDatabase<>();
+    private static final int NAME_SUGGESTION_LIMIT = 8;
+    private static final int FUZZY_SEARCH_DISTANCE = 2;
+    private final EmployeeDatabase<Integer> employeeDatabase = HelloApplication.employeeDatabase();
     private final ObservableList<Employee<Integer>> employeeList = FXCollections.observableArrayList();
+    private final ContextMenu nameSuggestions = new ContextMenu();
+    // Set while a picked suggestion is written to the search field, so it does not reopen the popup
+    private boolean applyingSuggestion;
 
     @FXML private TextField nameField;
     @FXML private ComboBox<String> departmentField;
@@ -65,6 +74,7 @@ public class EmployeeController {
             setupComboBoxes();
             setupValidation();
             setupTableSelectionListener();
+            setupNameSuggestions();
             refreshEmployeeList();
             LOGGER.log(Level.INFO, "EmployeeController initialized successfully");
         } catch (Exception e) {
@@ -250,6 +260,56 @@ public class EmployeeController {
         });
     }
 
+    private void setupNameSuggestions() {
+        searchField.textProperty().addListener((obs, oldText, newText) -> {
+            if (!applyingSuggestion) {
+                showNameSuggestions(newText);
+            }
+        });
+        searchField.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) {
+                nameSuggestions.hide();
+            }
+        });
+    }
+
+    private void showNameSuggestions(String text) {
+        try {
+            List<String> names = text == null || text.isBlank()
+                    ? List.of()
+                    : employeeDatabase.suggestNames(text, NAME_SUGGESTION_LIMIT);
+            if (names.isEmpty()) {
+                nameSuggestions.hide();
+                return;
+            }
+            List<MenuItem> items = new ArrayList<>(names.size());
+            for (String name : names) {
+                MenuItem item = new MenuItem(name);
+                item.setOnAction(event -> applyNameSuggestion(name));
+                items.add(item);
+            }
+            nameSuggestions.getItems().setAll(items);
+            if (!nameSuggestions.isShowing() && searchField.isFocused()) {
+                nameSuggestions.show(searchField, Side.BOTTOM, 0, 0);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to suggest names", e);
+            nameSuggestions.hide();
+        }
+    }
+
+    private void applyNameSuggestion(String name) {
+        applyingSuggestion = true;
+        try {
+            searchField.setText(name);
+            searchField.positionCaret(name.length());
+        } finally {
+            applyingSuggestion = false;
+        }
+        nameSuggestions.hide();
+        handleSearch();
+    }
+
     @FXML
     private void handleAddEmployee() {
         try {
@@ -264,7 +324,7 @@ public class EmployeeController {
             int rating = ratingField.getValue() != null ? ratingField.getValue() : 0;
             int experience = experienceField.getText().isEmpty() ? 0 : Integer.parseInt(experienceField.getText());
 
-            Employee<Integer> employee = new Employee<>(name, department, salary);
+            Employee<Integer> employee = employeeDatabase.createEmployee(name, department, salary);
             employee.setPerformanceRating(rating);
             employee.setYearsOfExperience(experience);
 
@@ -280,6 +340,60 @@ public class EmployeeController {
         }
     }
 
+    @FXML
+    private void handleImportCsv() {
+        FileChooser chooser = employeeFileChooser("Import Employees");
+        File file = chooser.showOpenDialog(employeeTable.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try {
+            ImportReport report = new ParallelEmployeeImporter(employeeDatabase, formatOf(file))
+                    .importFile(file.toPath());
+            refreshEmployeeList();
+            StringBuilder result = new StringBuilder(report.toString()).append("\n");
+            for (ImportReport.RejectedRow row : report.getRejectedRows()) {
+                result.append(row).append("\n");
+            }
+            analyticsOutput.setText(result.toString());
+            LOGGER.log(Level.INFO, "Imported employees from {0}", file);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error importing employees", e);
+            showAlert("Error", "Failed to import employees: " + e.getMessage());
+        }
+    }
+
+    @FXML
+    private void handleExport() {
+        FileChooser chooser = employeeFileChooser("Export Employees");
+        File file = chooser.showSaveDialog(employeeTable.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try {
+            long count = new EmployeeExporter(formatOf(file)).exportFile(employeeDatabase, file.toPath());
+            analyticsOutput.setText("Exported " + count + " employees to " + file);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error exporting employees", e);
+            showAlert("Error", "Failed to export employees: " + e.getMessage());
+        }
+    }
+
+    private static FileChooser employeeFileChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV files", "*.csv"),
+                new FileChooser.ExtensionFilter("JSON Lines files", "*.jsonl", "*.ndjson"));
+        return chooser;
+    }
+
+    private static EmployeeFileFormat formatOf(File file) {
+        String fileName = file.getName().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")
+                ? EmployeeFileFormat.JSON_LINES : EmployeeFileFormat.CSV;
+    }
+
     @FXML
     private void handleRemoveEmployee() {
         try {
@@ -352,10 +466,17 @@ public class EmployeeController {
             List<Employee<Integer>> searchResults;
             if (department.equals("All Departments")) {
                 searchResults = employeeDatabase.searchEmployeesByName(searchTerm);
+                if (searchResults.isEmpty()) {
+                    // Nothing contains the term as typed; offer names a typo or two away
+                    searchResults = employeeDatabase.fuzzySearchByName(searchTerm, FUZZY_SEARCH_DISTANCE);
+                    LOGGER.log(Level.FINE, "No exact matches, showing {0} close matches", searchResults.size());
+                }
             } else {
-                searchResults = employeeDatabase.getEmployeesByDepartment(department).stream()
-                    .filter(e -> e.getName().toLowerCase().contains(searchTerm.toLowerCase()))
-                    .collect(Collectors.toList());
+                EmployeeQuery<Integer> query = employeeDatabase.query().inDepartment(department);
+                if (!searchTerm.isEmpty()) {
+                    query.nameContains(searchTerm);
+                }
+                searchResults = query.list();
             }
             
             employeeList.setAll(searchResults);
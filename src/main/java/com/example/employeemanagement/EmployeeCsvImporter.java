@@ -0,0 +1,141 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streams employees from a CSV file into an {@link EmployeeDatabase}. The file is read
+ * through one fixed buffer, records are parsed in place by {@link EmployeeCsvParser}, and
+ * parsed employees are added in batches with {@link EmployeeDatabase#addEmployees}, so memory
+ * use does not grow with the size of the file. Records that fail validation, or clash with an
+ * employee already in the database, are skipped and listed in the returned
+ * {@link ImportReport}.
+ */
+public final class EmployeeCsvImporter {
+    private static final Logger LOGGER = Logger.getLogger(EmployeeCsvImporter.class.getName());
+    public static final int DEFAULT_BATCH_SIZE = 10_000;
+    // Also the longest record accepted
+    static final int BUFFER_BYTES = 1 << 20;
+
+    private final EmployeeDatabase<Integer> database;
+    private final int batchSize;
+
+    public EmployeeCsvImporter(EmployeeDatabase<Integer> database) {
+        this(database, DEFAULT_BATCH_SIZE);
+    }
+
+    public EmployeeCsvImporter(EmployeeDatabase<Integer> database, int batchSize) {
+        if (database == null) {
+            LOGGER.log(Level.SEVERE, "Null database provided");
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        if (batchSize <= 0) {
+            LOGGER.log(Level.SEVERE, "Invalid batch size: {0}", batchSize);
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.database = database;
+        this.batchSize = batchSize;
+    }
+
+    public ImportReport importFile(Path file) throws IOException {
+        if (file == null) {
+            LOGGER.log(Level.SEVERE, "Null import path provided");
+            throw new IllegalArgumentException("Import path cannot be null");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ImportReport report = importFrom(channel);
+            LOGGER.log(Level.INFO, "Imported {0} from {1}", new Object[]{report, file});
+            return report;
+        }
+    }
+
+    /**
+     * Imports every record readable from the channel, which is left open.
+     *
+     * @throws IOException when reading fails, the header lacks a required column, or a record
+     *                     is longer than the read buffer
+     */
+    public ImportReport importFrom(ReadableByteChannel channel) throws IOException {
+        ImportReport report = new ImportReport();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        byte[] bytes = buffer.array();
+        List<Employee<Integer>> batch = new ArrayList<>(batchSize);
+        long[] recordNumbers = new long[batchSize];
+        EmployeeCsvParser parser = null;
+        long recordNumber = 0;
+        int recordStart = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(buffer) < 0;
+            int filled = buffer.position();
+            while (recordStart < filled) {
+                int recordEnd = EmployeeCsvParser.recordEnd(bytes, recordStart, filled);
+                if (recordEnd < 0) {
+                    if (!endOfInput) {
+                        break;
+                    }
+                    recordEnd = filled;
+                }
+                recordNumber++;
+                if (parser == null) {
+                    parser = EmployeeCsvParser.forHeader(bytes, recordStart, recordEnd);
+                } else if (!EmployeeCsvParser.isBlank(bytes, recordStart, recordEnd)) {
+                    try {
+                        recordNumbers[batch.size()] = recordNumber;
+                        batch.add(parser.parse(bytes, recordStart, recordEnd, database::nextEmployeeId));
+                    } catch (InvalidSalaryException | InvalidDepartmentException | IllegalArgumentException e) {
+                        report.rejected(recordNumber, e.getMessage());
+                    }
+                    if (batch.size() == batchSize) {
+                        addBatch(database, batch, recordNumbers, report);
+                    }
+                }
+                recordStart = recordEnd + 1;
+            }
+            if (recordStart == 0 && filled == bytes.length) {
+                throw new IOException("Record " + (recordNumber + 1) + " is longer than " + BUFFER_BYTES + " bytes");
+            }
+            // Keep the partial record and read the rest of it after it
+            int carried = Math.max(0, filled - recordStart);
+            System.arraycopy(bytes, Math.min(recordStart, filled), bytes, 0, carried);
+            buffer.position(carried);
+            recordStart = 0;
+        }
+        if (parser == null) {
+            throw new IOException("CSV input has no header");
+        }
+        addBatch(database, batch, recordNumbers, report);
+        return report;
+    }
+
+    // Adds the batch in one write; if the database refuses it, adds what it can one by one
+    static void addBatch(EmployeeDatabase<Integer> database, List<Employee<Integer>> batch, long[] recordNumbers,
+                         ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            database.addEmployees(batch);
+            report.imported(batch.size());
+        } catch (IllegalArgumentException e) {
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    database.addEmployee(batch.get(i));
+                    report.imported(1);
+                } catch (IllegalArgumentException rejected) {
+                    report.rejected(recordNumbers[i], rejected.getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Turns one CSV record, given as a byte range, into an {@link EmployeeRecord}. Columns are matched
+ * by the header's names, in any order and case: {@code name}, {@code department} and
+ * {@code salary} are required; {@code id}, {@code performanceRating},
+ * {@code yearsOfExperience} and {@code active} are optional; anything else is ignored.
+ * Fields may be quoted, with {@code ""} for a literal quote. Numbers are parsed straight from
+ * the bytes and departments are matched against spellings already seen, so the only String
+ * created for a typical record is the name. Not thread-safe; {@link #copy()} gives each thread
+ * its own parser.
+ */
+final class EmployeeCsvParser implements EmployeeRecordParser {
+    private static final int NO_COLUMN = -1;
+    private static final int MAX_CACHED_DEPARTMENTS = 64;
+
+    private final String[] header;
+    private final int columnCount;
+    private final int idColumn;
+    private final int nameColumn;
+    private final int departmentColumn;
+    private final int salaryColumn;
+    private final int ratingColumn;
+    private final int yearsColumn;
+    private final int activeColumn;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private byte[][] departmentSpellings = new byte[0][];
+    private String[] departmentNames = new String[0];
+
+    private EmployeeCsvParser(String[] header) throws IOException {
+        this.header = header;
+        this.columnCount = header.length;
+        this.idColumn = column(header, "id");
+        this.nameColumn = requiredColumn(header, "name");
+        this.departmentColumn = requiredColumn(header, "department");
+        this.salaryColumn = requiredColumn(header, "salary");
+        this.ratingColumn = column(header, "performancerating");
+        this.yearsColumn = column(header, "yearsofexperience");
+        this.activeColumn = column(header, "active");
+        this.fieldStarts = new int[columnCount];
+        this.fieldEnds = new int[columnCount];
+    }
+
+    /**
+     * Reads the column layout from a header record.
+     *
+     * @throws IOException when a required column is missing
+     */
+    static EmployeeCsvParser forHeader(byte[] bytes, int from, int to) throws IOException {
+        // Skip a UTF-8 byte order mark
+        if (to - from >= 3 && bytes[from] == (byte) 0xEF && bytes[from + 1] == (byte) 0xBB
+                && bytes[from + 2] == (byte) 0xBF) {
+            from += 3;
+        }
+        String line = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        String[] header = line.split(",", -1);
+        for (int i = 0; i < header.length; i++) {
+            header[i] = header[i].trim().replace("\"", "").toLowerCase(Locale.ROOT);
+        }
+        return new EmployeeCsvParser(header);
+    }
+
+    EmployeeCsvParser copy() {
+        try {
+            return new EmployeeCsvParser(header);
+        } catch (IOException e) {
+            throw new IllegalStateException("Header was checked when it was read", e);
+        }
+    }
+
+    /**
+     * Finds the end of the record starting at {@code from}: the index of its terminating
+     * newline, or -1 when the bytes run out first. Newlines inside quotes belong to the record.
+     */
+    static int recordEnd(byte[] bytes, int from, int to) {
+        return recordEnd(bytes, from, to, false);
+    }
+
+    // As above, for a scan that starts inside quotes when quoted is set
+    static int recordEnd(byte[] bytes, int from, int to, boolean quoted) {
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t' && bytes[i] != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the record in {@code bytes[from, to)} into an employee. Employees without an ID
+     * column take theirs from {@code ids}.
+     *
+     * @throws IllegalArgumentException when a field is malformed or the name is invalid
+     */
+    Employee<Integer> parse(byte[] bytes, int from, int to, Supplier<Integer> ids)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        return parseRecord(bytes, from, to).toEmployee(ids);
+    }
+
+    /**
+     * Parses the record in {@code bytes[from, to)}, excluding its newline. Quoted fields are
+     * unescaped in place.
+     */
+    @Override
+    public EmployeeRecord parseRecord(byte[] bytes, int from, int to)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        split(bytes, from, to);
+        String name = text(bytes, nameColumn);
+        String department = department(bytes);
+        double salary = parseDouble(bytes, salaryColumn, "salary");
+        double rating = ratingColumn == NO_COLUMN || isEmpty(ratingColumn)
+                ? 0.0 : parseDouble(bytes, ratingColumn, "performanceRating");
+        int years = yearsColumn == NO_COLUMN || isEmpty(yearsColumn)
+                ? 0 : parseInt(bytes, yearsColumn, "yearsOfExperience");
+        Integer id = idColumn == NO_COLUMN ? null : parseInt(bytes, idColumn, "id");
+        boolean active = activeColumn == NO_COLUMN || isEmpty(activeColumn) || parseBoolean(bytes, activeColumn);
+        return new EmployeeRecord(id, name, department, salary, rating, years, active);
+    }
+
+    // Records each field's trimmed bounds, unquoting where needed
+    private void split(byte[] bytes, int from, int to) {
+        int field = 0;
+        int i = from;
+        while (true) {
+            if (field == columnCount) {
+                throw new IllegalArgumentException("Expected " + columnCount + " fields but found more");
+            }
+            while (i < to && (bytes[i] == ' ' || bytes[i] == '\t')) {
+                i++;
+            }
+            int start = i;
+            int end;
+            if (i < to && bytes[i] == '"') {
+                int write = i;
+                i++;
+                while (true) {
+                    if (i >= to) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    if (bytes[i] == '"') {
+                        if (i + 1 < to && bytes[i + 1] == '"') {
+                            bytes[write++] = '"';
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        break;
+                    }
+                    bytes[write++] = bytes[i++];
+                }
+                end = write;
+                while (i < to && (bytes[i] == ' ' || bytes[i] == '\t')) {
+                    i++;
+                }
+                if (i < to && bytes[i] != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted field");
+                }
+            } else {
+                while (i < to && bytes[i] != ',') {
+                    i++;
+                }
+                end = i;
+                while (end > start && (bytes[end - 1] == ' ' || bytes[end - 1] == '\t')) {
+                    end--;
+                }
+            }
+            fieldStarts[field] = start;
+            fieldEnds[field] = end;
+            field++;
+            if (i >= to) {
+                break;
+            }
+            i++;
+        }
+        if (field != columnCount) {
+            throw new IllegalArgumentException("Expected " + columnCount + " fields but found " + field);
+        }
+    }
+
+    private boolean isEmpty(int column) {
+        return fieldStarts[column] == fieldEnds[column];
+    }
+
+    private String text(byte[] bytes, int column) {
+        return AsciiNumbers.text(bytes, fieldStarts[column], fieldEnds[column]);
+    }
+
+    // Reuses the String for spellings seen before; the set of departments is tiny
+    private String department(byte[] bytes) {
+        int start = fieldStarts[departmentColumn];
+        int end = fieldEnds[departmentColumn];
+        for (int i = 0; i < departmentSpellings.length; i++) {
+            byte[] spelling = departmentSpellings[i];
+            if (Arrays.equals(spelling, 0, spelling.length, bytes, start, end)) {
+                return departmentNames[i];
+            }
+        }
+        String department = text(bytes, departmentColumn);
+        if (departmentSpellings.length < MAX_CACHED_DEPARTMENTS) {
+            departmentSpellings = Arrays.copyOf(departmentSpellings, departmentSpellings.length + 1);
+            departmentSpellings[departmentSpellings.length - 1] = Arrays.copyOfRange(bytes, start, end);
+            departmentNames = Arrays.copyOf(departmentNames, departmentNames.length + 1);
+            departmentNames[departmentNames.length - 1] = department;
+        }
+        return department;
+    }
+
+    private double parseDouble(byte[] bytes, int column, String field) {
+        try {
+            return AsciiNumbers.parseDouble(bytes, fieldStarts[column], fieldEnds[column]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": '" + text(bytes, column) + "'");
+        }
+    }
+
+    private int parseInt(byte[] bytes, int column, String field) {
+        try {
+            return AsciiNumbers.parseInt(bytes, fieldStarts[column], fieldEnds[column]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": '" + text(bytes, column) + "'");
+        }
+    }
+
+    private boolean parseBoolean(byte[] bytes, int column) {
+        String text = text(bytes, column).toLowerCase(Locale.ROOT);
+        return switch (text) {
+            case "true", "yes", "1" -> true;
+            case "false", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("Invalid active: '" + text + "'");
+        };
+    }
+
+    private static int column(String[] header, String name) {
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].equals(name)) {
+                return i;
+            }
+        }
+        return NO_COLUMN;
+    }
+
+    private static int requiredColumn(String[] header, String name) throws IOException {
+        int column = column(header, name);
+        if (column == NO_COLUMN) {
+            throw new IOException("CSV header is missing the " + name + " column");
+        }
+        return column;
+    }
+}
@@ -1,20 +1,258 @@
 package com.example.employeemanagement;
 
 import com.example.employeemanagement.Exception.*;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
-public class EmployeeDatabase<T> {
+public class EmployeeDatabase<T> implements Closeable {
     private static final Logger LOGGER = Logger.getLogger(EmployeeDatabase.class.getName());
-    private final Map<T, Employee<T>> employees;
-    private final List<Employee<T>> employeeList;
+    /**
+     * Full scans run on the calling thread unless {@link #setParallelScanThreshold} says
+     * otherwise. No crossover where splitting beats forking costs has been measured yet; pick a
+     * threshold from {@code EmployeeParallelScanBenchmark} on the target hardware.
+     */
+    public static final int DEFAULT_PARALLEL_SCAN_THRESHOLD = Integer.MAX_VALUE;
+    // Planned queries that must want a sorted view before planning builds it
+    private static final int VIEW_BUILD_QUERIES = 3;
+    private final EmployeeStore<T> store;
+    private final boolean concurrent;
+    // Null when the store does not retain employees; queries then scan the store
+    private final DepartmentIndex<T> departmentIndex;
+    private final SalaryIndex<T> salaryIndex;
+    private final List<EmployeeIndex<T>> indexes;
+    // Null until the first substring search, and always when the store does not retain employees
+    private volatile TrigramIndex<T> nameIndex;
+    // Names only, so it serves every storage mode; null until suggestNames is first called
+    private volatile NameTrie nameTrie;
+    // Likewise names only, null until fuzzySearchByName is first called
+    private volatile FuzzyNameIndex<T> fuzzyIndex;
+    // Values only as well, null until department salary statistics are first asked for
+    private volatile SalaryAggregates salaryAggregates;
+    // IDs only, null until getTopPaidEmployees is first called
+    private volatile SalaryLeaderboard<T> leaderboard;
+    // One per sort key asked for so far; replaced, never changed in place
+    private volatile List<SortedEmployeeView<T>> sortedViews = List.of();
+    // Planned queries, by sort key, that would have used a view not yet built
+    private final AtomicIntegerArray viewDemand = new AtomicIntegerArray(SortedEmployeeView.Key.values().length);
+    private final EmployeeChangeListener<T> changeDispatcher;
+    private volatile int parallelScanThreshold = DEFAULT_PARALLEL_SCAN_THRESHOLD;
+    private final IdAllocator<T> idAllocator;
+    private long nextSequence;
+    // Null unless the database was opened with a write-ahead log
+    private WriteAheadLog log;
+    private Path snapshotFile;
+    // Set while a bulk change that was logged as one entry applies itself
+    private boolean logSuspended;
+    private int writeDepth;
+    private long uncommittedSequence;
 
     public EmployeeDatabase() {
-        this.employees = new HashMap<>();
-        this.employeeList = new ArrayList<>();
-        LOGGER.log(Level.INFO, "Initialized new EmployeeDatabase");
+        this(defaultIdAllocator());
+    }
+
+    public EmployeeDatabase(IdAllocator<T> idAllocator) {
+        this(false, idAllocator, StorageMode.HEAP);
+    }
+
+    public EmployeeDatabase(StorageMode storageMode) {
+        this(false, defaultIdAllocator(), storageMode);
+    }
+
+    public EmployeeDatabase(IdAllocator<T> idAllocator, StorageMode storageMode) {
+        this(false, idAllocator, storageMode);
+    }
+
+    // Concurrent storage lets readers run without locking; see ConcurrentEmployeeDatabase
+    EmployeeDatabase(boolean concurrent, IdAllocator<T> idAllocator, StorageMode storageMode) {
+        this(concurrent, idAllocator, storageMode, null);
+    }
+
+    // A snapshot, when given, is served in place by an off-heap store
+    EmployeeDatabase(boolean concurrent, IdAllocator<T> idAllocator, StorageMode storageMode,
+                     EmployeeSnapshot snapshot) {
+        if (idAllocator == null) {
+            LOGGER.log(Level.SEVERE, "Null ID allocator provided");
+            throw new IllegalArgumentException("ID allocator cannot be null");
+        }
+        if (storageMode == null) {
+            LOGGER.log(Level.SEVERE, "Null storage mode provided");
+            throw new IllegalArgumentException("Storage mode cannot be null");
+        }
+        this.concurrent = concurrent;
+        this.idAllocator = idAllocator;
+        this.changeDispatcher = new ChangeDispatcher();
+        if (snapshot != null) {
+            this.store = new OffHeapEmployeeStore<>(concurrent, changeDispatcher, snapshot);
+            this.nextSequence = snapshot.nextSequence();
+            if (snapshot.rowCount() > 0) {
+                reserveRestoredIds(snapshot.maxId());
+            }
+        } else if (storageMode == StorageMode.OFF_HEAP) {
+            this.store = new OffHeapEmployeeStore<>(concurrent, changeDispatcher);
+        } else {
+            this.store = new EmployeeTable<>(concurrent, storageMode == StorageMode.COLUMNAR);
+        }
+        if (store.retainsEmployees()) {
+            this.departmentIndex = new DepartmentIndex<>(concurrent);
+            this.salaryIndex = new SalaryIndex<>(concurrent);
+            this.indexes = List.of(departmentIndex, salaryIndex);
+        } else {
+            this.departmentIndex = null;
+            this.salaryIndex = null;
+            this.indexes = List.of();
+        }
+        LOGGER.log(Level.INFO, "Initialized new EmployeeDatabase with {0} storage", storageMode);
+    }
+
+    /**
+     * Opens a snapshot written by {@link #saveSnapshot}. The file is memory-mapped and served
+     * in place with {@link StorageMode#OFF_HEAP} storage, so startup does not parse each row.
+     * Later changes are kept in memory until the next snapshot is saved.
+     */
+    public static EmployeeDatabase<Integer> openSnapshot(Path file) throws IOException {
+        return new EmployeeDatabase<>(false, defaultIdAllocator(), StorageMode.OFF_HEAP, EmployeeSnapshot.open(file));
+    }
+
+    /**
+     * Writes every employee to a binary snapshot with a versioned, checksummed header. Writers
+     * wait until the snapshot is complete. Requires Integer employee IDs.
+     */
+    public void saveSnapshot(Path file) throws IOException {
+        if (file == null) {
+            LOGGER.log(Level.SEVERE, "Null snapshot path provided");
+            throw new IllegalArgumentException("Snapshot path cannot be null");
+        }
+        beginWrite();
+        try {
+            EmployeeSnapshot.write(file, store.toList(), nextSequence, log == null ? 0 : log.lastSequence());
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * Restores the database from the newest generation of the snapshot, if any, and replays
+     * the write-ahead log on top of it. From then on every mutation is appended to the log and
+     * made durable as the sync policy dictates before the mutating call returns; a failed log
+     * write surfaces as an {@link java.io.UncheckedIOException}. Call {@link #checkpoint} to
+     * fold the log into a fresh snapshot and {@link #close} when done. Requires Integer
+     * employee IDs.
+     */
+    public static EmployeeDatabase<Integer> open(Path snapshotFile, Path logFile, LogSyncPolicy syncPolicy)
+            throws IOException {
+        EmployeeSnapshot snapshot = openIfPresent(snapshotFile);
+        EmployeeDatabase<Integer> database =
+            new EmployeeDatabase<>(false, defaultIdAllocator(), StorageMode.OFF_HEAP, snapshot);
+        database.recover(snapshot, snapshotFile, logFile, syncPolicy);
+        return database;
+    }
+
+    static EmployeeSnapshot openIfPresent(Path snapshotFile) throws IOException {
+        if (snapshotFile == null) {
+            LOGGER.log(Level.SEVERE, "Null snapshot path provided");
+            throw new IllegalArgumentException("Snapshot path cannot be null");
+        }
+        Path latest = EmployeeSnapshot.latestGeneration(snapshotFile);
+        return latest != null ? EmployeeSnapshot.open(latest) : null;
+    }
+
+    void recover(EmployeeSnapshot snapshot, Path snapshotFile, Path logFile, LogSyncPolicy syncPolicy)
+            throws IOException {
+        if (logFile == null) {
+            LOGGER.log(Level.SEVERE, "Null log path provided");
+            throw new IllegalArgumentException("Log path cannot be null");
+        }
+        // The log stays detached while replaying so replayed mutations are not logged again
+        WriteAheadLog opened = WriteAheadLog.open(logFile, syncPolicy,
+            snapshot == null ? 0 : snapshot.logSequence(), new LogReplayer());
+        beginWrite();
+        try {
+            this.log = opened;
+            this.snapshotFile = snapshotFile;
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * Writes a snapshot that includes every logged mutation, then empties the log. Each
+     * checkpoint writes a new generation beside the snapshot path, {@code snapshot.N}, rather
+     * than replacing the file the database may still be serving from; {@link #open} reads the
+     * newest and older ones are deleted once nothing maps them.
+     */
+    public void checkpoint() throws IOException {
+        if (log == null) {
+            LOGGER.log(Level.SEVERE, "Checkpoint requested without a write-ahead log");
+            throw new IllegalStateException("Database was not opened with a write-ahead log");
+        }
+        beginWrite();
+        try {
+            Path generation = EmployeeSnapshot.nextGeneration(snapshotFile);
+            EmployeeSnapshot.write(generation, store.toList(), nextSequence, log.lastSequence());
+            log.reset();
+            EmployeeSnapshot.deleteGenerationsBefore(snapshotFile, generation);
+            LOGGER.log(Level.INFO, "Checkpointed database to {0}", generation);
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * Flushes and closes the write-ahead log, if any. Mutations fail once the log is closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reserveRestoredIds(int maxId) {
+        idAllocator.reserve((T) Integer.valueOf(maxId));
+    }
+
+    // Shares the sequence used by Employee's ID-less constructors, so both can be mixed
+    static <T> IdAllocator<T> defaultIdAllocator() {
+        return new IdAllocator<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public T nextId() {
+                return (T) Employee.DEFAULT_ID_ALLOCATOR.nextId();
+            }
+
+            @Override
+            public void reserve(T id) {
+                if (id instanceof Integer intId) {
+                    Employee.DEFAULT_ID_ALLOCATOR.reserve(intId);
+                }
+            }
+        };
+    }
+
+    public T nextEmployeeId() {
+        return idAllocator.nextId();
+    }
+
+    public Employee<T> createEmployee(String name, String department, double salary)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        return new Employee<>(idAllocator.nextId(), name, department, salary);
+    }
+
+    public Employee<T> createEmployee(String name, String department, double salary, double performanceRating,
+                                      int yearsOfExperience) throws InvalidSalaryException, InvalidDepartmentException {
+        return new Employee<>(idAllocator.nextId(), name, department, salary, performanceRating, yearsOfExperience);
     }
 
     // CRUD Operations
@@ -23,27 +261,167 @@ public class EmployeeDatabase<T> {
             LOGGER.log(Level.SEVERE, "Attempted to add null employee");
             throw new IllegalArgumentException("Employee cannot be null");
         }
-        if (employees.containsKey(employee.getEmployeeId())) {
-            LOGGER.log(Level.SEVERE, "Employee with ID {0} already exists", employee.getEmployeeId());
-            throw new IllegalArgumentException("Employee with this ID already exists");
+        beginWrite();
+        try {
+            if (store.contains(employee.getEmployeeId())) {
+                LOGGER.log(Level.SEVERE, "Employee with ID {0} already exists", employee.getEmployeeId());
+                throw new IllegalArgumentException("Employee with this ID already exists");
+            }
+            EmployeeChangeListener<T> owner = employee.getListener();
+            if (owner != null && owner.holds(employee)) {
+                LOGGER.log(Level.SEVERE, "Employee with ID {0} already belongs to another database", employee.getEmployeeId());
+                throw new IllegalArgumentException("Employee already belongs to another database");
+            }
+            if (logging()) {
+                uncommittedSequence = log.logAdd(logId(employee), employee.getName(), employee.getDepartment(),
+                    employee.getSalary(), employee.getPerformanceRating(), employee.getYearsOfExperience(),
+                    employee.isActive());
+            }
+            idAllocator.reserve(employee.getEmployeeId());
+            employee.attach(changeDispatcher, nextSequence++);
+            store.add(employee);
+            for (EmployeeIndex<T> index : indexes) {
+                index.add(employee);
+            }
+            if (nameIndex != null) {
+                nameIndex.add(employee);
+            }
+            if (nameTrie != null) {
+                nameTrie.add(employee.getName());
+            }
+            if (fuzzyIndex != null) {
+                fuzzyIndex.add(employee.getName(), employee.getEmployeeId());
+            }
+            if (salaryAggregates != null) {
+                salaryAggregates.add(employee.getDepartment(), employee.getSalary());
+            }
+            if (leaderboard != null) {
+                leaderboard.add(employee);
+            }
+            for (SortedEmployeeView<T> view : sortedViews) {
+                view.add(employee);
+            }
+        } finally {
+            endWrite();
         }
-        employees.put(employee.getEmployeeId(), employee);
-        employeeList.add(employee);
-        LOGGER.log(Level.INFO, "Added new employee with ID: {0}", employee.getEmployeeId());
+        LOGGER.log(Level.FINE, "Added new employee with ID: {0}", employee.getEmployeeId());
         return employee.getEmployeeId();
     }
 
+    /**
+     * Adds every employee in one write: the whole batch is checked first, then the store and
+     * indexes are sized and updated once. Either all employees are added or, when any is
+     * null, a duplicate or held by another database, none are.
+     *
+     * @return the added employees' IDs, in the order given
+     */
+    public List<T> addEmployees(Collection<Employee<T>> employees) {
+        if (employees == null) {
+            LOGGER.log(Level.SEVERE, "Attempted to add null employee collection");
+            throw new IllegalArgumentException("Employees cannot be null");
+        }
+        List<Employee<T>> batch = new ArrayList<>(employees);
+        List<T> ids = new ArrayList<>(batch.size());
+        Set<T> seen = HashSet.newHashSet(batch.size());
+        for (Employee<T> employee : batch) {
+            if (employee == null) {
+                LOGGER.log(Level.SEVERE, "Attempted to add null employee");
+                throw new IllegalArgumentException("Employee cannot be null");
+            }
+            if (!seen.add(employee.getEmployeeId())) {
+                LOGGER.log(Level.SEVERE, "Employee ID {0} appears twice in batch", employee.getEmployeeId());
+                throw new IllegalArgumentException("Employee with this ID already exists");
+            }
+            ids.add(employee.getEmployeeId());
+        }
+        if (batch.isEmpty()) {
+            return ids;
+        }
+        beginWrite();
+        try {
+            for (Employee<T> employee : batch) {
+                if (store.contains(employee.getEmployeeId())) {
+                    LOGGER.log(Level.SEVERE, "Employee with ID {0} already exists", employee.getEmployeeId());
+                    throw new IllegalArgumentException("Employee with this ID already exists");
+                }
+                EmployeeChangeListener<T> owner = employee.getListener();
+                if (owner != null && owner.holds(employee)) {
+                    LOGGER.log(Level.SEVERE, "Employee with ID {0} already belongs to another database",
+                        employee.getEmployeeId());
+                    throw new IllegalArgumentException("Employee already belongs to another database");
+                }
+            }
+            if (logging()) {
+                log.logBatch(batch.size());
+                for (Employee<T> employee : batch) {
+                    uncommittedSequence = log.logAdd(logId(employee), employee.getName(), employee.getDepartment(),
+                        employee.getSalary(), employee.getPerformanceRating(), employee.getYearsOfExperience(),
+                        employee.isActive());
+                }
+            }
+            for (Employee<T> employee : batch) {
+                idAllocator.reserve(employee.getEmployeeId());
+                employee.attach(changeDispatcher, nextSequence++);
+            }
+            store.addAll(batch);
+            for (EmployeeIndex<T> index : indexes) {
+                index.addAll(batch);
+            }
+            if (nameIndex != null) {
+                nameIndex.addAll(batch);
+            }
+            if (nameTrie != null) {
+                for (Employee<T> employee : batch) {
+                    nameTrie.add(employee.getName());
+                }
+            }
+            if (fuzzyIndex != null) {
+                for (Employee<T> employee : batch) {
+                    fuzzyIndex.add(employee.getName(), employee.getEmployeeId());
+                }
+            }
+            if (salaryAggregates != null) {
+                for (Employee<T> employee : batch) {
+                    salaryAggregates.add(employee.getDepartment(), employee.getSalary());
+                }
+            }
+            if (leaderboard != null) {
+                for (Employee<T> employee : batch) {
+                    leaderboard.add(employee);
+                }
+            }
+            for (SortedEmployeeView<T> view : sortedViews) {
+                for (Employee<T> employee : batch) {
+                    view.add(employee);
+                }
+            }
+        } finally {
+            endWrite();
+        }
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Added batch of {0} employees", batch.size());
+        }
+        return ids;
+    }
+
+    /**
+     * Starts a batch that is added in one write by {@link EmployeeBatch#commit()}.
+     */
+    public EmployeeBatch<T> newBatch() {
+        return new EmployeeBatch<>(this);
+    }
+
     public Employee<T> getEmployee(T employeeId) throws EmployeeNotFoundException {
         if (employeeId == null) {
             LOGGER.log(Level.SEVERE, "Null employee ID provided");
             throw new IllegalArgumentException("Employee ID cannot be null");
         }
-        Employee<T> employee = employees.get(employeeId);
+        Employee<T> employee = store.get(employeeId);
         if (employee == null) {
             LOGGER.log(Level.SEVERE, "Employee with ID {0} not found", employeeId);
             throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
         }
-        LOGGER.log(Level.INFO, "Retrieved employee with ID: {0}", employeeId);
+        LOGGER.log(Level.FINE, "Retrieved employee with ID: {0}", employeeId);
         return employee;
     }
 
@@ -52,13 +430,45 @@ public class EmployeeDatabase<T> {
             LOGGER.log(Level.SEVERE, "Null employee ID provided");
             throw new IllegalArgumentException("Employee ID cannot be null");
         }
-        Employee<T> employee = employees.remove(employeeId);
-        if (employee == null) {
-            LOGGER.log(Level.SEVERE, "Attempted to remove non-existent employee with ID: {0}", employeeId);
-            throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+        beginWrite();
+        try {
+            if (!store.contains(employeeId)) {
+                LOGGER.log(Level.SEVERE, "Attempted to remove non-existent employee with ID: {0}", employeeId);
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found");
+            }
+            if (logging()) {
+                uncommittedSequence = log.logRemove((Integer) employeeId);
+            }
+            // Off-heap views cannot be read once removed
+            Employee<T> stored = store.get(employeeId);
+            String name = nameTrie != null || fuzzyIndex != null ? stored.getName() : null;
+            if (salaryAggregates != null) {
+                salaryAggregates.remove(stored.getDepartment(), stored.getSalary());
+            }
+            for (SortedEmployeeView<T> view : sortedViews) {
+                view.remove(stored);
+            }
+            Employee<T> employee = store.remove(employeeId);
+            for (EmployeeIndex<T> index : indexes) {
+                index.remove(employee);
+            }
+            if (nameIndex != null) {
+                nameIndex.remove(employee);
+            }
+            if (nameTrie != null) {
+                nameTrie.remove(name);
+            }
+            if (fuzzyIndex != null) {
+                fuzzyIndex.remove(name, employeeId);
+            }
+            if (leaderboard != null) {
+                leaderboard.remove(employeeId);
+            }
+            employee.detach();
+        } finally {
+            endWrite();
         }
-        employeeList.remove(employee);
-        LOGGER.log(Level.INFO, "Removed employee with ID: {0}", employeeId);
+        LOGGER.log(Level.FINE, "Removed employee with ID: {0}", employeeId);
     }
 
     public void updateEmployeeDetails(T employeeId, String field, Object value) 
@@ -118,7 +528,9 @@ public class EmployeeDatabase<T> {
                 }
                 default -> throw new IllegalArgumentException("Invalid field: " + field);
             }
-            LOGGER.log(Level.INFO, "Updated {0} for employee {1}", new Object[]{field, employeeId});
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Updated {0} for employee {1}", new Object[]{field, employeeId});
+            }
         } catch (IllegalArgumentException e) {
             LOGGER.log(Level.SEVERE, "Invalid input for update", e);
             throw e;
@@ -126,8 +538,22 @@ public class EmployeeDatabase<T> {
     }
 
     public List<Employee<T>> getAllEmployees() {
-        LOGGER.log(Level.INFO, "Retrieved all employees. Count: {0}", employeeList.size());
-        return new ArrayList<>(employeeList);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Retrieved all employees. Count: {0}", store.size());
+        }
+        return store.toList();
+    }
+
+    /**
+     * Hands every employee to the action in insertion order without copying the database
+     * first. Employees added or removed while the walk is under way may or may not be seen.
+     */
+    public void forEachEmployee(Consumer<? super Employee<T>> action) {
+        if (action == null) {
+            LOGGER.log(Level.SEVERE, "Null employee action provided");
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        store.forEach(action);
     }
 
     // Search and Filter Operations
@@ -137,51 +563,41 @@ public class EmployeeDatabase<T> {
             throw new InvalidDepartmentException("Department cannot be null or empty");
         }
         
-        if (employeeList.isEmpty()) {
-            LOGGER.log(Level.INFO, "Attempted to get employees from empty list for department: {0}", department);
-            return new ArrayList<>();
-        }
-        
-        try {
-            List<Employee<T>> result = employeeList.stream()
-                    .filter(Objects::nonNull)
-                    .filter(e -> {
-                        String dept = e.getDepartment();
-                        return dept != null && dept.equalsIgnoreCase(department);
-                    })
-                    .collect(Collectors.toList());
-                    
-            LOGGER.log(Level.INFO, "Found {0} employees in department: {1}", 
+        List<Employee<T>> result = departmentIndex != null
+                ? departmentIndex.get(department)
+                : scan(parallel -> store.withDepartment(department, parallel));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Found {0} employees in department: {1}",
                 new Object[]{result.size(), department});
-            return result;
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error getting employees by department", e);
-            throw new RuntimeException("Failed to get employees by department", e);
         }
+        return result;
     }
 
+    /**
+     * Finds employees whose name contains the term, ignoring case, in insertion order. The
+     * first search for three or more characters indexes every name; the index is kept
+     * current from then on, so later searches do not scan.
+     */
     public List<Employee<T>> searchEmployeesByName(String searchTerm) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             LOGGER.log(Level.SEVERE, "Empty search term provided");
             throw new IllegalArgumentException("Search term cannot be null or empty");
         }
         
-        if (employeeList.isEmpty()) {
-            LOGGER.log(Level.INFO, "Attempted to search in empty employee list");
+        if (store.isEmpty()) {
+            LOGGER.log(Level.FINE, "Attempted to search in empty employee list");
             return new ArrayList<>();
         }
         
+        String term = TrigramIndex.normalize(searchTerm);
         try {
-            List<Employee<T>> result = employeeList.stream()
-                    .filter(Objects::nonNull)
-                    .filter(e -> {
-                        String name = e.getName();
-                        return name != null && name.toLowerCase().contains(searchTerm.toLowerCase());
-                    })
-                    .collect(Collectors.toList());
-                    
-            LOGGER.log(Level.INFO, "Found {0} employees matching search term: {1}", 
-                      new Object[]{result.size(), searchTerm});
+            List<Employee<T>> result = store.retainsEmployees() && TrigramIndex.canSearch(term)
+                    ? nameIndex().search(term)
+                    : scan(parallel -> store.withNameContaining(term, parallel));
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Found {0} employees matching search term: {1}",
+                          new Object[]{result.size(), searchTerm});
+            }
             return result;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error searching employees by name", e);
@@ -189,16 +605,132 @@ public class EmployeeDatabase<T> {
         }
     }
 
+    /**
+     * Suggests up to {@code limit} distinct names with a word that starts with the prefix,
+     * ignoring case, ordered by the matching part of the name. The first call indexes every
+     * name; the index is kept current from then on, so later calls do not scan.
+     */
+    public List<String> suggestNames(String prefix, int limit) {
+        if (prefix == null) {
+            LOGGER.log(Level.SEVERE, "Null name prefix provided");
+            throw new IllegalArgumentException("Prefix cannot be null");
+        }
+        if (limit <= 0) {
+            LOGGER.log(Level.SEVERE, "Invalid suggestion limit: {0}", limit);
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        String normalized = TrigramIndex.normalize(prefix.stripLeading());
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        NameTrie trie = nameTrie;
+        List<String> result = (trie != null ? trie : buildNameTrie()).suggest(normalized, limit);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Suggested {0} names for prefix: {1}", new Object[]{result.size(), prefix});
+        }
+        return result;
+    }
+
+    // Only for stores that retain employees, as postings hold the employees themselves
+    private TrigramIndex<T> nameIndex() {
+        TrigramIndex<T> index = nameIndex;
+        return index != null ? index : buildNameIndex();
+    }
+
+    private TrigramIndex<T> buildNameIndex() {
+        beginWrite();
+        try {
+            if (nameIndex == null) {
+                TrigramIndex<T> index = new TrigramIndex<>(concurrent);
+                store.forEach(index::add);
+                nameIndex = index;
+            }
+            return nameIndex;
+        } finally {
+            endWrite();
+        }
+    }
+
+    // Built under the write lock so no change slips in between the scan and publishing it
+    private NameTrie buildNameTrie() {
+        beginWrite();
+        try {
+            if (nameTrie == null) {
+                NameTrie trie = new NameTrie();
+                store.forEach(employee -> trie.add(employee.getName()));
+                nameTrie = trie;
+            }
+            return nameTrie;
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * Finds employees whose whole name is within {@code maxDistance} edits (inserted, deleted
+     * or replaced characters) of the query, ignoring case, so "Jon Do" finds "John Doe".
+     * Results are ordered by distance, then by name, then by insertion. The first call
+     * indexes every name; the index is kept current from then on.
+     *
+     * @param maxDistance from 0 to {@value FuzzyNameIndex#MAX_DISTANCE}
+     */
+    public List<Employee<T>> fuzzySearchByName(String query, int maxDistance) {
+        if (query == null || query.trim().isEmpty()) {
+            LOGGER.log(Level.SEVERE, "Empty search term provided");
+            throw new IllegalArgumentException("Search term cannot be null or empty");
+        }
+        if (maxDistance < 0 || maxDistance > FuzzyNameIndex.MAX_DISTANCE) {
+            LOGGER.log(Level.SEVERE, "Invalid edit distance: {0}", maxDistance);
+            throw new IllegalArgumentException("Edit distance must be between 0 and " + FuzzyNameIndex.MAX_DISTANCE);
+        }
+        FuzzyNameIndex<T> index = fuzzyIndex;
+        List<FuzzyNameIndex.Match<T>> matches = (index != null ? index : buildFuzzyIndex())
+                .search(TrigramIndex.normalize(query.strip()), maxDistance);
+        List<Employee<T>> result = new ArrayList<>();
+        for (FuzzyNameIndex.Match<T> match : matches) {
+            for (T employeeId : match.getEmployeeIds()) {
+                // A concurrent removal may have taken it since the search
+                Employee<T> employee = store.get(employeeId);
+                if (employee != null) {
+                    result.add(employee);
+                }
+            }
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Found {0} employees within {1} edits of: {2}",
+                new Object[]{result.size(), maxDistance, query});
+        }
+        return result;
+    }
+
+    private FuzzyNameIndex<T> buildFuzzyIndex() {
+        beginWrite();
+        try {
+            if (fuzzyIndex == null) {
+                FuzzyNameIndex<T> index = new FuzzyNameIndex<>(concurrent);
+                store.forEach(employee -> index.add(employee.getName(), employee.getEmployeeId()));
+                fuzzyIndex = index;
+            }
+            return fuzzyIndex;
+        } finally {
+            endWrite();
+        }
+    }
+
     public List<Employee<T>> getHighPerformingEmployees(double minRating) {
         if (minRating < 0 || minRating > 5) {
             LOGGER.log(Level.SEVERE, "Invalid minimum rating: {0}", minRating);
             throw new IllegalArgumentException("Rating must be between 0 and 5");
         }
-        List<Employee<T>> result = employeeList.stream()
-                .filter(e -> e.getPerformanceRating() >= minRating)
-                .collect(Collectors.toList());
-        LOGGER.log(Level.INFO, "Found {0} high-performing employees (rating >= {1})", 
-                  new Object[]{result.size(), minRating});
+        List<Employee<T>> result = scan(parallel -> store.supportsColumnScans()
+                ? store.withMinRating(minRating, parallel)
+                : store.stream(parallel)
+                        .filter(e -> e.getPerformanceRating() >= minRating)
+                        .collect(Collectors.toList()));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Found {0} high-performing employees (rating >= {1})",
+                      new Object[]{result.size(), minRating});
+        }
         return result;
     }
 
@@ -216,24 +748,28 @@ public class EmployeeDatabase<T> {
             throw new IllegalArgumentException("Minimum salary cannot be greater than maximum salary");
         }
         
-        return employees.values().stream()
-            .filter(e -> e.getSalary() >= minSalary && e.getSalary() <= maxSalary)
-            .collect(Collectors.toList());
+        List<Employee<T>> result = salaryIndex != null
+                ? salaryIndex.range(minSalary, maxSalary)
+                : scan(parallel -> store.inSalaryRange(minSalary, maxSalary, parallel));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Found {0} employees in salary range {1} - {2}",
+                new Object[]{result.size(), minSalary, maxSalary});
+        }
+        return result;
     }
 
     // Sorting Operations
     public List<Employee<T>> sortByExperience() {
-        if (employeeList.isEmpty()) {
-            LOGGER.log(Level.INFO, "Attempted to sort empty employee list by experience");
+        if (store.isEmpty()) {
+            LOGGER.log(Level.FINE, "Attempted to sort empty employee list by experience");
             return new ArrayList<>();
         }
         
         try {
-            List<Employee<T>> result = employeeList.stream()
-                    .filter(Objects::nonNull)
-                    .sorted(Comparator.nullsLast(Comparator.naturalOrder()))
-                    .collect(Collectors.toList());
-            LOGGER.log(Level.INFO, "Sorted {0} employees by experience", result.size());
+            List<Employee<T>> result = sorted(SortedEmployeeView.Key.EXPERIENCE);
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Sorted {0} employees by experience", result.size());
+            }
             return result;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sorting employees by experience", e);
@@ -242,22 +778,16 @@ public class EmployeeDatabase<T> {
     }
 
     public List<Employee<T>> sortBySalary() {
-        if (employeeList.isEmpty()) {
-            LOGGER.log(Level.INFO, "Attempted to sort empty employee list by salary");
+        if (store.isEmpty()) {
+            LOGGER.log(Level.FINE, "Attempted to sort empty employee list by salary");
             return new ArrayList<>();
         }
         
         try {
-            List<Employee<T>> result = employeeList.stream()
-                    .filter(Objects::nonNull)
-                    .sorted(Comparator.nullsLast(
-                        Comparator.comparing(
-                            Employee::getSalary,
-                            Comparator.nullsLast(Comparator.naturalOrder())
-                        )
-                    ))
-                    .collect(Collectors.toList());
-            LOGGER.log(Level.INFO, "Sorted {0} employees by salary", result.size());
+            List<Employee<T>> result = sorted(SortedEmployeeView.Key.SALARY);
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Sorted {0} employees by salary", result.size());
+            }
             return result;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sorting employees by salary", e);
@@ -266,22 +796,16 @@ public class EmployeeDatabase<T> {
     }
 
     public List<Employee<T>> sortByPerformance() {
-        if (employeeList.isEmpty()) {
-            LOGGER.log(Level.INFO, "Attempted to sort empty employee list by performance");
+        if (store.isEmpty()) {
+            LOGGER.log(Level.FINE, "Attempted to sort empty employee list by performance");
             return new ArrayList<>();
         }
         
         try {
-            List<Employee<T>> result = employeeList.stream()
-                    .filter(Objects::nonNull)
-                    .sorted(Comparator.nullsLast(
-                        Comparator.comparing(
-                            Employee::getPerformanceRating,
-                            Comparator.nullsLast(Comparator.naturalOrder())
-                        )
-                    ))
-                    .collect(Collectors.toList());
-            LOGGER.log(Level.INFO, "Sorted {0} employees by performance", result.size());
+            List<Employee<T>> result = sorted(SortedEmployeeView.Key.PERFORMANCE);
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Sorted {0} employees by performance", result.size());
+            }
             return result;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error sorting employees by performance", e);
@@ -289,6 +813,226 @@ public class EmployeeDatabase<T> {
         }
     }
 
+    // Views are built on first use and kept current from then on, so reads never sort
+    private List<Employee<T>> sorted(SortedEmployeeView.Key key) {
+        return sortedView(key).toList(store::get);
+    }
+
+    private SortedEmployeeView<T> sortedView(SortedEmployeeView.Key key) {
+        SortedEmployeeView<T> built = builtView(key);
+        if (built != null) {
+            return built;
+        }
+        beginWrite();
+        try {
+            for (SortedEmployeeView<T> view : sortedViews) {
+                if (view.key() == key) {
+                    return view;
+                }
+            }
+            SortedEmployeeView<T> view = new SortedEmployeeView<>(key, store.retainsEmployees());
+            view.addAll(store.toList());
+            List<SortedEmployeeView<T>> views = new ArrayList<>(sortedViews);
+            views.add(view);
+            sortedViews = List.copyOf(views);
+            return view;
+        } finally {
+            endWrite();
+        }
+    }
+
+    /** Starts a query that combines filters with an order and a limit; see {@link EmployeeQuery}. */
+    public EmployeeQuery<T> query() {
+        return new EmployeeQuery<>(this);
+    }
+
+    // Picks the access path expected to yield the fewest candidates from what is already
+    // maintained: range filters are estimated from their sorted view once built, and salary
+    // from the salary index before that. A view is only built here once VIEW_BUILD_QUERIES
+    // planned queries could have used it while the best path read more than an eighth of
+    // the database.
+    EmployeeQuery.Access plan(EmployeeQuery<T> query) {
+        EmployeeQuery.Access best = EmployeeQuery.Access.SCAN;
+        int fewest = store.size();
+        if (query.department != null && departmentIndex != null) {
+            SalaryAggregates aggregates = salaryAggregates;
+            int count = aggregates != null
+                    ? aggregates.get(query.department).getCount()
+                    : departmentIndex.size(query.department);
+            if (count < fewest) {
+                best = EmployeeQuery.Access.DEPARTMENT;
+                fewest = count;
+            }
+        }
+        if (query.nameTerm != null && store.retainsEmployees() && TrigramIndex.canSearch(query.nameTerm)) {
+            int count = nameIndex().estimate(query.nameTerm);
+            if (count < fewest) {
+                best = EmployeeQuery.Access.NAME;
+                fewest = count;
+            }
+        }
+        for (EmployeeQuery.Access range : List.of(EmployeeQuery.Access.SALARY, EmployeeQuery.Access.PERFORMANCE,
+                EmployeeQuery.Access.EXPERIENCE)) {
+            if (!filtersOn(query, range)) {
+                continue;
+            }
+            SortedEmployeeView<T> view = builtView(range.key);
+            if (view == null && fewest > store.size() / 8) {
+                view = viewInDemand(range.key);
+            }
+            int count;
+            if (view != null) {
+                count = view.count(lowerBound(query, range), upperBound(query, range));
+            } else if (range == EmployeeQuery.Access.SALARY && salaryIndex != null) {
+                count = salaryIndex.count(query.minSalary, query.maxSalary, fewest);
+            } else {
+                continue;
+            }
+            if (count < fewest) {
+                best = range;
+                fewest = count;
+            }
+        }
+        // Nothing narrows the scan, so walk the sort's own view, if there is one, and stop at
+        // the limit
+        if (best == EmployeeQuery.Access.SCAN && query.sort != null
+                && (builtView(query.sort.key) != null || viewInDemand(query.sort.key) != null)) {
+            best = EmployeeQuery.Access.valueOf(query.sort.name());
+        }
+        return best;
+    }
+
+    // Builds the view for a key once enough planned queries have wanted it
+    private SortedEmployeeView<T> viewInDemand(SortedEmployeeView.Key key) {
+        return viewDemand.incrementAndGet(key.ordinal()) >= VIEW_BUILD_QUERIES ? sortedView(key) : null;
+    }
+
+    List<Employee<T>> execute(EmployeeQuery<T> query) {
+        EmployeeQuery.Access access = plan(query);
+        SortedEmployeeView.Key order = query.sort != null ? query.sort.key : null;
+        // Only salary is planned without its view, from the salary index
+        SortedEmployeeView<T> view = access.key != null ? builtView(access.key) : null;
+        // Candidates already in the result's order let the run stop at the limit
+        boolean ordered = view != null && access.key == order;
+        int limit = query.limit;
+        List<Employee<T>> result = new ArrayList<>();
+        Predicate<Employee<T>> collect = employee -> {
+            if (query.matches(employee)) {
+                result.add(employee);
+            }
+            return !ordered || result.size() < limit;
+        };
+        switch (access) {
+            case SCAN -> result.addAll(scan(parallel -> {
+                Stream<Employee<T>> matches = store.stream(parallel).filter(query::matches);
+                return (limit < Integer.MAX_VALUE && order == null ? matches.limit(limit) : matches)
+                        .collect(Collectors.toList());
+            }));
+            case DEPARTMENT -> walk(departmentIndex.get(query.department), collect);
+            case NAME -> walk(nameIndex().search(query.nameTerm), collect);
+            default -> {
+                if (view != null) {
+                    view.walk(lowerBound(query, access), upperBound(query, access), store::get, collect);
+                } else {
+                    walk(salaryIndex.range(query.minSalary, query.maxSalary), collect);
+                }
+            }
+        }
+        if (!ordered) {
+            result.sort(order != null ? order::compare : Comparator.comparingLong(Employee::getSequence));
+            if (result.size() > limit) {
+                result.subList(limit, result.size()).clear();
+            }
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Query matched {0} employees reading {1}", new Object[]{result.size(), access});
+        }
+        return result;
+    }
+
+    /**
+     * Sets how many employees the database must hold before full scans run in parallel on
+     * the scan pool, overriding {@link #DEFAULT_PARALLEL_SCAN_THRESHOLD}; 0 splits every
+     * scan and {@link Integer#MAX_VALUE} none.
+     */
+    public void setParallelScanThreshold(int threshold) {
+        if (threshold < 0) {
+            LOGGER.log(Level.SEVERE, "Invalid parallel scan threshold: {0}", threshold);
+            throw new IllegalArgumentException("Parallel scan threshold cannot be negative");
+        }
+        parallelScanThreshold = threshold;
+    }
+
+    // A full scan of the store, told whether to split itself
+    @FunctionalInterface
+    private interface Scan<R> {
+        R run(boolean parallel);
+    }
+
+    // Large scans run inside the scan pool so their parallel streams fork onto its workers
+    // rather than the common pool, where they would compete with unrelated work
+    private <R> R scan(Scan<R> scan) {
+        if (store.size() < parallelScanThreshold) {
+            return scan.run(false);
+        }
+        return ScanPool.POOL.submit(() -> scan.run(true)).join();
+    }
+
+    // Created on the first parallel scan; workers are daemon threads, so the pool never
+    // keeps the application alive
+    private static final class ScanPool {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("employee-scan-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    private static <T> void walk(Iterable<Employee<T>> candidates, Predicate<Employee<T>> action) {
+        for (Employee<T> employee : candidates) {
+            if (!action.test(employee)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean filtersOn(EmployeeQuery<?> query, EmployeeQuery.Access range) {
+        return switch (range) {
+            case SALARY -> query.hasSalaryRange();
+            case PERFORMANCE -> query.minRating != Double.NEGATIVE_INFINITY;
+            case EXPERIENCE -> query.minExperience != Integer.MIN_VALUE;
+            default -> false;
+        };
+    }
+
+    private static double lowerBound(EmployeeQuery<?> query, EmployeeQuery.Access range) {
+        return switch (range) {
+            case SALARY -> query.minSalary;
+            case PERFORMANCE -> query.minRating;
+            case EXPERIENCE -> query.minExperience;
+            default -> Double.NEGATIVE_INFINITY;
+        };
+    }
+
+    private static double upperBound(EmployeeQuery<?> query, EmployeeQuery.Access range) {
+        return range == EmployeeQuery.Access.SALARY ? query.maxSalary : Double.POSITIVE_INFINITY;
+    }
+
+    // Whether a sort, or enough planned queries, has built the view for this key
+    boolean hasSortedView(SortedEmployeeView.Key key) {
+        return builtView(key) != null;
+    }
+
+    // Null until the view has been asked for
+    private SortedEmployeeView<T> builtView(SortedEmployeeView.Key key) {
+        for (SortedEmployeeView<T> view : sortedViews) {
+            if (view.key() == key) {
+                return view;
+            }
+        }
+        return null;
+    }
+
     // Salary Management
     public void giveSalaryRaise(double percentage, double minRating) throws InvalidSalaryException {
         if (percentage < 0) {
@@ -301,54 +1045,430 @@ public class EmployeeDatabase<T> {
             throw new IllegalArgumentException("Rating must be between 0 and 5");
         }
         
-        employees.values().stream()
-            .filter(e -> e.getPerformanceRating() >= minRating)
-            .forEach(e -> {
-                try {
-                    double newSalary = e.getSalary() * (1 + percentage/100);
-                    e.setSalary(Math.round(newSalary * 100.0) / 100.0);
-                } catch (InvalidSalaryException ex) {
-                    LOGGER.log(Level.SEVERE, "Failed to update salary for employee {0}", e.getEmployeeId());
-                    throw new RuntimeException("Failed to update salary", ex);
-                }
-            });
+        beginWrite();
+        try {
+            // Logged as one entry; replay repeats the raise on the same state
+            if (logging()) {
+                uncommittedSequence = log.logRaise(percentage, minRating);
+                logSuspended = true;
+            }
+            Collection<Employee<T>> eligible = store.supportsColumnScans()
+                ? store.withMinRating(minRating, false)
+                : store.toList();
+            eligible.stream()
+                .filter(e -> e.getPerformanceRating() >= minRating)
+                .forEach(e -> {
+                    try {
+                        double newSalary = e.getSalary() * (1 + percentage/100);
+                        e.setSalary(Math.round(newSalary * 100.0) / 100.0);
+                    } catch (InvalidSalaryException ex) {
+                        LOGGER.log(Level.SEVERE, "Failed to update salary for employee {0}", e.getEmployeeId());
+                        throw new RuntimeException("Failed to update salary", ex);
+                    }
+                });
+        } finally {
+            logSuspended = false;
+            endWrite();
+        }
             
-        LOGGER.log(Level.INFO, "Applied {0}% salary raise to employees with rating >= {1}", 
-            new Object[]{percentage, minRating});
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Applied {0}% salary raise to employees with rating >= {1}",
+                new Object[]{percentage, minRating});
+        }
     }
 
+    /**
+     * Returns the count highest paid employees, best first, with ties going to the employee
+     * added first. Counts up to {@value SalaryLeaderboard#CAPACITY} are served in O(count)
+     * from a leaderboard kept current as salaries change, which is refilled only after
+     * enough of its members have left or been overtaken; larger counts select from the
+     * whole database.
+     */
     public List<Employee<T>> getTopPaidEmployees(int count) {
         if (count <= 0) {
             LOGGER.log(Level.SEVERE, "Invalid count for top paid employees: {0}", count);
             throw new IllegalArgumentException("Count must be positive");
         }
-        List<Employee<T>> result = employeeList.stream()
-                .sorted((e1, e2) -> Double.compare(e2.getSalary(), e1.getSalary()))
-                .limit(count)
-                .collect(Collectors.toList());
-        LOGGER.log(Level.INFO, "Retrieved top {0} paid employees", count);
+        List<Employee<T>> result = count <= SalaryLeaderboard.CAPACITY ? fromLeaderboard(count) : null;
+        if (result == null) {
+            result = highestPaid(count);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Retrieved top {0} paid employees", count);
+        }
         return result;
     }
 
+    // Null when a concurrent removal took a member between reading the board and the store
+    private List<Employee<T>> fromLeaderboard(int count) {
+        SalaryLeaderboard<T> board = leaderboard;
+        List<T> ids = board != null ? board.highest(count) : null;
+        if (ids == null) {
+            ids = refillLeaderboard(count);
+        }
+        List<Employee<T>> result = new ArrayList<>(ids.size());
+        for (T employeeId : ids) {
+            Employee<T> employee = store.get(employeeId);
+            if (employee == null) {
+                return null;
+            }
+            result.add(employee);
+        }
+        return result;
+    }
+
+    private List<T> refillLeaderboard(int count) {
+        beginWrite();
+        try {
+            List<T> ids = leaderboard != null ? leaderboard.highest(count) : null;
+            if (ids == null) {
+                List<Employee<T>> highest = highestPaid(SalaryLeaderboard.CAPACITY);
+                leaderboard = new SalaryLeaderboard<>(highest, highest.size() < SalaryLeaderboard.CAPACITY);
+                ids = leaderboard.highest(count);
+            }
+            return ids;
+        } finally {
+            endWrite();
+        }
+    }
+
+    private List<Employee<T>> highestPaid(int count) {
+        return salaryIndex != null ? salaryIndex.highest(count) : store.highestPaid(count);
+    }
+
     public double getAverageDepartmentSalary(String department) throws InvalidDepartmentException {
         if (department == null || department.trim().isEmpty()) {
             LOGGER.log(Level.SEVERE, "Null or empty department provided");
             throw new InvalidDepartmentException("Department cannot be null or empty");
         }
         
-        List<Employee<T>> deptEmployees = getEmployeesByDepartment(department);
-        if (deptEmployees.isEmpty()) {
-            LOGGER.log(Level.INFO, "No employees found in department: {0}", department);
+        // Count and total are always current, so stale extremes do not matter here
+        DepartmentSalaryStats stats = aggregates().get(department);
+        if (stats.getCount() == 0) {
+            LOGGER.log(Level.FINE, "No employees found in department: {0}", department);
             return 0.0;
         }
-        
-        double average = deptEmployees.stream()
-            .mapToDouble(Employee::getSalary)
-            .average()
-            .orElse(0.0);
-            
-        LOGGER.log(Level.INFO, "Average salary for department {0}: {1}", 
-            new Object[]{department, average});
-        return Math.round(average * 100.0) / 100.0;
+        double average = stats.getAverage();
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Average salary for department {0}: {1}",
+                new Object[]{department, average});
+        }
+        return average;
+    }
+
+    /**
+     * Returns the salary count, total, average, minimum and maximum of a department, ignoring
+     * case. The first call totals every department; the totals are kept current from then
+     * on, so later calls take constant time. Minimum and maximum are recomputed from the
+     * department only after the salary holding one of them has left or moved inwards.
+     */
+    public DepartmentSalaryStats getDepartmentSalaryStats(String department) throws InvalidDepartmentException {
+        if (department == null || department.trim().isEmpty()) {
+            LOGGER.log(Level.SEVERE, "Null or empty department provided");
+            throw new InvalidDepartmentException("Department cannot be null or empty");
+        }
+        DepartmentSalaryStats stats = aggregates().get(department);
+        if (stats.extremesStale()) {
+            stats = refreshExtremes(department);
+        }
+        LOGGER.log(Level.FINE, "Salary statistics for department {0}: {1}", new Object[]{department, stats});
+        return stats;
+    }
+
+    private SalaryAggregates aggregates() {
+        SalaryAggregates aggregates = salaryAggregates;
+        return aggregates != null ? aggregates : buildSalaryAggregates();
+    }
+
+    private SalaryAggregates buildSalaryAggregates() {
+        beginWrite();
+        try {
+            if (salaryAggregates == null) {
+                SalaryAggregates aggregates = new SalaryAggregates(concurrent);
+                store.forEach(employee -> aggregates.add(employee.getDepartment(), employee.getSalary()));
+                salaryAggregates = aggregates;
+            }
+            return salaryAggregates;
+        } finally {
+            endWrite();
+        }
+    }
+
+    private DepartmentSalaryStats refreshExtremes(String department) {
+        beginWrite();
+        try {
+            DepartmentSalaryStats stats = salaryAggregates.get(department);
+            if (!stats.extremesStale()) {
+                return stats;
+            }
+            double min;
+            double max;
+            if (store.supportsColumnScans()) {
+                DepartmentSalaryStats scanned = scan(parallel -> store.salaryStats(department, parallel));
+                min = scanned.getMin();
+                max = scanned.getMax();
+            } else {
+                DoubleSummaryStatistics scanned = departmentIndex.get(department).stream()
+                    .mapToDouble(Employee::getSalary)
+                    .summaryStatistics();
+                min = scanned.getMin();
+                max = scanned.getMax();
+            }
+            salaryAggregates.setExtremes(department, min, max);
+            return salaryAggregates.get(department);
+        } finally {
+            endWrite();
+        }
+    }
+
+    // Write-side hooks; ConcurrentEmployeeDatabase serializes writers here
+    void lockWrites() {
+    }
+
+    void unlockWrites() {
+    }
+
+    private void beginWrite() {
+        lockWrites();
+        if (writeDepth++ == 0) {
+            uncommittedSequence = 0;
+        }
+    }
+
+    // Commits logged entries once the outermost write has released the lock
+    private void endWrite() {
+        long sequence = --writeDepth == 0 ? uncommittedSequence : 0;
+        unlockWrites();
+        if (sequence > 0) {
+            log.commit(sequence);
+        }
+    }
+
+    private boolean logging() {
+        return log != null && !logSuspended;
+    }
+
+    private static int logId(Employee<?> employee) {
+        return (Integer) employee.getEmployeeId();
+    }
+
+    // Forwards field changes on held employees to every secondary index and the store
+    private final class ChangeDispatcher implements EmployeeChangeListener<T> {
+        // Setters log after applying the change, so a log that cannot take it is refused up front
+        @Override
+        public void beginChange() {
+            beginWrite();
+            if (logging()) {
+                try {
+                    log.checkWritable();
+                } catch (RuntimeException e) {
+                    endWrite();
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void endChange() {
+            endWrite();
+        }
+
+        @Override
+        public boolean holds(Employee<T> employee) {
+            return store.holds(employee);
+        }
+
+        // Off-heap removal detaches only the view it returns, so an added original may still report changes
+        private boolean removed(Employee<T> employee) {
+            if (store.holds(employee)) {
+                return false;
+            }
+            employee.detach();
+            return true;
+        }
+
+        @Override
+        public void nameChanged(Employee<T> employee, String oldName) {
+            if (removed(employee)) {
+                return;
+            }
+            for (EmployeeIndex<T> index : indexes) {
+                index.nameChanged(employee, oldName);
+            }
+            if (nameIndex != null) {
+                nameIndex.nameChanged(employee, oldName);
+            }
+            if (nameTrie != null) {
+                nameTrie.rename(oldName, employee.getName());
+            }
+            if (fuzzyIndex != null) {
+                fuzzyIndex.rename(oldName, employee.getName(), employee.getEmployeeId());
+            }
+            store.nameChanged(employee, oldName);
+            if (logging()) {
+                uncommittedSequence = log.logString(WriteAheadLog.NAME, logId(employee), employee.getName());
+            }
+        }
+
+        @Override
+        public void departmentChanged(Employee<T> employee, String oldDepartment) {
+            if (removed(employee)) {
+                return;
+            }
+            for (EmployeeIndex<T> index : indexes) {
+                index.departmentChanged(employee, oldDepartment);
+            }
+            if (salaryAggregates != null) {
+                salaryAggregates.departmentChanged(oldDepartment, employee.getDepartment(), employee.getSalary());
+            }
+            store.departmentChanged(employee, oldDepartment);
+            if (logging()) {
+                uncommittedSequence = log.logString(WriteAheadLog.DEPARTMENT, logId(employee), employee.getDepartment());
+            }
+        }
+
+        @Override
+        public void salaryChanged(Employee<T> employee, double oldSalary) {
+            if (removed(employee)) {
+                return;
+            }
+            for (EmployeeIndex<T> index : indexes) {
+                index.salaryChanged(employee, oldSalary);
+            }
+            if (salaryAggregates != null) {
+                salaryAggregates.salaryChanged(employee.getDepartment(), oldSalary, employee.getSalary());
+            }
+            if (leaderboard != null) {
+                leaderboard.salaryChanged(employee);
+            }
+            for (SortedEmployeeView<T> view : sortedViews) {
+                view.salaryChanged(employee, oldSalary);
+            }
+            store.salaryChanged(employee, oldSalary);
+            if (logging()) {
+                uncommittedSequence = log.logDouble(WriteAheadLog.SALARY, logId(employee), employee.getSalary());
+            }
+        }
+
+        @Override
+        public void performanceRatingChanged(Employee<T> employee, double oldRating) {
+            if (removed(employee)) {
+                return;
+            }
+            for (EmployeeIndex<T> index : indexes) {
+                index.performanceRatingChanged(employee, oldRating);
+            }
+            for (SortedEmployeeView<T> view : sortedViews) {
+                view.performanceRatingChanged(employee, oldRating);
+            }
+            store.performanceRatingChanged(employee, oldRating);
+            if (logging()) {
+                uncommittedSequence = log.logDouble(WriteAheadLog.RATING, logId(employee),
+                    employee.getPerformanceRating());
+            }
+        }
+
+        @Override
+        public void yearsOfExperienceChanged(Employee<T> employee, int oldYears) {
+            if (removed(employee)) {
+                return;
+            }
+            for (EmployeeIndex<T> index : indexes) {
+                index.yearsOfExperienceChanged(employee, oldYears);
+            }
+            for (SortedEmployeeView<T> view : sortedViews) {
+                view.yearsOfExperienceChanged(employee, oldYears);
+            }
+            store.yearsOfExperienceChanged(employee, oldYears);
+            if (logging()) {
+                uncommittedSequence = log.logInt(WriteAheadLog.YEARS, logId(employee), employee.getYearsOfExperience());
+            }
+        }
+
+        @Override
+        public void activeChanged(Employee<T> employee, boolean wasActive) {
+            if (removed(employee)) {
+                return;
+            }
+            store.activeChanged(employee, wasActive);
+            if (logging()) {
+                uncommittedSequence = log.logActive(logId(employee), employee.isActive());
+            }
+        }
+    }
+
+    // Applies replayed log entries through the public API; the IDs are Integers by construction
+    @SuppressWarnings("unchecked")
+    private final class LogReplayer implements WriteAheadLog.Replayer {
+        // Non-null while the additions of a logged batch are collected
+        private List<Employee<T>> batch;
+
+        @Override
+        public void added(int id, String name, String department, double salary, double rating, int years,
+                          boolean active) throws Exception {
+            Employee<T> employee = new Employee<>((T) Integer.valueOf(id), name, department, salary, rating, years);
+            employee.setActive(active);
+            if (batch != null) {
+                batch.add(employee);
+            } else {
+                addEmployee(employee);
+            }
+        }
+
+        @Override
+        public void batchStarted(int count) {
+            batch = new ArrayList<>(count);
+        }
+
+        @Override
+        public void batchFinished() {
+            addEmployees(batch);
+            batch = null;
+        }
+
+        @Override
+        public void removed(int id) throws Exception {
+            removeEmployee((T) Integer.valueOf(id));
+        }
+
+        @Override
+        public void nameSet(int id, String name) throws Exception {
+            getEmployee((T) Integer.valueOf(id)).setName(name);
+        }
+
+        @Override
+        public void departmentSet(int id, String department) throws Exception {
+            getEmployee((T) Integer.valueOf(id)).setDepartment(department);
+        }
+
+        @Override
+        public void salarySet(int id, double salary) throws Exception {
+            getEmployee((T) Integer.valueOf(id)).setSalary(salary);
+        }
+
+        @Override
+        public void ratingSet(int id, double rating) throws Exception {
+            getEmployee((T) Integer.valueOf(id)).setPerformanceRating(rating);
+        }
+
+        @Override
+        public void yearsSet(int id, int years) throws Exception {
+            getEmployee((T) Integer.valueOf(id)).setYearsOfExperience(years);
+        }
+
+        @Override
+        public void activeSet(int id, boolean active) throws Exception {
+            getEmployee((T) Integer.valueOf(id)).setActive(active);
+        }
+
+        @Override
+        public void raiseGiven(double percentage, double minRating) throws Exception {
+            try {
+                giveSalaryRaise(percentage, minRating);
+            } catch (RuntimeException e) {
+                // The original raise stopped at the same employee, so the state still matches
+                LOGGER.log(Level.WARNING, "Replayed salary raise failed part way, as it did when logged", e);
+            }
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,382 @@
+package com.example.employeemanagement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes employees to a channel as CSV or JSON Lines. Each employee is encoded straight into
+ * one reusable buffer, which is flushed whenever it fills, so exporting the whole database
+ * neither copies it nor builds a String per row. Output reads back with
+ * {@link EmployeeCsvImporter} or {@link ParallelEmployeeImporter}, IDs included.
+ *
+ * <p>Filtered exports take any query result, e.g.
+ * {@code exporter.export(database.getEmployeesByDepartment("IT"), channel)}, or a predicate
+ * applied while walking the database. Not thread-safe.
+ */
+public final class EmployeeExporter {
+    private static final Logger LOGGER = Logger.getLogger(EmployeeExporter.class.getName());
+    static final int BUFFER_BYTES = 64 << 10;
+    static final String CSV_HEADER = "id,name,department,salary,performanceRating,yearsOfExperience,active\n";
+    // Room for any single number, literal or escaped character
+    private static final int MAX_TOKEN_BYTES = 32;
+    private static final byte[] DIGIT_PAIRS = digitPairs();
+
+    private final EmployeeFileFormat format;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private WritableByteChannel channel;
+
+    public EmployeeExporter(EmployeeFileFormat format) {
+        this(format, BUFFER_BYTES);
+    }
+
+    EmployeeExporter(EmployeeFileFormat format, int bufferBytes) {
+        if (format == null) {
+            LOGGER.log(Level.SEVERE, "Null export format provided");
+            throw new IllegalArgumentException("Export format cannot be null");
+        }
+        if (bufferBytes < MAX_TOKEN_BYTES) {
+            throw new IllegalArgumentException("Buffer must hold at least " + MAX_TOKEN_BYTES + " bytes");
+        }
+        this.format = format;
+        this.buffer = ByteBuffer.allocate(bufferBytes);
+        this.bytes = buffer.array();
+    }
+
+    /**
+     * Writes every employee in the database to the file, replacing it.
+     *
+     * @return the number of employees written
+     */
+    public <T> long exportFile(EmployeeDatabase<T> database, Path file) throws IOException {
+        if (file == null) {
+            LOGGER.log(Level.SEVERE, "Null export path provided");
+            throw new IllegalArgumentException("Export path cannot be null");
+        }
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long count = export(database, employee -> true, out);
+            LOGGER.log(Level.INFO, "Exported {0} employees to {1}", new Object[]{count, file});
+            return count;
+        }
+    }
+
+    /**
+     * Writes the employees in the database that match the filter, walking the database in
+     * place. The channel is left open.
+     *
+     * @return the number of employees written
+     */
+    public <T> long export(EmployeeDatabase<T> database, Predicate<? super Employee<T>> filter,
+                           WritableByteChannel channel) throws IOException {
+        if (database == null) {
+            LOGGER.log(Level.SEVERE, "Null database provided");
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        if (filter == null) {
+            LOGGER.log(Level.SEVERE, "Null export filter provided");
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        start(channel);
+        long[] count = new long[1];
+        try {
+            database.forEachEmployee(employee -> {
+                if (filter.test(employee)) {
+                    writeUnchecked(employee);
+                    count[0]++;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        finish();
+        return count[0];
+    }
+
+    /**
+     * Writes the given employees, typically the result of one of {@link EmployeeDatabase}'s
+     * queries. The channel is left open.
+     *
+     * @return the number of employees written
+     */
+    public long export(Iterable<? extends Employee<?>> employees, WritableByteChannel channel) throws IOException {
+        if (employees == null) {
+            LOGGER.log(Level.SEVERE, "Null employees provided for export");
+            throw new IllegalArgumentException("Employees cannot be null");
+        }
+        start(channel);
+        long count = 0;
+        for (Employee<?> employee : employees) {
+            write(employee);
+            count++;
+        }
+        finish();
+        return count;
+    }
+
+    private void start(WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            LOGGER.log(Level.SEVERE, "Null export channel provided");
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.channel = channel;
+        buffer.clear();
+        if (format == EmployeeFileFormat.CSV) {
+            writeAscii(CSV_HEADER);
+        }
+    }
+
+    private void finish() throws IOException {
+        flush();
+        channel = null;
+    }
+
+    private void writeUnchecked(Employee<?> employee) {
+        try {
+            write(employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Employee<?> employee) throws IOException {
+        if (format == EmployeeFileFormat.CSV) {
+            writeCsv(employee);
+        } else {
+            writeJson(employee);
+        }
+    }
+
+    private void writeCsv(Employee<?> employee) throws IOException {
+        writeId(employee.getEmployeeId(), false);
+        writeByte(',');
+        writeCsvText(employee.getName());
+        writeByte(',');
+        writeCsvText(employee.getDepartment());
+        writeByte(',');
+        writeDouble(employee.getSalary());
+        writeByte(',');
+        writeDouble(employee.getPerformanceRating());
+        writeByte(',');
+        writeInt(employee.getYearsOfExperience());
+        writeByte(',');
+        writeAscii(employee.isActive() ? "true" : "false");
+        writeByte('\n');
+    }
+
+    private void writeJson(Employee<?> employee) throws IOException {
+        writeAscii("{\"id\":");
+        writeId(employee.getEmployeeId(), true);
+        writeAscii(",\"name\":");
+        writeJsonText(employee.getName());
+        writeAscii(",\"department\":");
+        writeJsonText(employee.getDepartment());
+        writeAscii(",\"salary\":");
+        writeDouble(employee.getSalary());
+        writeAscii(",\"performanceRating\":");
+        writeDouble(employee.getPerformanceRating());
+        writeAscii(",\"yearsOfExperience\":");
+        writeInt(employee.getYearsOfExperience());
+        writeAscii(employee.isActive() ? ",\"active\":true}\n" : ",\"active\":false}\n");
+    }
+
+    // Integer IDs are written as numbers; any other ID type as text
+    private void writeId(Object id, boolean json) throws IOException {
+        if (id instanceof Integer || id instanceof Long) {
+            writeLong(((Number) id).longValue());
+        } else if (json) {
+            writeJsonText(String.valueOf(id));
+        } else {
+            writeCsvText(String.valueOf(id));
+        }
+    }
+
+    private void writeCsvText(String text) throws IOException {
+        if (!needsCsvQuotes(text)) {
+            writeText(text, false);
+            return;
+        }
+        writeByte('"');
+        writeText(text, false);
+        writeByte('"');
+    }
+
+    // The importer trims unquoted fields and splits on commas, quotes and newlines
+    private static boolean needsCsvQuotes(String text) {
+        int length = text.length();
+        if (length > 0 && (text.charAt(0) <= ' ' || text.charAt(length - 1) <= ' ')) {
+            return true;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeJsonText(String text) throws IOException {
+        writeByte('"');
+        writeText(text, true);
+        writeByte('"');
+    }
+
+    // Encodes UTF-8 by hand; in CSV mode quotes are doubled, in JSON mode escaped
+    private void writeText(String text, boolean json) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            ensure(MAX_TOKEN_BYTES);
+            int at = buffer.position();
+            char c = text.charAt(i);
+            if (c == '"') {
+                bytes[at++] = json ? (byte) '\\' : (byte) '"';
+                bytes[at++] = '"';
+            } else if (json && (c == '\\' || c < ' ')) {
+                at = writeJsonEscape(c, at);
+            } else if (c < 0x80) {
+                bytes[at++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[at++] = (byte) (0xC0 | (c >> 6));
+                bytes[at++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                bytes[at++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[at++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[at++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[at++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                bytes[at++] = '?';
+            } else {
+                bytes[at++] = (byte) (0xE0 | (c >> 12));
+                bytes[at++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[at++] = (byte) (0x80 | (c & 0x3F));
+            }
+            buffer.position(at);
+        }
+    }
+
+    private int writeJsonEscape(char c, int at) {
+        bytes[at++] = '\\';
+        switch (c) {
+            case '\\' -> bytes[at++] = '\\';
+            case '\n' -> bytes[at++] = 'n';
+            case '\r' -> bytes[at++] = 'r';
+            case '\t' -> bytes[at++] = 't';
+            case '\b' -> bytes[at++] = 'b';
+            case '\f' -> bytes[at++] = 'f';
+            default -> {
+                bytes[at++] = 'u';
+                bytes[at++] = '0';
+                bytes[at++] = '0';
+                bytes[at++] = (byte) Character.forDigit(c >> 4, 16);
+                bytes[at++] = (byte) Character.forDigit(c & 0xF, 16);
+            }
+        }
+        return at;
+    }
+
+    /**
+     * Writes values with at most two decimals, which covers salaries and ratings, as scaled
+     * integers; the importer parses them back to the same double. Anything else falls back to
+     * {@link Double#toString}.
+     */
+    private void writeDouble(double value) throws IOException {
+        double scaled = value * 100;
+        if (Math.abs(scaled) < 1e17) {
+            long cents = Math.round(scaled);
+            if (cents / 100.0 == value) {
+                if (cents < 0) {
+                    writeByte('-');
+                    cents = -cents;
+                }
+                writeLong(cents / 100);
+                int fraction = (int) (cents % 100);
+                if (fraction != 0) {
+                    writeByte('.');
+                    if (fraction % 10 == 0) {
+                        writeByte('0' + fraction / 10);
+                    } else {
+                        ensure(2);
+                        buffer.put(DIGIT_PAIRS, fraction * 2, 2);
+                    }
+                }
+                return;
+            }
+        }
+        writeAscii(Double.toString(value));
+    }
+
+    private void writeInt(int value) throws IOException {
+        writeLong(value);
+    }
+
+    private void writeLong(long value) throws IOException {
+        ensure(MAX_TOKEN_BYTES);
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        int at = buffer.position();
+        if (value < 0) {
+            bytes[at++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int end = at + digits;
+        for (int i = end - 1; i >= at; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    private void writeAscii(String text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            writeByte(text.charAt(i));
+        }
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        buffer.put((byte) b);
+    }
+
+    private void ensure(int room) throws IOException {
+        if (buffer.remaining() < room) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte[] digitPairs() {
+        byte[] pairs = new byte[200];
+        for (int i = 0; i < 100; i++) {
+            pairs[i * 2] = (byte) ('0' + i / 10);
+            pairs[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.employeemanagement;
+
+/**
+ * File formats for bulk import with {@link ParallelEmployeeImporter} and export with
+ * {@link EmployeeExporter}.
+ */
+public enum EmployeeFileFormat {
+    /** Comma-separated values with a header row; see {@link EmployeeCsvImporter}. */
+    CSV,
+    /** One JSON object per line, with keys named like {@link Employee}'s properties. */
+    JSON_LINES
+}
@@ -0,0 +1,20 @@
+package com.example.employeemanagement;
+
+import java.util.List;
+
+/**
+ * A secondary index maintained by {@link EmployeeDatabase}. Indexes are told about every
+ * employee that enters or leaves the database and about field changes on those employees.
+ */
+interface EmployeeIndex<T> extends EmployeeChangeListener<T> {
+    void add(Employee<T> employee);
+
+    // Adds a batch of new employees, in insertion order
+    default void addAll(List<Employee<T>> employees) {
+        for (Employee<T> employee : employees) {
+            add(employee);
+        }
+    }
+
+    void remove(Employee<T> employee);
+}
@@ -0,0 +1,308 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parses one JSON Lines record, a single JSON object, into an {@link EmployeeRecord}. The keys
+ * {@code name}, {@code department} and {@code salary} are required; {@code id},
+ * {@code performanceRating}, {@code yearsOfExperience} and {@code active} are optional, and
+ * other keys are skipped whatever their value. Keys are matched as bytes and numbers parsed
+ * in place. Not thread-safe.
+ */
+final class EmployeeJsonParser implements EmployeeRecordParser {
+    private static final byte[] ID = ascii("id");
+    private static final byte[] NAME = ascii("name");
+    private static final byte[] DEPARTMENT = ascii("department");
+    private static final byte[] SALARY = ascii("salary");
+    private static final byte[] PERFORMANCE_RATING = ascii("performanceRating");
+    private static final byte[] YEARS_OF_EXPERIENCE = ascii("yearsOfExperience");
+    private static final byte[] ACTIVE = ascii("active");
+
+    private byte[] bytes;
+    private int recordStart;
+    private int position;
+    private int end;
+
+    @Override
+    public EmployeeRecord parseRecord(byte[] bytes, int from, int to)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        this.bytes = bytes;
+        this.recordStart = from;
+        this.position = from;
+        this.end = to;
+        Integer id = null;
+        String name = null;
+        String department = null;
+        double salary = Double.NaN;
+        double rating = 0.0;
+        int years = 0;
+        boolean active = true;
+
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+        } else {
+            while (true) {
+                skipWhitespace();
+                int keyStart = position + 1;
+                skipString();
+                int keyEnd = position - 1;
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                if (peekLiteral("null")) {
+                    position += 4;
+                } else if (isKey(keyStart, keyEnd, ID)) {
+                    id = readInt("id");
+                } else if (isKey(keyStart, keyEnd, NAME)) {
+                    name = readString();
+                } else if (isKey(keyStart, keyEnd, DEPARTMENT)) {
+                    department = readString();
+                } else if (isKey(keyStart, keyEnd, SALARY)) {
+                    salary = readDouble("salary");
+                } else if (isKey(keyStart, keyEnd, PERFORMANCE_RATING)) {
+                    rating = readDouble("performanceRating");
+                } else if (isKey(keyStart, keyEnd, YEARS_OF_EXPERIENCE)) {
+                    years = readInt("yearsOfExperience");
+                } else if (isKey(keyStart, keyEnd, ACTIVE)) {
+                    active = readBoolean();
+                } else {
+                    skipValue();
+                }
+                skipWhitespace();
+                byte next = next();
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    throw malformed("Expected ',' or '}'");
+                }
+            }
+        }
+        skipWhitespace();
+        if (position != end) {
+            throw malformed("Unexpected content after object");
+        }
+        if (Double.isNaN(salary)) {
+            throw new IllegalArgumentException("Missing salary");
+        }
+        return new EmployeeRecord(id, name, department, salary, rating, years, active);
+    }
+
+    private boolean isKey(int keyStart, int keyEnd, byte[] key) {
+        return Arrays.equals(bytes, keyStart, keyEnd, key, 0, key.length);
+    }
+
+    private String readString() {
+        if (peek() != '"') {
+            throw malformed("Expected a string");
+        }
+        int textStart = ++position;
+        while (position < end) {
+            byte b = bytes[position];
+            if (b == '"') {
+                position++;
+                return new String(bytes, textStart, position - 1 - textStart, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                return readEscapedString(textStart);
+            }
+            position++;
+        }
+        throw malformed("Unterminated string");
+    }
+
+    // Slow path for strings with escapes; the unescaped prefix runs from textStart to position
+    private String readEscapedString(int textStart) {
+        StringBuilder text = new StringBuilder(
+                new String(bytes, textStart, position - textStart, StandardCharsets.UTF_8));
+        int run = position;
+        while (position < end) {
+            byte b = bytes[position];
+            if (b == '"') {
+                text.append(new String(bytes, run, position - run, StandardCharsets.UTF_8));
+                position++;
+                return text.toString();
+            }
+            if (b != '\\') {
+                position++;
+                continue;
+            }
+            text.append(new String(bytes, run, position - run, StandardCharsets.UTF_8));
+            if (position + 1 >= end) {
+                break;
+            }
+            byte escaped = bytes[position + 1];
+            position += 2;
+            switch (escaped) {
+                case '"' -> text.append('"');
+                case '\\' -> text.append('\\');
+                case '/' -> text.append('/');
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> {
+                    if (position + 4 > end) {
+                        throw malformed("Truncated unicode escape");
+                    }
+                    try {
+                        text.append((char) Integer.parseInt(
+                                new String(bytes, position, 4, StandardCharsets.US_ASCII), 16));
+                    } catch (NumberFormatException e) {
+                        throw malformed("Invalid unicode escape");
+                    }
+                    position += 4;
+                }
+                default -> throw malformed("Invalid escape");
+            }
+            run = position;
+        }
+        throw malformed("Unterminated string");
+    }
+
+    private double readDouble(String field) {
+        int numberStart = position;
+        skipNumber();
+        try {
+            return AsciiNumbers.parseDouble(bytes, numberStart, position);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Invalid " + field + ": '" + AsciiNumbers.text(bytes, numberStart, position) + "'");
+        }
+    }
+
+    private int readInt(String field) {
+        int numberStart = position;
+        skipNumber();
+        try {
+            return AsciiNumbers.parseInt(bytes, numberStart, position);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    "Invalid " + field + ": '" + AsciiNumbers.text(bytes, numberStart, position) + "'");
+        }
+    }
+
+    private boolean readBoolean() {
+        if (peekLiteral("true")) {
+            position += 4;
+            return true;
+        }
+        if (peekLiteral("false")) {
+            position += 5;
+            return false;
+        }
+        throw malformed("Expected true or false");
+    }
+
+    private void skipNumber() {
+        while (position < end) {
+            byte b = bytes[position];
+            if ((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                position++;
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void skipString() {
+        if (peek() != '"') {
+            throw malformed("Expected a string");
+        }
+        position++;
+        while (position < end) {
+            byte b = bytes[position++];
+            if (b == '\\') {
+                position++;
+            } else if (b == '"') {
+                return;
+            }
+        }
+        throw malformed("Unterminated string");
+    }
+
+    // Skips any value, nested objects and arrays included
+    private void skipValue() {
+        int depth = 0;
+        do {
+            skipWhitespace();
+            byte b = peek();
+            if (b == '"') {
+                skipString();
+            } else if (b == '{' || b == '[') {
+                depth++;
+                position++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+                position++;
+            } else if (b == ',' || b == ':') {
+                position++;
+            } else {
+                int valueStart = position;
+                while (position < end && bytes[position] != ',' && bytes[position] != '}'
+                        && bytes[position] != ']' && bytes[position] > ' ') {
+                    position++;
+                }
+                if (position == valueStart) {
+                    throw malformed("Expected a value");
+                }
+            }
+        } while (depth > 0);
+    }
+
+    private boolean peekLiteral(String literal) {
+        int length = literal.length();
+        if (end - position < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[position + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            byte b = bytes[position];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private byte peek() {
+        if (position >= end) {
+            throw malformed("Unexpected end of record");
+        }
+        return bytes[position];
+    }
+
+    private byte next() {
+        byte b = peek();
+        position++;
+        return b;
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw malformed("Expected '" + expected + "'");
+        }
+    }
+
+    private IllegalArgumentException malformed(String problem) {
+        return new IllegalArgumentException("Malformed JSON: " + problem + " at offset " + (position - recordStart));
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
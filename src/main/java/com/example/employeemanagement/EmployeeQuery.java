@@ -0,0 +1,154 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.util.List;
+
+/**
+ * Combines filters on an {@link EmployeeDatabase} with an optional order and limit, for
+ * example {@code db.query().inDepartment("IT").minRating(4).sortBy(Sort.SALARY).limit(10).list()}.
+ * Each run lets the database read the most selective index it has for one of the filters,
+ * or scan, and checks the other filters on the employees that produces. Results without a
+ * sort come in insertion order. Not thread-safe; a query may be run again after changing it.
+ */
+public final class EmployeeQuery<T> {
+    /** Sort orders, matching the database's sortBy methods. */
+    public enum Sort {
+        EXPERIENCE(SortedEmployeeView.Key.EXPERIENCE),
+        SALARY(SortedEmployeeView.Key.SALARY),
+        PERFORMANCE(SortedEmployeeView.Key.PERFORMANCE);
+
+        final SortedEmployeeView.Key key;
+
+        Sort(SortedEmployeeView.Key key) {
+            this.key = key;
+        }
+    }
+
+    // Where a run reads its candidates from
+    enum Access {
+        SCAN(null),
+        DEPARTMENT(null),
+        NAME(null),
+        SALARY(SortedEmployeeView.Key.SALARY),
+        PERFORMANCE(SortedEmployeeView.Key.PERFORMANCE),
+        EXPERIENCE(SortedEmployeeView.Key.EXPERIENCE);
+
+        // The sorted view read, in whose order candidates arrive; null for insertion order
+        final SortedEmployeeView.Key key;
+
+        Access(SortedEmployeeView.Key key) {
+            this.key = key;
+        }
+    }
+
+    private final EmployeeDatabase<T> database;
+    // Normalized; null when not filtered on
+    String department;
+    String nameTerm;
+    double minSalary = Double.NEGATIVE_INFINITY;
+    double maxSalary = Double.POSITIVE_INFINITY;
+    double minRating = Double.NEGATIVE_INFINITY;
+    int minExperience = Integer.MIN_VALUE;
+    Boolean active;
+    Sort sort;
+    int limit = Integer.MAX_VALUE;
+
+    EmployeeQuery(EmployeeDatabase<T> database) {
+        this.database = database;
+    }
+
+    public EmployeeQuery<T> inDepartment(String department) throws InvalidDepartmentException {
+        if (department == null || department.trim().isEmpty()) {
+            throw new InvalidDepartmentException("Department cannot be null or empty");
+        }
+        this.department = DepartmentIndex.normalize(department);
+        return this;
+    }
+
+    /** Keeps employees whose name contains the term, ignoring case. */
+    public EmployeeQuery<T> nameContains(String term) {
+        if (term == null || term.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search term cannot be null or empty");
+        }
+        this.nameTerm = TrigramIndex.normalize(term);
+        return this;
+    }
+
+    public EmployeeQuery<T> salaryBetween(double minSalary, double maxSalary) throws InvalidSalaryException {
+        if (minSalary < 0 || maxSalary < 0) {
+            throw new InvalidSalaryException("Salary range cannot be negative");
+        }
+        if (minSalary > maxSalary) {
+            throw new IllegalArgumentException("Minimum salary cannot be greater than maximum salary");
+        }
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        return this;
+    }
+
+    public EmployeeQuery<T> minRating(double minRating) {
+        if (minRating < 0 || minRating > 5) {
+            throw new IllegalArgumentException("Rating must be between 0 and 5");
+        }
+        this.minRating = minRating;
+        return this;
+    }
+
+    public EmployeeQuery<T> minExperience(int years) {
+        if (years < 0) {
+            throw new IllegalArgumentException("Years of experience cannot be negative");
+        }
+        this.minExperience = years;
+        return this;
+    }
+
+    public EmployeeQuery<T> active(boolean active) {
+        this.active = active;
+        return this;
+    }
+
+    public EmployeeQuery<T> sortBy(Sort sort) {
+        if (sort == null) {
+            throw new IllegalArgumentException("Sort cannot be null");
+        }
+        this.sort = sort;
+        return this;
+    }
+
+    public EmployeeQuery<T> limit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    public List<Employee<T>> list() {
+        return database.execute(this);
+    }
+
+    // The access path the next run would take
+    Access plan() {
+        return database.plan(this);
+    }
+
+    boolean hasSalaryRange() {
+        return minSalary != Double.NEGATIVE_INFINITY || maxSalary != Double.POSITIVE_INFINITY;
+    }
+
+    // Cheapest checks first; name last, as it lowercases
+    boolean matches(Employee<T> employee) {
+        double salary = employee.getSalary();
+        if (salary < minSalary || salary > maxSalary
+                || employee.getPerformanceRating() < minRating
+                || employee.getYearsOfExperience() < minExperience
+                || (active != null && employee.isActive() != active)) {
+            return false;
+        }
+        if (department != null && !DepartmentIndex.normalize(employee.getDepartment()).equals(department)) {
+            return false;
+        }
+        String name = employee.getName();
+        return nameTerm == null || (name != null && TrigramIndex.normalize(name).contains(nameTerm));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.util.function.Supplier;
+
+/**
+ * An imported employee's fields, validated but not yet turned into an {@link Employee}. Parsers
+ * produce these so that, when the input carries no IDs, IDs can be handed out later in input
+ * order, however the parsing was spread across threads.
+ */
+final class EmployeeRecord {
+    // Null when the database is to allocate the ID
+    private final Integer id;
+    private final String name;
+    private final String department;
+    private final double salary;
+    private final double performanceRating;
+    private final int yearsOfExperience;
+    private final boolean active;
+
+    /**
+     * @throws IllegalArgumentException when the name, rating or years of experience are invalid
+     */
+    EmployeeRecord(Integer id, String name, String department, double salary, double performanceRating,
+                   int yearsOfExperience, boolean active) throws InvalidSalaryException, InvalidDepartmentException {
+        Employee.validateFields(name, department, salary);
+        if (performanceRating < 0 || performanceRating > 5) {
+            throw new IllegalArgumentException("Rating must be between 0 and 5");
+        }
+        if (yearsOfExperience < 0) {
+            throw new IllegalArgumentException("Years of experience cannot be negative");
+        }
+        this.id = id;
+        this.name = name;
+        this.department = department;
+        this.salary = salary;
+        this.performanceRating = performanceRating;
+        this.yearsOfExperience = yearsOfExperience;
+        this.active = active;
+    }
+
+    Employee<Integer> toEmployee(Supplier<Integer> ids) {
+        try {
+            Employee<Integer> employee = new Employee<>(id != null ? id : ids.get(), name, department, salary,
+                    performanceRating, yearsOfExperience);
+            if (!active) {
+                employee.setActive(false);
+            }
+            return employee;
+        } catch (InvalidSalaryException | InvalidDepartmentException e) {
+            throw new IllegalStateException("Record was validated when it was parsed", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+
+/**
+ * Parses one input record, given as a byte range without its line terminator, into a
+ * validated {@link EmployeeRecord}. Parsers keep scratch state and are not thread-safe.
+ */
+interface EmployeeRecordParser {
+    /**
+     * @throws IllegalArgumentException when the record is malformed or a field is invalid
+     */
+    EmployeeRecord parseRecord(byte[] bytes, int from, int to)
+            throws InvalidSalaryException, InvalidDepartmentException;
+}
@@ -0,0 +1,360 @@
+package com.example.employeemanagement;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import static com.example.employeemanagement.OffHeapEmployeeStore.*;
+
+/**
+ * Binary snapshot of an employee database. The file is a fixed header followed by three
+ * sections: employee rows in the {@link OffHeapEmployeeStore} row layout, the UTF-8 name bytes
+ * the rows point into, and the department names. Opening a snapshot maps the rows and names
+ * instead of parsing them, so an off-heap store can serve queries straight from the file.
+ *
+ * <pre>
+ * 0  magic "EMSSNAP1"            40 highest ID (int)
+ * 8  format version (int)        44 CRC32C of the rows (int)
+ * 12 row size (int)              48 department section size (long)
+ * 16 row count (int)             56 CRC32C of names and departments (int)
+ * 20 department count (int)      60 reserved (int)
+ * 24 name section size (long)    64 last write-ahead log sequence included (long)
+ * 32 next sequence (long)        72 reserved (int)
+ *                                76 CRC32C of header bytes 0-75 (int)
+ * </pre>
+ */
+final class EmployeeSnapshot {
+    private static final Logger LOGGER = Logger.getLogger(EmployeeSnapshot.class.getName());
+    private static final long MAGIC = 0x454D53534E415031L; // "EMSSNAP1"
+    // Version 2 added the write-ahead log sequence
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_BYTES = 80;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private final List<ByteBuffer> rowChunks;
+    private final ByteBuffer names;
+    private final List<String> departments;
+    private final int rowCount;
+    private final int maxId;
+    private final long nextSequence;
+    private final long logSequence;
+
+    private EmployeeSnapshot(List<ByteBuffer> rowChunks, ByteBuffer names, List<String> departments,
+                             int rowCount, int maxId, long nextSequence, long logSequence) {
+        this.rowChunks = rowChunks;
+        this.names = names;
+        this.departments = departments;
+        this.rowCount = rowCount;
+        this.maxId = maxId;
+        this.nextSequence = nextSequence;
+        this.logSequence = logSequence;
+    }
+
+    // Read-only mappings; the store copies a chunk before changing any row in it
+    List<ByteBuffer> rowChunks() { return rowChunks; }
+    ByteBuffer names() { return names; }
+    List<String> departments() { return departments; }
+    int rowCount() { return rowCount; }
+    int maxId() { return maxId; }
+    long nextSequence() { return nextSequence; }
+    long logSequence() { return logSequence; }
+
+    /**
+     * Writes the employees in list order, recording the last write-ahead log entry they
+     * include. The snapshot is written to a sibling temporary file and moved into place, so a
+     * crash never leaves a torn snapshot behind.
+     */
+    static <T> void write(Path file, List<Employee<T>> employees, long nextSequence, long logSequence)
+            throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Map<String, Short> departmentCodes = new LinkedHashMap<>();
+        CRC32C rowChecksum = new CRC32C();
+        CRC32C nameChecksum = new CRC32C();
+        int rowCount = employees.size();
+        int maxId = 0;
+        long nameBytes = 0;
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Rows and names are streamed side by side; the name section starts after the last row
+            long rowPosition = HEADER_BYTES;
+            long namesStart = HEADER_BYTES + (long) rowCount * ROW_BYTES;
+            ByteBuffer rows = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES - WRITE_BUFFER_BYTES % ROW_BYTES);
+            ByteBuffer names = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            long namePosition = namesStart;
+            for (Employee<T> employee : employees) {
+                if (!(employee.getEmployeeId() instanceof Integer id)) {
+                    throw new IllegalArgumentException("Snapshots require Integer employee IDs");
+                }
+                byte[] name = employee.getName().getBytes(StandardCharsets.UTF_8);
+                if (nameBytes + name.length > Integer.MAX_VALUE) {
+                    throw new IOException("Employee names exceed the snapshot name section limit");
+                }
+                if (!rows.hasRemaining()) {
+                    rowPosition += drain(rows, channel, rowPosition, rowChecksum);
+                }
+                int at = rows.position();
+                rows.putInt(at + ID, id)
+                        .putInt(at + YEARS, employee.getYearsOfExperience())
+                        .putDouble(at + SALARY, employee.getSalary())
+                        .putDouble(at + RATING, employee.getPerformanceRating())
+                        .putLong(at + SEQUENCE, employee.getSequence())
+                        .putLong(at + NAME_REFERENCE, nameBytes)
+                        .putInt(at + NAME_LENGTH, name.length)
+                        .putShort(at + DEPARTMENT, departmentCodes.computeIfAbsent(
+                                employee.getDepartment(), d -> (short) departmentCodes.size()))
+                        .put(at + ACTIVE, (byte) (employee.isActive() ? 1 : 0))
+                        .put(at + LIVE, (byte) 1);
+                rows.position(at + ROW_BYTES);
+                for (int written = 0; written < name.length; ) {
+                    if (!names.hasRemaining()) {
+                        namePosition += drain(names, channel, namePosition, nameChecksum);
+                    }
+                    int length = Math.min(names.remaining(), name.length - written);
+                    names.put(name, written, length);
+                    written += length;
+                }
+                nameBytes += name.length;
+                maxId = Math.max(maxId, id);
+            }
+            if (rowPosition + rows.position() != namesStart) {
+                throw new IllegalStateException("Employee list changed while writing the snapshot");
+            }
+            drain(rows, channel, rowPosition, rowChecksum);
+            namePosition += drain(names, channel, namePosition, nameChecksum);
+
+            ByteBuffer departments = encodeDepartments(departmentCodes.keySet());
+            int departmentBytes = departments.position();
+            drain(departments, channel, namePosition, nameChecksum);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putLong(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(ROW_BYTES)
+                    .putInt(rowCount)
+                    .putInt(departmentCodes.size())
+                    .putLong(nameBytes)
+                    .putLong(nextSequence)
+                    .putInt(maxId)
+                    .putInt((int) rowChecksum.getValue())
+                    .putLong(departmentBytes)
+                    .putInt((int) nameChecksum.getValue())
+                    .putInt(0)
+                    .putLong(logSequence)
+                    .putInt(0);
+            header.putInt(headerChecksum(header));
+            drain(header, channel, 0, new CRC32C());
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        LOGGER.log(Level.INFO, "Wrote snapshot of {0} employees to {1}", new Object[]{rowCount, file});
+    }
+
+    /**
+     * Maps a snapshot written by {@link #write}. Only the header and department names are read
+     * onto the heap; the checksum is verified over the mapped sections.
+     */
+    static EmployeeSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            if (header.hasRemaining() || header.flip().getLong() != MAGIC) {
+                throw new IOException("Not an employee snapshot: " + file);
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + file);
+            }
+            int rowBytes = header.getInt();
+            int rowCount = header.getInt();
+            int departmentCount = header.getInt();
+            long nameBytes = header.getLong();
+            long nextSequence = header.getLong();
+            int maxId = header.getInt();
+            int expectedRowChecksum = header.getInt();
+            long departmentBytes = header.getLong();
+            int expectedNameChecksum = header.getInt();
+            header.getInt();
+            long logSequence = header.getLong();
+            header.getInt();
+            int expectedHeaderChecksum = header.getInt();
+            if (headerChecksum(header.position(HEADER_BYTES - Integer.BYTES)) != expectedHeaderChecksum) {
+                throw new IOException("Snapshot header checksum mismatch in " + file);
+            }
+            long rowsEnd = HEADER_BYTES + (long) rowCount * ROW_BYTES;
+            if (rowBytes != ROW_BYTES || rowCount < 0 || departmentCount < 0 || nameBytes < 0
+                    || nameBytes > Integer.MAX_VALUE || departmentBytes < 0
+                    || rowsEnd + nameBytes + departmentBytes != channel.size()) {
+                throw new IOException("Corrupt snapshot header in " + file);
+            }
+
+            CRC32C rowChecksum = new CRC32C();
+            List<ByteBuffer> rowChunks = new ArrayList<>();
+            for (long start = HEADER_BYTES; start < rowsEnd; start += CHUNK_BYTES) {
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(CHUNK_BYTES, rowsEnd - start));
+                rowChecksum.update(chunk.duplicate());
+                rowChunks.add(chunk);
+            }
+            CRC32C nameChecksum = new CRC32C();
+            ByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, rowsEnd, nameBytes);
+            nameChecksum.update(names.duplicate());
+            ByteBuffer departmentSection = channel.map(FileChannel.MapMode.READ_ONLY, rowsEnd + nameBytes,
+                    departmentBytes);
+            nameChecksum.update(departmentSection.duplicate());
+            if ((int) rowChecksum.getValue() != expectedRowChecksum
+                    || (int) nameChecksum.getValue() != expectedNameChecksum) {
+                throw new IOException("Snapshot checksum mismatch in " + file);
+            }
+            List<String> departments = decodeDepartments(departmentSection, departmentCount, file);
+            LOGGER.log(Level.INFO, "Mapped snapshot of {0} employees from {1}", new Object[]{rowCount, file});
+            return new EmployeeSnapshot(rowChunks, names, departments, rowCount, maxId, nextSequence, logSequence);
+        }
+    }
+
+    /**
+     * The newest generation of a checkpointed snapshot: the sibling {@code file.N} with the
+     * highest N, else {@code file} itself. Null when there is neither.
+     */
+    static Path latestGeneration(Path file) throws IOException {
+        Path latest = Files.exists(file) ? file : null;
+        long newest = 0;
+        for (Path sibling : generations(file)) {
+            long generation = generation(file, sibling);
+            if (generation > newest) {
+                latest = sibling;
+                newest = generation;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * The file the next checkpoint writes to. Checkpoints never overwrite a generation, since
+     * the database may still have it mapped and some platforms refuse to replace a mapped file.
+     */
+    static Path nextGeneration(Path file) throws IOException {
+        Path latest = latestGeneration(file);
+        long generation = latest == null ? 0 : generation(file, latest);
+        return file.resolveSibling(file.getFileName() + "." + (generation + 1));
+    }
+
+    /**
+     * Deletes the generations older than {@code current}. One still mapped by this process may
+     * refuse to go; it is retried by the next checkpoint.
+     */
+    static void deleteGenerationsBefore(Path file, Path current) throws IOException {
+        long keep = generation(file, current);
+        List<Path> stale = new ArrayList<>(generations(file));
+        stale.add(file);
+        for (Path old : stale) {
+            if (generation(file, old) >= keep) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(old);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not delete old snapshot " + old + " yet", e);
+            }
+        }
+    }
+
+    private static List<Path> generations(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        List<Path> generations = new ArrayList<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> siblings =
+                     Files.newDirectoryStream(directory, sibling -> generation(file, sibling) > 0)) {
+            for (Path sibling : siblings) {
+                generations.add(file.resolveSibling(sibling.getFileName()));
+            }
+        }
+        return generations;
+    }
+
+    // 0 for the file itself, N for file.N, -1 for anything else
+    private static long generation(Path file, Path candidate) {
+        String base = file.getFileName().toString();
+        String name = candidate.getFileName().toString();
+        if (name.equals(base)) {
+            return 0;
+        }
+        if (!name.startsWith(base + ".") || name.length() == base.length() + 1 || name.length() > base.length() + 18) {
+            return -1;
+        }
+        for (int i = base.length() + 1; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return -1;
+            }
+        }
+        return Long.parseLong(name.substring(base.length() + 1));
+    }
+
+    private static ByteBuffer encodeDepartments(Collection<String> departments) {
+        List<byte[]> encoded = new ArrayList<>();
+        int size = 0;
+        for (String department : departments) {
+            byte[] bytes = department.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            size += Integer.BYTES + bytes.length;
+        }
+        ByteBuffer section = ByteBuffer.allocate(size);
+        for (byte[] bytes : encoded) {
+            section.putInt(bytes.length).put(bytes);
+        }
+        return section;
+    }
+
+    private static List<String> decodeDepartments(ByteBuffer section, int count, Path file) throws IOException {
+        List<String> departments = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[section.getInt()];
+                section.get(bytes);
+                departments.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt department section in " + file, e);
+        }
+        return departments;
+    }
+
+    // Covers every header field before the header checksum itself
+    private static int headerChecksum(ByteBuffer header) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(header.array(), 0, HEADER_BYTES - Integer.BYTES);
+        return (int) checksum.getValue();
+    }
+
+    // Checksums and writes everything put into the buffer at the given file position, leaving
+    // the buffer cleared; returns the number of bytes written
+    private static int drain(ByteBuffer buffer, FileChannel channel, long position, CRC32C checksum)
+            throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        int length = buffer.remaining();
+        for (long at = position; buffer.hasRemaining(); ) {
+            at += channel.write(buffer, at);
+        }
+        buffer.clear();
+        return length;
+    }
+}
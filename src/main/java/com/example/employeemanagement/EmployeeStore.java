@@ -0,0 +1,106 @@
+package com.example.employeemanagement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Primary storage behind an {@link EmployeeDatabase}: owns the ID lookup and the
+ * insertion-ordered rows. The store also receives field changes on held employees so it
+ * can keep any copies of their fields current. Writes are serialized by the database.
+ */
+interface EmployeeStore<T> extends EmployeeChangeListener<T>, Iterable<Employee<T>> {
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    boolean contains(T employeeId);
+
+    // Returns null when no employee has the ID
+    Employee<T> get(T employeeId);
+
+    void add(Employee<T> employee);
+
+    // Adds a batch of new, distinct employees; stores override this to size their storage once
+    default void addAll(List<Employee<T>> employees) {
+        for (Employee<T> employee : employees) {
+            add(employee);
+        }
+    }
+
+    // Returns the removed employee, or null when no employee has the ID
+    Employee<T> remove(T employeeId);
+
+    List<Employee<T>> toList();
+
+    default Stream<Employee<T>> stream() {
+        return stream(false);
+    }
+
+    // Scans take a parallel flag: a parallel scan splits the rows with a RowSpliterator and
+    // runs on the fork-join pool of the calling thread, which the database makes its scan
+    // pool. Results keep insertion order either way.
+    Stream<Employee<T>> stream(boolean parallel);
+
+    // Whether add() keeps the given object, so secondary indexes may hold on to it
+    boolean retainsEmployees();
+
+    // Whether salaryStats and withMinRating scan primitive columns
+    boolean supportsColumnScans();
+
+    DepartmentSalaryStats salaryStats(String department, boolean parallel);
+
+    List<Employee<T>> withMinRating(double minRating, boolean parallel);
+
+    // Merges the partial results of a parallel scan, the earlier range's first
+    static <E> List<E> concat(List<E> earlier, List<E> later) {
+        earlier.addAll(later);
+        return earlier;
+    }
+
+    // Fallback scans for stores that are not paired with secondary indexes
+
+    default List<Employee<T>> withDepartment(String department, boolean parallel) {
+        String key = DepartmentIndex.normalize(department);
+        return stream(parallel)
+                .filter(e -> DepartmentIndex.normalize(e.getDepartment()).equals(key))
+                .collect(Collectors.toList());
+    }
+
+    // The term is already normalized with TrigramIndex.normalize
+    default List<Employee<T>> withNameContaining(String term, boolean parallel) {
+        return stream(parallel)
+                .filter(e -> e.getName() != null && TrigramIndex.normalize(e.getName()).contains(term))
+                .collect(Collectors.toList());
+    }
+
+    default List<Employee<T>> inSalaryRange(double minSalary, double maxSalary, boolean parallel) {
+        return stream(parallel)
+                .filter(e -> e.getSalary() >= minSalary && e.getSalary() <= maxSalary)
+                .sorted(Comparator.comparingDouble(Employee::getSalary))
+                .collect(Collectors.toList());
+    }
+
+    // Keeps the best count seen in a bounded heap rather than sorting everyone
+    default List<Employee<T>> highestPaid(int count) {
+        Comparator<Employee<T>> rank = Comparator.comparingDouble(Employee<T>::getSalary)
+                .thenComparing(Comparator.comparingLong(Employee<T>::getSequence).reversed());
+        PriorityQueue<Employee<T>> best = new PriorityQueue<>(rank);
+        forEach(employee -> {
+            if (best.size() < count) {
+                best.add(employee);
+            } else if (rank.compare(employee, best.peek()) > 0) {
+                best.poll();
+                best.add(employee);
+            }
+        });
+        List<Employee<T>> result = new ArrayList<>(best);
+        result.sort(rank.reversed());
+        return result;
+    }
+}
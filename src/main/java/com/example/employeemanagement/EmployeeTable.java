@@ -0,0 +1,368 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Heap employee storage: an ID map plus insertion-ordered slots with constant-time removal.
+ * Each employee remembers its slot; removing it leaves a tombstone that is squeezed out once
+ * tombstones outnumber the live rows. In columnar mode the table also keeps
+ * {@link EmployeeColumns} aligned with the slots. Writes must be serialized by the caller.
+ * Readers need no lock: they see a consistent, possibly slightly stale, set of rows.
+ * <p>
+ * While every ID is an {@link Integer}, a single-threaded table maps IDs to slots with an
+ * {@link IntSlotMap}, so it holds no boxed keys or map entries. The first ID of another type
+ * moves it to a {@link HashMap} for good. Concurrent tables always use a
+ * {@link ConcurrentHashMap}, as the slot map cannot be read during a write.
+ */
+final class EmployeeTable<T> implements EmployeeStore<T> {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+
+    // Rows and columns are swapped together so a reader never pairs mismatched arrays
+    private static final class Storage {
+        final Object[] rows;
+        final EmployeeColumns columns;
+
+        Storage(Object[] rows, EmployeeColumns columns) {
+            this.rows = rows;
+            this.columns = columns;
+        }
+    }
+
+    // Exactly one of these is set
+    private IntSlotMap slotsById;
+    private Map<T, Employee<T>> byId;
+    private final DepartmentDictionary departmentCodes;
+    private volatile Storage storage;
+    // Slots in use, live rows and tombstones alike; always written after storage
+    private volatile int end;
+    private volatile int size;
+    private int tombstones;
+
+    EmployeeTable(boolean concurrent, boolean columnar) {
+        if (concurrent) {
+            this.byId = new ConcurrentHashMap<>();
+        } else {
+            this.slotsById = new IntSlotMap();
+        }
+        this.departmentCodes = columnar ? new DepartmentDictionary() : null;
+        this.storage = new Storage(new Object[MIN_CAPACITY], columnar ? new EmployeeColumns(MIN_CAPACITY) : null);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(T employeeId) {
+        if (slotsById == null) {
+            return byId.containsKey(employeeId);
+        }
+        return employeeId instanceof Integer id && slotsById.get(id) != IntSlotMap.NO_SLOT;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Employee<T> get(T employeeId) {
+        if (slotsById == null) {
+            return byId.get(employeeId);
+        }
+        if (!(employeeId instanceof Integer id)) {
+            return null;
+        }
+        int slot = slotsById.get(id);
+        return slot == IntSlotMap.NO_SLOT ? null : (Employee<T>) storage.rows[slot];
+    }
+
+    @Override
+    public boolean retainsEmployees() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsColumnScans() {
+        return departmentCodes != null;
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        if (slotsById != null && !(employee.getEmployeeId() instanceof Integer)) {
+            useHashMap();
+        }
+        if (byId != null) {
+            byId.put(employee.getEmployeeId(), employee);
+        }
+        Storage current = storage;
+        if (end == current.rows.length) {
+            current = tombstones >= size ? compact(current.rows.length) : grow(current);
+        }
+        int slot = end;
+        current.rows[slot] = employee;
+        employee.setSlot(slot);
+        if (slotsById != null) {
+            slotsById.put((Integer) employee.getEmployeeId(), slot);
+        }
+        if (current.columns != null) {
+            current.columns.write(slot, employee, departmentCodes.encode(employee.getDepartment()));
+        }
+        end = slot + 1;
+        size++;
+    }
+
+    // Sizes the map and slots once, then publishes every new row with a single write of end
+    @Override
+    public void addAll(List<Employee<T>> employees) {
+        int count = employees.size();
+        if (slotsById != null && !employees.stream().allMatch(employee -> employee.getEmployeeId() instanceof Integer)) {
+            useHashMap();
+        }
+        if (byId != null) {
+            Map<T, Employee<T>> batch = HashMap.newHashMap(count);
+            for (Employee<T> employee : employees) {
+                batch.put(employee.getEmployeeId(), employee);
+            }
+            byId.putAll(batch);
+        } else {
+            slotsById.ensureCapacity(size + count);
+        }
+        Storage current = storage;
+        if (end + count > current.rows.length) {
+            int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(size + count - 1) << 1);
+            current = tombstones > 0 ? compact(capacity) : resize(current, capacity);
+        }
+        int slot = end;
+        for (Employee<T> employee : employees) {
+            current.rows[slot] = employee;
+            employee.setSlot(slot);
+            if (slotsById != null) {
+                slotsById.put((Integer) employee.getEmployeeId(), slot);
+            }
+            if (current.columns != null) {
+                current.columns.write(slot, employee, departmentCodes.encode(employee.getDepartment()));
+            }
+            slot++;
+        }
+        end = slot;
+        size += count;
+    }
+
+    @Override
+    public Employee<T> remove(T employeeId) {
+        Storage current = storage;
+        Employee<T> employee;
+        if (slotsById == null) {
+            employee = byId.remove(employeeId);
+        } else {
+            int slot = employeeId instanceof Integer id ? slotsById.remove(id) : IntSlotMap.NO_SLOT;
+            @SuppressWarnings("unchecked")
+            Employee<T> stored = slot == IntSlotMap.NO_SLOT ? null : (Employee<T>) current.rows[slot];
+            employee = stored;
+        }
+        if (employee == null) {
+            return null;
+        }
+        int slot = checkedSlot(current, employee);
+        current.rows[slot] = null;
+        if (current.columns != null) {
+            current.columns.clear(slot);
+        }
+        size--;
+        tombstones++;
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > size) {
+            compact(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, size)) * 2));
+        }
+        return employee;
+    }
+
+    @Override
+    public void departmentChanged(Employee<T> employee, String oldDepartment) {
+        refresh(employee);
+    }
+
+    @Override
+    public void salaryChanged(Employee<T> employee, double oldSalary) {
+        refresh(employee);
+    }
+
+    @Override
+    public void performanceRatingChanged(Employee<T> employee, double oldRating) {
+        refresh(employee);
+    }
+
+    @Override
+    public void yearsOfExperienceChanged(Employee<T> employee, int oldYears) {
+        refresh(employee);
+    }
+
+    // Re-reads the employee's fields into the columns after a change
+    private void refresh(Employee<T> employee) {
+        Storage current = storage;
+        if (current.columns != null) {
+            current.columns.write(checkedSlot(current, employee), employee,
+                    departmentCodes.encode(employee.getDepartment()));
+        }
+    }
+
+    private int checkedSlot(Storage current, Employee<T> employee) {
+        int slot = employee.getSlot();
+        if (slot >= end || current.rows[slot] != employee) {
+            throw new IllegalStateException("Employee is not stored in this table");
+        }
+        return slot;
+    }
+
+    private Storage grow(Storage current) {
+        return resize(current, current.rows.length * 2);
+    }
+
+    private Storage resize(Storage current, int capacity) {
+        Storage grown = new Storage(Arrays.copyOf(current.rows, capacity),
+                current.columns != null ? current.columns.resize(capacity) : null);
+        storage = grown;
+        return grown;
+    }
+
+    // Copies live rows into fresh arrays so readers of the old ones are not disturbed.
+    // Storage is published before the new end, matching the order readers load them in.
+    private Storage compact(int capacity) {
+        Storage current = storage;
+        Storage compacted = new Storage(new Object[capacity],
+                current.columns != null ? new EmployeeColumns(capacity) : null);
+        int live = 0;
+        for (int i = 0, n = end; i < n; i++) {
+            Object row = current.rows[i];
+            if (row != null) {
+                @SuppressWarnings("unchecked")
+                Employee<T> employee = (Employee<T>) row;
+                employee.setSlot(live);
+                if (slotsById != null) {
+                    slotsById.put((Integer) employee.getEmployeeId(), live);
+                }
+                compacted.rows[live] = employee;
+                if (current.columns != null) {
+                    current.columns.copyRow(i, compacted.columns, live);
+                }
+                live++;
+            }
+        }
+        tombstones = 0;
+        storage = compacted;
+        end = live;
+        return compacted;
+    }
+
+    // Replaces the slot map with a HashMap holding every stored employee
+    private void useHashMap() {
+        Map<T, Employee<T>> map = HashMap.newHashMap(Math.max(MIN_CAPACITY, size));
+        for (Employee<T> employee : this) {
+            map.put(employee.getEmployeeId(), employee);
+        }
+        byId = map;
+        slotsById = null;
+    }
+
+    // Columnar scans; callers check supportsColumnScans() first
+
+    @Override
+    public DepartmentSalaryStats salaryStats(String department, boolean parallel) {
+        short code = departmentCodes.lookup(department);
+        if (code == DepartmentDictionary.NO_DEPARTMENT) {
+            return DepartmentSalaryStats.EMPTY;
+        }
+        int n = end;
+        EmployeeColumns columns = storage.columns;
+        short[] departments = columns.departments;
+        double[] salaries = columns.salaries;
+        n = Math.min(n, departments.length);
+        return RowSpliterator.scan(n, parallel, (from, to) -> {
+            DepartmentSalaryStats.Accumulator stats = new DepartmentSalaryStats.Accumulator();
+            for (int i = from; i < to; i++) {
+                if (departments[i] == code) {
+                    stats.add(salaries[i]);
+                }
+            }
+            return stats;
+        }, DepartmentSalaryStats.Accumulator::combine).toStats();
+    }
+
+    @Override
+    public List<Employee<T>> withMinRating(double minRating, boolean parallel) {
+        int n = end;
+        Storage current = storage;
+        double[] ratings = current.columns.ratings;
+        Object[] rows = current.rows;
+        n = Math.min(n, ratings.length);
+        return RowSpliterator.scan(n, parallel, (from, to) -> {
+            List<Employee<T>> result = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (ratings[i] >= minRating) {
+                    @SuppressWarnings("unchecked")
+                    Employee<T> employee = (Employee<T>) rows[i];
+                    if (employee != null) {
+                        result.add(employee);
+                    }
+                }
+            }
+            return result;
+        }, EmployeeStore::concat);
+    }
+
+    @Override
+    public List<Employee<T>> toList() {
+        List<Employee<T>> result = new ArrayList<>(size);
+        for (Employee<T> employee : this) {
+            result.add(employee);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Employee<T>> stream(boolean parallel) {
+        int limit = end;
+        Object[] rows = storage.rows;
+        return RowSpliterator.rows(Math.min(limit, rows.length), parallel)
+                .mapToObj(i -> (Employee<T>) rows[i])
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        int limit = end;
+        Object[] rows = storage.rows;
+        int n = Math.min(limit, rows.length);
+        return new Iterator<>() {
+            private int index;
+            private Employee<T> pending = advance();
+
+            @SuppressWarnings("unchecked")
+            private Employee<T> advance() {
+                while (index < n) {
+                    Object row = rows[index++];
+                    if (row != null) {
+                        return (Employee<T>) row;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return pending != null;
+            }
+
+            @Override
+            public Employee<T> next() {
+                Employee<T> employee = pending;
+                if (employee == null) {
+                    throw new NoSuchElementException();
+                }
+                pending = advance();
+                return employee;
+            }
+        };
+    }
+}
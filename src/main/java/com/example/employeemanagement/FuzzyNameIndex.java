@@ -0,0 +1,284 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BK-tree over the distinct normalized names in a database, for typo-tolerant search. Each
+ * node's children are filed under their edit distance from it, so by the triangle inequality
+ * a search within k edits of a query at distance d from a node only descends into children
+ * filed under d - k to d + k, and most of the dictionary is never compared.
+ * <p>
+ * Each name keeps the IDs of the employees holding it, so the index serves every storage
+ * mode. A name whose last holder leaves stays in the tree, ignored, until the tree is
+ * rebuilt. Readers need no lock; writes must be serialized by the caller.
+ */
+final class FuzzyNameIndex<T> {
+    static final int MAX_DISTANCE = 2;
+    private static final int MIN_DEAD_NAMES_TO_REBUILD = 1024;
+
+    private final Map<String, Node> byName;
+    private volatile Node root;
+    private int deadNames;
+
+    FuzzyNameIndex(boolean concurrent) {
+        this.byName = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    // A name that was searched for, its distance from the query and the employees holding it
+    static final class Match<T> {
+        private final String name;
+        private final int distance;
+        private final List<T> employeeIds;
+
+        Match(String name, int distance, List<T> employeeIds) {
+            this.name = name;
+            this.distance = distance;
+            this.employeeIds = employeeIds;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getDistance() {
+            return distance;
+        }
+
+        List<T> getEmployeeIds() {
+            return employeeIds;
+        }
+    }
+
+    private static final class Node {
+        final String name;
+        final IdList ids;
+        // Indexed by edit distance from this node; replaced, never written in place
+        volatile Node[] children;
+
+        Node(String name, IdList ids) {
+            this.name = name;
+            this.ids = ids;
+        }
+    }
+
+    void add(String name, T employeeId) {
+        if (name == null) {
+            return;
+        }
+        String key = TrigramIndex.normalize(name);
+        Node node = byName.get(key);
+        if (node == null) {
+            node = new Node(key, new IdList());
+            if (root == null) {
+                root = node;
+            } else {
+                insert(root, node);
+            }
+            byName.put(key, node);
+        } else if (node.ids.isEmpty()) {
+            deadNames--;
+        }
+        node.ids.add(employeeId);
+    }
+
+    void remove(String name, T employeeId) {
+        if (name == null) {
+            return;
+        }
+        Node node = byName.get(TrigramIndex.normalize(name));
+        if (node == null || !node.ids.remove(employeeId) || !node.ids.isEmpty()) {
+            return;
+        }
+        deadNames++;
+        if (deadNames >= MIN_DEAD_NAMES_TO_REBUILD && deadNames > byName.size() - deadNames) {
+            rebuild();
+        }
+    }
+
+    void rename(String oldName, String newName, T employeeId) {
+        remove(oldName, employeeId);
+        add(newName, employeeId);
+    }
+
+    /**
+     * Returns the names within maxDistance edits of the normalized query that are still held
+     * by an employee, closest first and then by name.
+     */
+    List<Match<T>> search(String query, int maxDistance) {
+        List<Match<T>> matches = new ArrayList<>();
+        Node start = root;
+        if (start == null) {
+            return matches;
+        }
+        int[] rows = new int[2 * (query.length() + 1)];
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.name, rows);
+            if (distance <= maxDistance) {
+                List<T> ids = node.ids.snapshot();
+                if (!ids.isEmpty()) {
+                    matches.add(new Match<>(node.name, distance, ids));
+                }
+            }
+            Node[] children = node.children;
+            if (children != null) {
+                int last = Math.min(children.length - 1, distance + maxDistance);
+                for (int i = Math.max(1, distance - maxDistance); i <= last; i++) {
+                    if (children[i] != null) {
+                        pending.push(children[i]);
+                    }
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt((Match<T> match) -> match.distance).thenComparing(match -> match.name));
+        return matches;
+    }
+
+    private static void insert(Node parent, Node node) {
+        int[] rows = new int[2 * (node.name.length() + 1)];
+        while (true) {
+            int distance = distance(node.name, parent.name, rows);
+            Node[] children = parent.children;
+            if (children == null || distance >= children.length) {
+                Node[] grown = children == null ? new Node[distance + 1] : Arrays.copyOf(children, distance + 1);
+                grown[distance] = node;
+                parent.children = grown;
+                return;
+            }
+            if (children[distance] == null) {
+                Node[] copy = children.clone();
+                copy[distance] = node;
+                parent.children = copy;
+                return;
+            }
+            parent = children[distance];
+        }
+    }
+
+    // Rebuilds the tree from the names still held, reusing their ID lists
+    private void rebuild() {
+        List<Node> live = new ArrayList<>(byName.size() - deadNames);
+        for (Node node : byName.values()) {
+            if (!node.ids.isEmpty()) {
+                live.add(new Node(node.name, node.ids));
+            }
+        }
+        // Insertion order shapes the tree; sorting keeps rebuilds reproducible
+        live.sort(Comparator.comparing(node -> node.name));
+        // Built aside and published whole, so readers keep searching the old tree meanwhile
+        Node rebuilt = live.isEmpty() ? null : live.get(0);
+        for (int i = 1; i < live.size(); i++) {
+            insert(rebuilt, live.get(i));
+        }
+        root = rebuilt;
+        byName.clear();
+        for (Node node : live) {
+            byName.put(node.name, node);
+        }
+        deadNames = 0;
+    }
+
+    /** Levenshtein distance between two strings, using rows sized for at least a's length plus one, twice. */
+    static int distance(String a, String b, int[] rows) {
+        int width = a.length() + 1;
+        int previous = 0;
+        int current = width;
+        for (int i = 0; i < width; i++) {
+            rows[i] = i;
+        }
+        for (int j = 1; j <= b.length(); j++) {
+            char c = b.charAt(j - 1);
+            rows[current] = j;
+            for (int i = 1; i < width; i++) {
+                int substitution = rows[previous + i - 1] + (a.charAt(i - 1) == c ? 0 : 1);
+                int deletion = rows[previous + i] + 1;
+                int insertion = rows[current + i - 1] + 1;
+                rows[current + i] = Math.min(substitution, Math.min(deletion, insertion));
+            }
+            int swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return rows[previous + width - 1];
+    }
+
+    /**
+     * The IDs holding one name, in the order they arrived. Removal leaves a null that is
+     * squeezed out once nulls outnumber the IDs, as in {@link EmployeeTable}.
+     */
+    private static final class IdList {
+        private volatile Object[] ids = new Object[1];
+        // Slots in use, IDs and nulls alike; always written after ids
+        private volatile int end;
+        private int removed;
+
+        boolean isEmpty() {
+            return end == removed;
+        }
+
+        void add(Object id) {
+            Object[] current = ids;
+            int n = end;
+            if (n == current.length) {
+                if (removed > 0) {
+                    current = compact(current, n);
+                } else {
+                    current = Arrays.copyOf(current, n * 2);
+                    ids = current;
+                }
+                n = end;
+            }
+            current[n] = id;
+            end = n + 1;
+        }
+
+        boolean remove(Object id) {
+            Object[] current = ids;
+            int n = end;
+            for (int i = 0; i < n; i++) {
+                if (id.equals(current[i])) {
+                    current[i] = null;
+                    removed++;
+                    if (removed > n - removed) {
+                        compact(current, n);
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> List<T> snapshot() {
+            int n = end;
+            Object[] current = ids;
+            n = Math.min(n, current.length);
+            List<T> result = new ArrayList<>(Math.min(n, 16));
+            for (int i = 0; i < n; i++) {
+                if (current[i] != null) {
+                    result.add((T) current[i]);
+                }
+            }
+            return result;
+        }
+
+        // Copies the IDs into a fresh array so readers of the old one are not disturbed
+        private Object[] compact(Object[] current, int n) {
+            int live = n - removed;
+            Object[] compacted = new Object[Math.max(1, live * 2)];
+            int next = 0;
+            for (int i = 0; i < n; i++) {
+                if (current[i] != null) {
+                    compacted[next++] = current[i];
+                }
+            }
+            removed = 0;
+            ids = compacted;
+            end = next;
+            return compacted;
+        }
+    }
+}
@@ -6,8 +6,61 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class HelloApplication extends Application {
+    private static final Logger LOGGER = Logger.getLogger(HelloApplication.class.getName());
+    private static final Path DATA_DIRECTORY = Path.of(System.getProperty("user.home"), ".employee-management");
+    private static final Path SNAPSHOT_FILE = DATA_DIRECTORY.resolve("employees.snapshot");
+    private static final Path LOG_FILE = DATA_DIRECTORY.resolve("employees.log");
+    private static final Path APPLICATION_LOG_FILE = DATA_DIRECTORY.resolve("application.log");
+    // Held so the logger, and the handler configured on it, is not garbage collected
+    private static final Logger APPLICATION_LOGGER = Logger.getLogger(HelloApplication.class.getPackageName());
+    private static AsyncFileLogHandler logHandler;
+    private static EmployeeDatabase<Integer> employeeDatabase;
+    private static boolean snapshotUnreadable;
+
+    // Shared by every controller so employees outlive a view change
+    static synchronized EmployeeDatabase<Integer> employeeDatabase() {
+        if (employeeDatabase == null) {
+            employeeDatabase = openDatabase();
+        }
+        return employeeDatabase;
+    }
+
+    private static EmployeeDatabase<Integer> openDatabase() {
+        try {
+            Files.createDirectories(DATA_DIRECTORY);
+            return EmployeeDatabase.open(SNAPSHOT_FILE, LOG_FILE, LogSyncPolicy.EVERY_COMMIT);
+        } catch (IOException e) {
+            // Keep the unreadable files rather than overwriting them on exit
+            snapshotUnreadable = true;
+            LOGGER.log(Level.SEVERE, "Failed to open data in " + DATA_DIRECTORY + ", starting empty", e);
+        }
+        return new EmployeeDatabase<>();
+    }
+
+    // Application logging goes to a file off the calling threads instead of the console
+    private static void installLogHandler() {
+        try {
+            Files.createDirectories(DATA_DIRECTORY);
+            logHandler = new AsyncFileLogHandler(APPLICATION_LOG_FILE);
+            APPLICATION_LOGGER.addHandler(logHandler);
+            APPLICATION_LOGGER.setUseParentHandlers(false);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to open " + APPLICATION_LOG_FILE + ", logging to the console", e);
+        }
+    }
+
+    @Override
+    public void init() {
+        installLogHandler();
+        employeeDatabase();
+    }
+
     @Override
     public void start(Stage stage) throws IOException {
         FXMLLoader fxmlLoader = new FXMLLoader(HelloApplication.class.getResource("hello-view.fxml"));
@@ -17,6 +70,32 @@ public class HelloApplication extends Application {
         stage.show();
     }
 
+    @Override
+    public void stop() {
+        try {
+            saveDatabase();
+        } finally {
+            if (logHandler != null) {
+                APPLICATION_LOGGER.removeHandler(logHandler);
+                APPLICATION_LOGGER.setUseParentHandlers(true);
+                logHandler.close();
+            }
+        }
+    }
+
+    private static void saveDatabase() {
+        if (snapshotUnreadable) {
+            LOGGER.log(Level.WARNING, "Not saving over unreadable data in {0}", DATA_DIRECTORY);
+            return;
+        }
+        try (EmployeeDatabase<Integer> database = employeeDatabase()) {
+            database.checkpoint();
+        } catch (IOException e) {
+            // Anything committed is still in the log and is replayed on the next start
+            LOGGER.log(Level.SEVERE, "Failed to checkpoint " + SNAPSHOT_FILE, e);
+        }
+    }
+
     public static void main(String[] args) {
         launch();
     }
@@ -0,0 +1,15 @@
+package com.example.employeemanagement;
+
+/**
+ * Hands out employee IDs for an {@link EmployeeDatabase}. Implementations must be safe to call
+ * from many threads at once and must never return the same ID twice.
+ */
+public interface IdAllocator<T> {
+    T nextId();
+
+    /**
+     * Records an ID that is already in use, for example one loaded from storage, so that
+     * {@link #nextId()} carries on above it.
+     */
+    void reserve(T id);
+}
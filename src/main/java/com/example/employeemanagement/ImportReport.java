@@ -0,0 +1,73 @@
+package com.example.employeemanagement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many employees went in and which records were rejected, and
+ * why. Only the first {@link #MAX_REPORTED_REJECTIONS} rejections are kept, so a badly broken
+ * file cannot exhaust memory; {@link #getRejectedCount()} still counts all of them.
+ */
+public final class ImportReport {
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    /** A record that was not imported. Records are numbered from 1, the header included. */
+    public static final class RejectedRow {
+        private final long recordNumber;
+        private final String reason;
+
+        RejectedRow(long recordNumber, String reason) {
+            this.recordNumber = recordNumber;
+            this.reason = reason;
+        }
+
+        public long getRecordNumber() {
+            return recordNumber;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Record " + recordNumber + ": " + reason;
+        }
+    }
+
+    private final List<RejectedRow> rejectedRows = new ArrayList<>();
+    private long importedCount;
+    private long rejectedCount;
+
+    ImportReport() {
+    }
+
+    void imported(int count) {
+        importedCount += count;
+    }
+
+    void rejected(long recordNumber, String reason) {
+        rejectedCount++;
+        if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+            rejectedRows.add(new RejectedRow(recordNumber, reason));
+        }
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return Collections.unmodifiableList(rejectedRows);
+    }
+
+    @Override
+    public String toString() {
+        return "Imported " + importedCount + " employees, rejected " + rejectedCount;
+    }
+}
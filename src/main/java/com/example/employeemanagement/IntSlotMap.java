@@ -0,0 +1,154 @@
+package com.example.employeemanagement;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from int keys to non-negative int slots. Each entry is packed into one
+ * long, key in the high half and slot in the low half, so a lookup touches a single array and
+ * no boxed keys are created. Not thread-safe.
+ */
+final class IntSlotMap {
+    static final int NO_SLOT = -1;
+
+    // Live entries always have a non-negative low half, so these never collide with them
+    private static final long EMPTY = -1L;
+    private static final long TOMBSTONE = -2L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] entries;
+    private int size;
+    private int used; // live entries plus tombstones
+
+    IntSlotMap() {
+        this(MIN_CAPACITY);
+    }
+
+    IntSlotMap(int expectedSize) {
+        entries = newTable(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Resizes once up front so the next inserts up to the expected size do not rehash
+    void ensureCapacity(int expectedSize) {
+        if ((long) expectedSize * 4 > entries.length * 3L) {
+            rehash(capacityFor(expectedSize));
+        }
+    }
+
+    int get(int key) {
+        long[] table = entries;
+        int mask = table.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            long entry = table[i];
+            if (entry == EMPTY) {
+                return NO_SLOT;
+            }
+            if (entry != TOMBSTONE && keyOf(entry) == key) {
+                return slotOf(entry);
+            }
+        }
+    }
+
+    // Returns the previous slot, or NO_SLOT
+    int put(int key, int slot) {
+        if (slot < 0) {
+            throw new IllegalArgumentException("Slot cannot be negative");
+        }
+        if ((used + 1) * 4L > entries.length * 3L) {
+            rehash(capacityFor(size + 1));
+        }
+        long[] table = entries;
+        int mask = table.length - 1;
+        int firstTombstone = -1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            long entry = table[i];
+            if (entry == EMPTY) {
+                if (firstTombstone >= 0) {
+                    table[firstTombstone] = pack(key, slot);
+                } else {
+                    table[i] = pack(key, slot);
+                    used++;
+                }
+                size++;
+                return NO_SLOT;
+            }
+            if (entry == TOMBSTONE) {
+                if (firstTombstone < 0) {
+                    firstTombstone = i;
+                }
+            } else if (keyOf(entry) == key) {
+                table[i] = pack(key, slot);
+                return slotOf(entry);
+            }
+        }
+    }
+
+    // Returns the removed slot, or NO_SLOT
+    int remove(int key) {
+        long[] table = entries;
+        int mask = table.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            long entry = table[i];
+            if (entry == EMPTY) {
+                return NO_SLOT;
+            }
+            if (entry != TOMBSTONE && keyOf(entry) == key) {
+                table[i] = TOMBSTONE;
+                size--;
+                return slotOf(entry);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = entries;
+        long[] table = newTable(capacity);
+        int mask = capacity - 1;
+        for (long entry : old) {
+            if (entry != EMPTY && entry != TOMBSTONE) {
+                int i = mix(keyOf(entry)) & mask;
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = entry;
+            }
+        }
+        entries = table;
+        used = size;
+    }
+
+    // Keeps the load factor at or below one half right after a resize
+    private static int capacityFor(int expectedSize) {
+        long wanted = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        if (wanted > 1 << 30) {
+            throw new IllegalStateException("Too many entries");
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    private static long[] newTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static long pack(int key, int slot) {
+        return ((long) key << 32) | slot;
+    }
+
+    private static int keyOf(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int slotOf(long entry) {
+        return (int) entry;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.employeemanagement;
+
+/**
+ * When the write-ahead log forces its entries to stable storage. Concurrent writers that
+ * commit while a flush is in progress are grouped into the next flush in every mode.
+ */
+public enum LogSyncPolicy {
+    /** Each mutation returns only after its entry has been fsynced. */
+    EVERY_COMMIT,
+    /**
+     * Each mutation returns once its entry has been handed to the operating system; a
+     * background thread fsyncs the log every {@link WriteAheadLog#SYNC_INTERVAL_MILLIS}
+     * milliseconds, so a power failure loses at most that window.
+     */
+    PERIODIC,
+    /** Entries are handed to the operating system but only fsynced on checkpoint and close. */
+    NONE
+}
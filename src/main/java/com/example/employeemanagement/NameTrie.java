@@ -0,0 +1,281 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+
+/**
+ * Radix tree over employee names for type-ahead suggestions. Every word of a normalized name
+ * starts a key running to the end of the name, so "smi" suggests "John Smith" as well as
+ * "Smita Rao". Names are counted, so two employees with the same name are one suggestion
+ * until both are gone.
+ * <p>
+ * Nodes are immutable: a change copies the nodes on its path and publishes a new root, so
+ * readers need no lock and always see a whole tree. Writes must be serialized by the caller.
+ */
+final class NameTrie {
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Node EMPTY = new Node("", NO_CHILDREN, NO_ENTRIES);
+
+    private volatile Node root = EMPTY;
+
+    // A name ending at a node; key is the normalized full name, display the name as first added
+    private static final class Entry {
+        final String key;
+        final String display;
+        final int count;
+
+        Entry(String key, String display, int count) {
+            this.key = key;
+            this.display = display;
+            this.count = count;
+        }
+    }
+
+    // Children are sorted by the first character of their label, which is never empty
+    private static final class Node {
+        final String label;
+        final Node[] children;
+        final Entry[] entries;
+
+        Node(String label, Node[] children, Entry[] entries) {
+            this.label = label;
+            this.children = children;
+            this.entries = entries;
+        }
+
+        int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -low - 1;
+        }
+
+        Node withLabel(String newLabel) {
+            return new Node(newLabel, children, entries);
+        }
+
+        Node withEntries(Entry[] newEntries) {
+            return new Node(label, children, newEntries);
+        }
+
+        Node withChild(int index, Node child) {
+            Node[] copy = children.clone();
+            copy[index] = child;
+            return new Node(label, copy, entries);
+        }
+
+        Node withInsertedChild(int index, Node child) {
+            Node[] copy = new Node[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            copy[index] = child;
+            System.arraycopy(children, index, copy, index + 1, children.length - index);
+            return new Node(label, copy, entries);
+        }
+
+        Node withoutChild(int index) {
+            Node[] copy = new Node[children.length - 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            System.arraycopy(children, index + 1, copy, index, copy.length - index);
+            return new Node(label, copy, entries);
+        }
+    }
+
+    void add(String name) {
+        if (name == null) {
+            return;
+        }
+        String key = TrigramIndex.normalize(name);
+        Node updated = root;
+        for (int start : wordStarts(key)) {
+            updated = insert(updated, key, start, key, name);
+        }
+        root = updated;
+    }
+
+    void remove(String name) {
+        if (name == null) {
+            return;
+        }
+        String key = TrigramIndex.normalize(name);
+        Node updated = root;
+        for (int start : wordStarts(key)) {
+            updated = delete(updated, key, start, key);
+        }
+        root = updated;
+    }
+
+    void rename(String oldName, String newName) {
+        remove(oldName);
+        add(newName);
+    }
+
+    /**
+     * Returns up to limit distinct names with a word starting with the normalized prefix,
+     * ordered by the matching part of the name.
+     */
+    List<String> suggest(String prefix, int limit) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = node.childIndex(prefix.charAt(offset));
+            if (index < 0) {
+                return new ArrayList<>();
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, prefix, offset);
+            if (offset + common < prefix.length() && common < child.label.length()) {
+                return new ArrayList<>();
+            }
+            offset += common;
+            node = child;
+        }
+        List<String> result = new ArrayList<>(Math.min(limit, 16));
+        collect(node, limit, new HashSet<>(), result);
+        return result;
+    }
+
+    // Depth first, so keys come out in order; a name matched by two of its words is kept once
+    private static boolean collect(Node node, int limit, Set<String> seen, List<String> result) {
+        for (Entry entry : node.entries) {
+            if (seen.add(entry.key)) {
+                result.add(entry.display);
+                if (result.size() == limit) {
+                    return true;
+                }
+            }
+        }
+        for (Node child : node.children) {
+            if (collect(child, limit, seen, result)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Node insert(Node node, String key, int offset, String name, String display) {
+        if (offset == key.length()) {
+            return node.withEntries(added(node.entries, name, display));
+        }
+        int index = node.childIndex(key.charAt(offset));
+        if (index < 0) {
+            Node leaf = new Node(key.substring(offset), NO_CHILDREN, new Entry[]{new Entry(name, display, 1)});
+            return node.withInsertedChild(-index - 1, leaf);
+        }
+        Node child = node.children[index];
+        int common = commonPrefix(child.label, key, offset);
+        if (common < child.label.length()) {
+            // The key leaves the child's edge part way: split the edge there
+            child = new Node(child.label.substring(0, common),
+                    new Node[]{child.withLabel(child.label.substring(common))}, NO_ENTRIES);
+        }
+        return node.withChild(index, insert(child, key, offset + common, name, display));
+    }
+
+    private static Node delete(Node node, String key, int offset, String name) {
+        if (offset == key.length()) {
+            Entry[] entries = removed(node.entries, name);
+            return entries == node.entries ? node : node.withEntries(entries);
+        }
+        int index = node.childIndex(key.charAt(offset));
+        if (index < 0) {
+            return node;
+        }
+        Node child = node.children[index];
+        if (!key.startsWith(child.label, offset)) {
+            return node;
+        }
+        Node updated = delete(child, key, offset + child.label.length(), name);
+        if (updated == child) {
+            return node;
+        }
+        // Drop nodes left empty and merge edges left with a single child
+        if (updated.entries.length == 0 && updated.children.length == 0) {
+            return node.withoutChild(index);
+        }
+        if (updated.entries.length == 0 && updated.children.length == 1) {
+            Node only = updated.children[0];
+            updated = only.withLabel(updated.label + only.label);
+        }
+        return node.withChild(index, updated);
+    }
+
+    private static Entry[] added(Entry[] entries, String name, String display) {
+        int index = find(entries, name);
+        if (index >= 0) {
+            Entry[] copy = entries.clone();
+            copy[index] = new Entry(name, entries[index].display, entries[index].count + 1);
+            return copy;
+        }
+        int at = -index - 1;
+        Entry[] copy = new Entry[entries.length + 1];
+        System.arraycopy(entries, 0, copy, 0, at);
+        copy[at] = new Entry(name, display, 1);
+        System.arraycopy(entries, at, copy, at + 1, entries.length - at);
+        return copy;
+    }
+
+    // Returns the same array when the name is not there
+    private static Entry[] removed(Entry[] entries, String name) {
+        int index = find(entries, name);
+        if (index < 0) {
+            return entries;
+        }
+        if (entries[index].count > 1) {
+            Entry[] copy = entries.clone();
+            copy[index] = new Entry(name, entries[index].display, entries[index].count - 1);
+            return copy;
+        }
+        Entry[] copy = new Entry[entries.length - 1];
+        System.arraycopy(entries, 0, copy, 0, index);
+        System.arraycopy(entries, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    private static int find(Entry[] entries, String name) {
+        int low = 0;
+        int high = entries.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = entries[mid].key.compareTo(name);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // Offsets where a word starts: a letter or digit that does not follow one
+    private static int[] wordStarts(String key) {
+        int[] starts = new int[key.length()];
+        int count = 0;
+        for (int i = 0; i < key.length(); i++) {
+            if (Character.isLetterOrDigit(key.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(key.charAt(i - 1)))) {
+                starts[count++] = i;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+}
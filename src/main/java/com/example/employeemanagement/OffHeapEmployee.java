@@ -0,0 +1,56 @@
+package com.example.employeemanagement;
+
+/**
+ * Flyweight view of an employee row held by an {@link OffHeapEmployeeStore}. The view keeps
+ * only the ID and reads or writes every other field in the row, so views are cheap to create
+ * and always current. Once the employee is removed from the database the view can no longer
+ * be read and throws {@link IllegalStateException}.
+ */
+final class OffHeapEmployee<T> extends Employee<T> {
+    private final OffHeapEmployeeStore<T> store;
+
+    OffHeapEmployee(T employeeId, OffHeapEmployeeStore<T> store) {
+        super(employeeId);
+        this.store = store;
+    }
+
+    @Override
+    public String getName() { return store.readName(this); }
+
+    @Override
+    public String getDepartment() { return store.readDepartment(this); }
+
+    @Override
+    public double getSalary() { return store.readDouble(this, OffHeapEmployeeStore.SALARY); }
+
+    @Override
+    public double getPerformanceRating() { return store.readDouble(this, OffHeapEmployeeStore.RATING); }
+
+    @Override
+    public int getYearsOfExperience() { return store.readInt(this, OffHeapEmployeeStore.YEARS); }
+
+    @Override
+    public boolean isActive() { return store.readActive(this); }
+
+    @Override
+    void storeName(String name) { store.writeName(this, name); }
+
+    @Override
+    void storeDepartment(String department) { store.writeDepartment(this, department); }
+
+    @Override
+    void storeSalary(double salary) { store.writeDouble(this, OffHeapEmployeeStore.SALARY, salary); }
+
+    @Override
+    void storePerformanceRating(double performanceRating) {
+        store.writeDouble(this, OffHeapEmployeeStore.RATING, performanceRating);
+    }
+
+    @Override
+    void storeYearsOfExperience(int yearsOfExperience) {
+        store.writeInt(this, OffHeapEmployeeStore.YEARS, yearsOfExperience);
+    }
+
+    @Override
+    void storeActive(boolean active) { store.writeActive(this, active); }
+}
@@ -0,0 +1,739 @@
+package com.example.employeemanagement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps employees as fixed-width rows in direct memory, with names in an
+ * {@link OffHeapStringArena} and departments dictionary-encoded, so millions of employees
+ * cost almost nothing on the garbage-collected heap. Rows are appended in insertion order;
+ * removal leaves a tombstone that compaction squeezes out. Lookups hand out
+ * {@link OffHeapEmployee} views. Added employees are copied, not retained: changes made
+ * through them are forwarded to their row while they are still stored.
+ *
+ * <p>Only Integer IDs are supported. Writes must be serialized by the caller; in concurrent
+ * mode readers and writers also share a read-write lock.
+ */
+final class OffHeapEmployeeStore<T> implements EmployeeStore<T> {
+    // Row layout, in bytes
+    static final int ID = 0;
+    static final int YEARS = 4;
+    static final int SALARY = 8;
+    static final int RATING = 16;
+    static final int SEQUENCE = 24;
+    static final int NAME_REFERENCE = 32;
+    static final int NAME_LENGTH = 40;
+    static final int DEPARTMENT = 44;
+    static final int ACTIVE = 46;
+    static final int LIVE = 47;
+    static final int ROW_BYTES = 48;
+
+    private static final int ROWS_PER_CHUNK_SHIFT = 16;
+    private static final int ROWS_PER_CHUNK = 1 << ROWS_PER_CHUNK_SHIFT;
+    static final int CHUNK_BYTES = ROWS_PER_CHUNK * ROW_BYTES;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 64;
+    private static final int ROWS_PER_VISIT = 1024;
+
+    private final EmployeeChangeListener<T> owner;
+    private final ReadWriteLock lock;
+    private final Map<String, Short> departmentCodes = new HashMap<>();
+    private final List<String> departments = new ArrayList<>();
+    private List<ByteBuffer> chunks = new ArrayList<>();
+    private OffHeapStringArena names;
+    private IntSlotMap rowsById;
+    private int end;
+    private volatile int size;
+    private int tombstones;
+    private int compactions;
+
+    // Views are attached to the owner so their setters go through the database
+    OffHeapEmployeeStore(boolean concurrent, EmployeeChangeListener<T> owner) {
+        this.owner = owner;
+        this.lock = concurrent ? new ReentrantReadWriteLock() : null;
+        this.names = new OffHeapStringArena();
+        this.rowsById = new IntSlotMap();
+    }
+
+    // Serves the snapshot's mapped rows and names in place; only the ID map is built on the heap
+    OffHeapEmployeeStore(boolean concurrent, EmployeeChangeListener<T> owner, EmployeeSnapshot snapshot) {
+        this.owner = owner;
+        this.lock = concurrent ? new ReentrantReadWriteLock() : null;
+        this.names = new OffHeapStringArena(snapshot.names());
+        this.rowsById = new IntSlotMap(snapshot.rowCount());
+        for (String department : snapshot.departments()) {
+            departmentCode(department);
+        }
+        chunks.addAll(snapshot.rowChunks());
+        int last = chunks.size() - 1;
+        if (last >= 0 && chunks.get(last).capacity() < CHUNK_BYTES) {
+            // A partial mapping cannot grow, so the tail rows move to a full-size chunk
+            ByteBuffer tail = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            tail.put(0, chunks.get(last), 0, chunks.get(last).capacity());
+            chunks.set(last, tail);
+        }
+        for (int row = 0; row < snapshot.rowCount(); row++) {
+            rowsById.put(chunk(row).getInt(offset(row) + ID), row);
+        }
+        end = snapshot.rowCount();
+        size = end;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(T employeeId) {
+        if (!(employeeId instanceof Integer id)) {
+            return false;
+        }
+        lockRead();
+        try {
+            return rowsById.get(id) != IntSlotMap.NO_SLOT;
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public Employee<T> get(T employeeId) {
+        if (!(employeeId instanceof Integer id)) {
+            return null;
+        }
+        lockRead();
+        try {
+            int row = rowsById.get(id);
+            return row == IntSlotMap.NO_SLOT ? null : view(row);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public boolean holds(Employee<T> employee) {
+        lockRead();
+        try {
+            return locate(employee) >= 0;
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        int id = integerId(employee);
+        lockWrite();
+        try {
+            append(id, employee);
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    @Override
+    public void addAll(List<Employee<T>> employees) {
+        for (Employee<T> employee : employees) {
+            integerId(employee);
+        }
+        lockWrite();
+        try {
+            rowsById.ensureCapacity(rowsById.size() + employees.size());
+            for (Employee<T> employee : employees) {
+                append((Integer) employee.getEmployeeId(), employee);
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    private static int integerId(Employee<?> employee) {
+        if (!(employee.getEmployeeId() instanceof Integer id)) {
+            throw new IllegalArgumentException("Off-heap storage requires Integer employee IDs");
+        }
+        return id;
+    }
+
+    private void append(int id, Employee<T> employee) {
+        if (end == chunks.size() * ROWS_PER_CHUNK) {
+            chunks.add(ByteBuffer.allocateDirect(CHUNK_BYTES));
+        }
+        int row = end;
+        ByteBuffer chunk = chunk(row);
+        int at = offset(row);
+        chunk.putInt(at + ID, id);
+        chunk.putLong(at + SEQUENCE, employee.getSequence());
+        chunk.put(at + LIVE, (byte) 1);
+        writeFields(chunk, at, employee);
+        rowsById.put(id, row);
+        end++;
+        size++;
+    }
+
+    @Override
+    public Employee<T> remove(T employeeId) {
+        if (!(employeeId instanceof Integer id)) {
+            return null;
+        }
+        lockWrite();
+        try {
+            int row = rowsById.remove(id);
+            if (row == IntSlotMap.NO_SLOT) {
+                return null;
+            }
+            Employee<T> removed = view(row);
+            ByteBuffer chunk = writableChunk(row);
+            chunk.put(offset(row) + LIVE, (byte) 0);
+            names.release(chunk.getInt(offset(row) + NAME_LENGTH));
+            size--;
+            tombstones++;
+            compactIfNeeded();
+            return removed;
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    // Field changes on added employees; views have already written their row
+
+    @Override
+    public void nameChanged(Employee<T> employee, String oldName) {
+        if (!(employee instanceof OffHeapEmployee)) {
+            writeName(employee, employee.getName());
+        }
+    }
+
+    @Override
+    public void departmentChanged(Employee<T> employee, String oldDepartment) {
+        if (!(employee instanceof OffHeapEmployee)) {
+            writeDepartment(employee, employee.getDepartment());
+        }
+    }
+
+    @Override
+    public void salaryChanged(Employee<T> employee, double oldSalary) {
+        if (!(employee instanceof OffHeapEmployee)) {
+            writeDouble(employee, SALARY, employee.getSalary());
+        }
+    }
+
+    @Override
+    public void performanceRatingChanged(Employee<T> employee, double oldRating) {
+        if (!(employee instanceof OffHeapEmployee)) {
+            writeDouble(employee, RATING, employee.getPerformanceRating());
+        }
+    }
+
+    @Override
+    public void yearsOfExperienceChanged(Employee<T> employee, int oldYears) {
+        if (!(employee instanceof OffHeapEmployee)) {
+            writeInt(employee, YEARS, employee.getYearsOfExperience());
+        }
+    }
+
+    @Override
+    public void activeChanged(Employee<T> employee, boolean wasActive) {
+        if (!(employee instanceof OffHeapEmployee)) {
+            writeActive(employee, employee.isActive());
+        }
+    }
+
+    // Field access for views and change forwarding
+
+    String readName(Employee<T> employee) {
+        lockRead();
+        try {
+            int row = checkedRow(employee);
+            ByteBuffer chunk = chunk(row);
+            int at = offset(row);
+            return names.read(chunk.getLong(at + NAME_REFERENCE), chunk.getInt(at + NAME_LENGTH));
+        } finally {
+            unlockRead();
+        }
+    }
+
+    String readDepartment(Employee<T> employee) {
+        lockRead();
+        try {
+            int row = checkedRow(employee);
+            return departments.get(chunk(row).getShort(offset(row) + DEPARTMENT));
+        } finally {
+            unlockRead();
+        }
+    }
+
+    double readDouble(Employee<T> employee, int field) {
+        lockRead();
+        try {
+            int row = checkedRow(employee);
+            return chunk(row).getDouble(offset(row) + field);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    int readInt(Employee<T> employee, int field) {
+        lockRead();
+        try {
+            int row = checkedRow(employee);
+            return chunk(row).getInt(offset(row) + field);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    boolean readActive(Employee<T> employee) {
+        lockRead();
+        try {
+            int row = checkedRow(employee);
+            return chunk(row).get(offset(row) + ACTIVE) != 0;
+        } finally {
+            unlockRead();
+        }
+    }
+
+    void writeName(Employee<T> employee, String name) {
+        lockWrite();
+        try {
+            int row = writableRow(employee);
+            if (row >= 0) {
+                ByteBuffer chunk = writableChunk(row);
+                int at = offset(row);
+                names.release(chunk.getInt(at + NAME_LENGTH));
+                putName(chunk, at, name);
+                compactIfNeeded();
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    void writeDepartment(Employee<T> employee, String department) {
+        lockWrite();
+        try {
+            int row = writableRow(employee);
+            if (row >= 0) {
+                writableChunk(row).putShort(offset(row) + DEPARTMENT, departmentCode(department));
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    void writeDouble(Employee<T> employee, int field, double value) {
+        lockWrite();
+        try {
+            int row = writableRow(employee);
+            if (row >= 0) {
+                writableChunk(row).putDouble(offset(row) + field, value);
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    void writeInt(Employee<T> employee, int field, int value) {
+        lockWrite();
+        try {
+            int row = writableRow(employee);
+            if (row >= 0) {
+                writableChunk(row).putInt(offset(row) + field, value);
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    void writeActive(Employee<T> employee, boolean active) {
+        lockWrite();
+        try {
+            int row = writableRow(employee);
+            if (row >= 0) {
+                writableChunk(row).put(offset(row) + ACTIVE, (byte) (active ? 1 : 0));
+            }
+        } finally {
+            unlockWrite();
+        }
+    }
+
+    // Scans over the primitive fields; only matching rows become views
+
+    @Override
+    public boolean retainsEmployees() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsColumnScans() {
+        return true;
+    }
+
+    // Parallel scans hold the read lock on the calling thread only; the tasks it forks read
+    // rows without locking, as no writer can get in until the scan returns
+
+    @Override
+    public DepartmentSalaryStats salaryStats(String department, boolean parallel) {
+        lockRead();
+        try {
+            Set<Short> codes = codesMatching(department);
+            return RowSpliterator.scan(end, parallel, (from, to) -> {
+                DepartmentSalaryStats.Accumulator stats = new DepartmentSalaryStats.Accumulator();
+                for (int row = from; row < to; row++) {
+                    ByteBuffer chunk = chunk(row);
+                    int at = offset(row);
+                    if (chunk.get(at + LIVE) != 0 && codes.contains(chunk.getShort(at + DEPARTMENT))) {
+                        stats.add(chunk.getDouble(at + SALARY));
+                    }
+                }
+                return stats;
+            }, DepartmentSalaryStats.Accumulator::combine).toStats();
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public List<Employee<T>> withMinRating(double minRating, boolean parallel) {
+        lockRead();
+        try {
+            return RowSpliterator.scan(end, parallel, (from, to) -> {
+                List<Employee<T>> result = new ArrayList<>();
+                for (int row = from; row < to; row++) {
+                    ByteBuffer chunk = chunk(row);
+                    int at = offset(row);
+                    if (chunk.get(at + LIVE) != 0 && chunk.getDouble(at + RATING) >= minRating) {
+                        result.add(view(row));
+                    }
+                }
+                return result;
+            }, EmployeeStore::concat);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public List<Employee<T>> withDepartment(String department, boolean parallel) {
+        lockRead();
+        try {
+            Set<Short> codes = codesMatching(department);
+            return RowSpliterator.scan(end, parallel, (from, to) -> {
+                List<Employee<T>> result = new ArrayList<>();
+                for (int row = from; row < to; row++) {
+                    ByteBuffer chunk = chunk(row);
+                    int at = offset(row);
+                    if (chunk.get(at + LIVE) != 0 && codes.contains(chunk.getShort(at + DEPARTMENT))) {
+                        result.add(view(row));
+                    }
+                }
+                return result;
+            }, EmployeeStore::concat);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public List<Employee<T>> inSalaryRange(double minSalary, double maxSalary, boolean parallel) {
+        lockRead();
+        try {
+            List<Integer> rows = RowSpliterator.scan(end, parallel, (from, to) -> {
+                List<Integer> matched = new ArrayList<>();
+                for (int row = from; row < to; row++) {
+                    ByteBuffer chunk = chunk(row);
+                    int at = offset(row);
+                    double salary = chunk.getDouble(at + SALARY);
+                    if (chunk.get(at + LIVE) != 0 && salary >= minSalary && salary <= maxSalary) {
+                        matched.add(row);
+                    }
+                }
+                return matched;
+            }, EmployeeStore::concat);
+            // Stable, so equal salaries stay in insertion order
+            rows.sort(Comparator.comparingDouble(this::salaryAt));
+            return views(rows);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public List<Employee<T>> highestPaid(int count) {
+        lockRead();
+        try {
+            // Min-heap of the best rows so far; later rows lose ties, as in insertion order
+            Comparator<Integer> rank = Comparator.comparingDouble(this::salaryAt)
+                    .thenComparing(Comparator.<Integer>reverseOrder());
+            PriorityQueue<Integer> best = new PriorityQueue<>(rank);
+            for (int row = 0; row < end; row++) {
+                if (chunk(row).get(offset(row) + LIVE) == 0) {
+                    continue;
+                }
+                if (best.size() < count) {
+                    best.add(row);
+                } else if (rank.compare(row, best.peek()) > 0) {
+                    best.poll();
+                    best.add(row);
+                }
+            }
+            List<Integer> rows = new ArrayList<>(best);
+            rows.sort(rank.reversed());
+            return views(rows);
+        } finally {
+            unlockRead();
+        }
+    }
+
+    @Override
+    public List<Employee<T>> toList() {
+        lockRead();
+        try {
+            List<Employee<T>> result = new ArrayList<>(size);
+            for (int row = 0; row < end; row++) {
+                if (chunk(row).get(offset(row) + LIVE) != 0) {
+                    result.add(view(row));
+                }
+            }
+            return result;
+        } finally {
+            unlockRead();
+        }
+    }
+
+    /**
+     * Visits the live rows in insertion order without copying the whole store. Rows are read
+     * a block at a time under the read lock and handed to the action outside it, so a slow
+     * consumer does not hold up writers. After a compaction the walk resumes at the first row
+     * added after the last one visited.
+     */
+    @Override
+    public void forEach(Consumer<? super Employee<T>> action) {
+        List<Employee<T>> block = new ArrayList<>(ROWS_PER_VISIT);
+        int row = 0;
+        int seenCompactions = -1;
+        long lastSequence = Long.MIN_VALUE;
+        while (true) {
+            lockRead();
+            try {
+                if (seenCompactions != compactions) {
+                    row = seenCompactions < 0 ? 0 : firstRowAfter(lastSequence);
+                    seenCompactions = compactions;
+                }
+                for (; row < end && block.size() < ROWS_PER_VISIT; row++) {
+                    if (chunk(row).get(offset(row) + LIVE) != 0) {
+                        block.add(view(row));
+                    }
+                }
+            } finally {
+                unlockRead();
+            }
+            if (block.isEmpty()) {
+                return;
+            }
+            lastSequence = block.get(block.size() - 1).getSequence();
+            for (Employee<T> employee : block) {
+                action.accept(employee);
+            }
+            block.clear();
+        }
+    }
+
+    // Rows keep insertion order, so their sequences ascend
+    private int firstRowAfter(long sequence) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (chunk(middle).getLong(offset(middle) + SEQUENCE) <= sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Snapshots the rows under the read lock, so the stream never reads the store itself
+    @Override
+    public Stream<Employee<T>> stream(boolean parallel) {
+        List<Employee<T>> employees = toList();
+        return parallel ? employees.parallelStream() : employees.stream();
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return toList().iterator();
+    }
+
+    private ByteBuffer chunk(int row) {
+        return chunks.get(row >>> ROWS_PER_CHUNK_SHIFT);
+    }
+
+    // Snapshot chunks are mapped read-only and copied into direct memory on first write
+    private ByteBuffer writableChunk(int row) {
+        ByteBuffer chunk = chunk(row);
+        if (chunk.isReadOnly()) {
+            ByteBuffer copy = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            copy.put(0, chunk, 0, chunk.capacity());
+            chunks.set(row >>> ROWS_PER_CHUNK_SHIFT, copy);
+            chunk = copy;
+        }
+        return chunk;
+    }
+
+    private static int offset(int row) {
+        return (row & (ROWS_PER_CHUNK - 1)) * ROW_BYTES;
+    }
+
+    private double salaryAt(int row) {
+        return chunk(row).getDouble(offset(row) + SALARY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Employee<T> view(int row) {
+        ByteBuffer chunk = chunk(row);
+        int at = offset(row);
+        OffHeapEmployee<T> view = new OffHeapEmployee<>((T) Integer.valueOf(chunk.getInt(at + ID)), this);
+        view.attach(owner, chunk.getLong(at + SEQUENCE));
+        return view;
+    }
+
+    private List<Employee<T>> views(List<Integer> rows) {
+        List<Employee<T>> result = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            result.add(view(row));
+        }
+        return result;
+    }
+
+    // The employee's row, or -1 when it is not stored; a re-added ID gets a new sequence
+    private int locate(Employee<T> employee) {
+        if (!(employee.getEmployeeId() instanceof Integer id)) {
+            return -1;
+        }
+        int row = rowsById.get(id);
+        if (row == IntSlotMap.NO_SLOT || chunk(row).getLong(offset(row) + SEQUENCE) != employee.getSequence()) {
+            return -1;
+        }
+        return row;
+    }
+
+    private int checkedRow(Employee<T> employee) {
+        int row = locate(employee);
+        if (row < 0) {
+            throw new IllegalStateException("Employee " + employee.getEmployeeId() + " is no longer stored");
+        }
+        return row;
+    }
+
+    // Removed views cannot be written; removed originals simply stop forwarding
+    private int writableRow(Employee<T> employee) {
+        return employee instanceof OffHeapEmployee ? checkedRow(employee) : locate(employee);
+    }
+
+    private void writeFields(ByteBuffer chunk, int at, Employee<T> employee) {
+        chunk.putInt(at + YEARS, employee.getYearsOfExperience());
+        chunk.putDouble(at + SALARY, employee.getSalary());
+        chunk.putDouble(at + RATING, employee.getPerformanceRating());
+        chunk.putShort(at + DEPARTMENT, departmentCode(employee.getDepartment()));
+        chunk.put(at + ACTIVE, (byte) (employee.isActive() ? 1 : 0));
+        putName(chunk, at, employee.getName());
+    }
+
+    private void putName(ByteBuffer chunk, int at, String name) {
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        chunk.putLong(at + NAME_REFERENCE, names.append(utf8));
+        chunk.putInt(at + NAME_LENGTH, utf8.length);
+    }
+
+    // Departments keep their spelling; queries match them case-insensitively
+    private short departmentCode(String department) {
+        Short code = departmentCodes.get(department);
+        if (code == null) {
+            if (departments.size() >= Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct departments");
+            }
+            code = (short) departments.size();
+            departments.add(department);
+            departmentCodes.put(department, code);
+        }
+        return code;
+    }
+
+    private Set<Short> codesMatching(String department) {
+        String key = DepartmentIndex.normalize(department);
+        Set<Short> codes = new HashSet<>();
+        for (int code = 0; code < departments.size(); code++) {
+            if (DepartmentIndex.normalize(departments.get(code)).equals(key)) {
+                codes.add((short) code);
+            }
+        }
+        return codes;
+    }
+
+    private void compactIfNeeded() {
+        if ((tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > size) || names.needsCompaction()) {
+            compact();
+        }
+    }
+
+    // Copies live rows and their names into fresh memory, keeping insertion order
+    private void compact() {
+        List<ByteBuffer> compacted = new ArrayList<>();
+        OffHeapStringArena compactedNames = new OffHeapStringArena();
+        IntSlotMap compactedRows = new IntSlotMap(size);
+        int next = 0;
+        for (int row = 0; row < end; row++) {
+            ByteBuffer chunk = chunk(row);
+            int at = offset(row);
+            if (chunk.get(at + LIVE) == 0) {
+                continue;
+            }
+            if (next == compacted.size() * ROWS_PER_CHUNK) {
+                compacted.add(ByteBuffer.allocateDirect(CHUNK_BYTES));
+            }
+            ByteBuffer target = compacted.get(next >>> ROWS_PER_CHUNK_SHIFT);
+            int targetAt = offset(next);
+            target.put(targetAt, chunk, at, ROW_BYTES);
+            target.putLong(targetAt + NAME_REFERENCE, names.copyTo(compactedNames,
+                    chunk.getLong(at + NAME_REFERENCE), chunk.getInt(at + NAME_LENGTH)));
+            compactedRows.put(chunk.getInt(at + ID), next);
+            next++;
+        }
+        chunks = compacted;
+        names = compactedNames;
+        rowsById = compactedRows;
+        end = next;
+        tombstones = 0;
+        compactions++;
+    }
+
+    private void lockRead() {
+        if (lock != null) {
+            lock.readLock().lock();
+        }
+    }
+
+    private void unlockRead() {
+        if (lock != null) {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void lockWrite() {
+        if (lock != null) {
+            lock.writeLock().lock();
+        }
+    }
+
+    private void unlockWrite() {
+        if (lock != null) {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.employeemanagement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only UTF-8 strings in direct memory. A string is addressed by a reference packing
+ * its chunk and offset, plus its encoded length. Replaced strings stay behind as garbage
+ * until the owner copies the live ones into a fresh arena. Not thread-safe.
+ */
+final class OffHeapStringArena {
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current;
+    private long usedBytes;
+    private long garbageBytes;
+
+    OffHeapStringArena() {
+    }
+
+    // Adopts existing string bytes, such as a mapped snapshot section, as chunk zero
+    OffHeapStringArena(ByteBuffer base) {
+        chunks.add(base);
+        usedBytes = base.capacity();
+    }
+
+    long append(byte[] utf8) {
+        if (current == null || current.remaining() < utf8.length) {
+            current = ByteBuffer.allocateDirect(Math.max(CHUNK_SIZE, utf8.length));
+            chunks.add(current);
+        }
+        int offset = current.position();
+        current.put(utf8);
+        usedBytes += utf8.length;
+        return ((long) (chunks.size() - 1) << 32) | offset;
+    }
+
+    long append(String value) {
+        return append(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    String read(long reference, int length) {
+        byte[] utf8 = new byte[length];
+        chunks.get((int) (reference >>> 32)).get((int) reference, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    long copyTo(OffHeapStringArena target, long reference, int length) {
+        byte[] utf8 = new byte[length];
+        chunks.get((int) (reference >>> 32)).get((int) reference, utf8);
+        return target.append(utf8);
+    }
+
+    void release(int length) {
+        garbageBytes += length;
+    }
+
+    // Worth copying live strings out once at least half of a few chunks is garbage
+    boolean needsCompaction() {
+        return garbageBytes >= CHUNK_SIZE && garbageBytes * 2 > usedBytes;
+    }
+}
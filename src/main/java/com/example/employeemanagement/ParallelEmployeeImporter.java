@@ -0,0 +1,316 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Imports a CSV or JSON Lines file on several cores. The file is cut into fixed-size blocks;
+ * each block owns the records that start inside it. Workers on a {@link ForkJoinPool} read and
+ * parse blocks into validated {@link EmployeeRecord}s while the calling thread turns finished
+ * blocks into employees and adds them with {@link EmployeeDatabase#addEmployees} strictly in
+ * file order, so allocated IDs and the resulting database are the same as a sequential import
+ * would give. Only a bounded window of blocks is in flight at once, so memory does not grow
+ * with the file.
+ *
+ * <p>For CSV, a newline inside a quoted field does not end a record. To find record starts
+ * without reading the file front to back, a first parallel pass counts the quotes in each
+ * block, which tells every worker whether its block begins inside quotes.
+ */
+public final class ParallelEmployeeImporter {
+    private static final Logger LOGGER = Logger.getLogger(ParallelEmployeeImporter.class.getName());
+    static final int DEFAULT_BLOCK_BYTES = 4 << 20;
+    private static final int READ_AHEAD_BYTES = 64 << 10;
+    // Blocks parsed ahead of the one being committed, per worker
+    private static final int BLOCKS_IN_FLIGHT_PER_WORKER = 2;
+
+    private final EmployeeDatabase<Integer> database;
+    private final EmployeeFileFormat format;
+    private final int parallelism;
+    private final int blockBytes;
+
+    public ParallelEmployeeImporter(EmployeeDatabase<Integer> database, EmployeeFileFormat format) {
+        this(database, format, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelEmployeeImporter(EmployeeDatabase<Integer> database, EmployeeFileFormat format,
+                                    int parallelism) {
+        this(database, format, parallelism, DEFAULT_BLOCK_BYTES);
+    }
+
+    ParallelEmployeeImporter(EmployeeDatabase<Integer> database, EmployeeFileFormat format, int parallelism,
+                             int blockBytes) {
+        if (database == null) {
+            LOGGER.log(Level.SEVERE, "Null database provided");
+            throw new IllegalArgumentException("Database cannot be null");
+        }
+        if (format == null) {
+            LOGGER.log(Level.SEVERE, "Null import format provided");
+            throw new IllegalArgumentException("Import format cannot be null");
+        }
+        if (parallelism <= 0) {
+            LOGGER.log(Level.SEVERE, "Invalid parallelism: {0}", parallelism);
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (blockBytes <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.database = database;
+        this.format = format;
+        this.parallelism = parallelism;
+        this.blockBytes = blockBytes;
+    }
+
+    /**
+     * Imports every record in the file. Rejected records are listed in the report as they
+     * would be by {@link EmployeeCsvImporter}.
+     *
+     * @throws IOException when reading fails, a CSV header lacks a required column, or a
+     *                     record is longer than {@link EmployeeCsvImporter#BUFFER_BYTES}
+     */
+    public ImportReport importFile(Path file) throws IOException {
+        if (file == null) {
+            LOGGER.log(Level.SEVERE, "Null import path provided");
+            throw new IllegalArgumentException("Import path cannot be null");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ImportReport report = importFrom(channel, pool);
+            LOGGER.log(Level.INFO, "Imported {0} from {1} on {2} workers", new Object[]{report, file, parallelism});
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ImportReport importFrom(FileChannel channel, ForkJoinPool pool) throws IOException {
+        long size = channel.size();
+        EmployeeCsvParser header = null;
+        long dataStart = 0;
+        if (format == EmployeeFileFormat.CSV) {
+            byte[] bytes = new byte[(int) Math.min(size, EmployeeCsvImporter.BUFFER_BYTES)];
+            int length = readFully(channel, bytes, 0, 0, bytes.length);
+            int headerEnd = EmployeeCsvParser.recordEnd(bytes, 0, length);
+            if (length == 0) {
+                throw new IOException("CSV input has no header");
+            }
+            if (headerEnd < 0 && length < size) {
+                throw new IOException("Record 1 is longer than " + EmployeeCsvImporter.BUFFER_BYTES + " bytes");
+            }
+            headerEnd = headerEnd < 0 ? length : headerEnd;
+            header = EmployeeCsvParser.forHeader(bytes, 0, headerEnd);
+            dataStart = headerEnd + 1L;
+        }
+
+        int blocks = (int) Math.max(0, (size - dataStart + blockBytes - 1) / blockBytes);
+        boolean[] quotedAtStart = new boolean[blocks];
+        if (format == EmployeeFileFormat.CSV) {
+            findQuotedBlocks(channel, pool, dataStart, size, quotedAtStart);
+        }
+
+        ImportReport report = new ImportReport();
+        // The header, if any, is record 1
+        long recordsBefore = header != null ? 1 : 0;
+        EmployeeCsvParser csvHeader = header;
+        Deque<Future<BlockResult>> inFlight = new ArrayDeque<>();
+        int submitted = 0;
+        for (int block = 0; block < blocks; block++) {
+            while (submitted < blocks && submitted < block + parallelism * BLOCKS_IN_FLIGHT_PER_WORKER) {
+                long start = dataStart + (long) submitted * blockBytes;
+                long end = Math.min(start + blockBytes, size);
+                boolean quoted = quotedAtStart[submitted];
+                boolean first = submitted == 0;
+                inFlight.add(pool.submit(() -> parseBlock(channel, start, end, size, first, quoted,
+                        csvHeader != null ? csvHeader.copy() : new EmployeeJsonParser())));
+                submitted++;
+            }
+            BlockResult result = await(inFlight.poll());
+            commit(result, recordsBefore, report);
+            recordsBefore += result.recordCount;
+        }
+        return report;
+    }
+
+    // Turns a parsed block into employees, allocating IDs in file order, and adds them
+    private void commit(BlockResult result, long recordsBefore, ImportReport report) {
+        for (int i = 0; i < result.rejectedCount; i++) {
+            report.rejected(recordsBefore + result.rejectedIndexes[i] + 1, result.reasons.get(i));
+        }
+        List<Employee<Integer>> batch = new ArrayList<>(result.records.size());
+        long[] recordNumbers = new long[result.records.size()];
+        for (int i = 0; i < result.records.size(); i++) {
+            batch.add(result.records.get(i).toEmployee(database::nextEmployeeId));
+            recordNumbers[i] = recordsBefore + result.recordIndexes[i] + 1;
+        }
+        EmployeeCsvImporter.addBatch(database, batch, recordNumbers, report);
+    }
+
+    // Counts quotes per block in parallel; an odd running count means the next block starts quoted
+    private void findQuotedBlocks(FileChannel channel, ForkJoinPool pool, long dataStart, long size,
+                                  boolean[] quotedAtStart) throws IOException {
+        List<Future<Boolean>> oddCounts = new ArrayList<>(quotedAtStart.length);
+        for (int block = 0; block < quotedAtStart.length; block++) {
+            long start = dataStart + (long) block * blockBytes;
+            long end = Math.min(start + blockBytes, size);
+            oddCounts.add(pool.submit(() -> hasOddQuoteCount(channel, start, end)));
+        }
+        boolean quoted = false;
+        for (int block = 0; block < quotedAtStart.length; block++) {
+            quotedAtStart[block] = quoted;
+            quoted ^= await(oddCounts.get(block));
+        }
+    }
+
+    private boolean hasOddQuoteCount(FileChannel channel, long start, long end) throws IOException {
+        byte[] bytes = new byte[(int) (end - start)];
+        int length = readFully(channel, bytes, 0, start, bytes.length);
+        boolean odd = false;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == '"') {
+                odd = !odd;
+            }
+        }
+        return odd;
+    }
+
+    /**
+     * Parses the records that start in {@code [start, end)}. The last of them may run past
+     * {@code end}, in which case the rest of it is read too. A record starts right after an
+     * unquoted newline, so unless this is the first block the scan begins one byte early.
+     */
+    private BlockResult parseBlock(FileChannel channel, long start, long end, long size, boolean first,
+                                   boolean quotedAtStart, EmployeeRecordParser parser) throws IOException {
+        long base = first ? start : start - 1;
+        byte[] bytes = new byte[(int) (end - base) + READ_AHEAD_BYTES];
+        int length = readFully(channel, bytes, 0, base, (int) (end - base));
+        int offset;
+        if (first) {
+            offset = 0;
+        } else if (bytes[0] == '\n' && !quotedAtStart) {
+            offset = 1;
+        } else {
+            int boundary = recordEnd(bytes, 1, length, quotedAtStart);
+            offset = boundary < 0 ? length : boundary + 1;
+        }
+
+        BlockResult result = new BlockResult();
+        while (base + offset < end) {
+            int recordEnd = recordEnd(bytes, offset, length, false);
+            while (recordEnd < 0 && base + length < size) {
+                if (length - offset >= EmployeeCsvImporter.BUFFER_BYTES) {
+                    throw new IOException("Record at byte " + (base + offset) + " is longer than "
+                            + EmployeeCsvImporter.BUFFER_BYTES + " bytes");
+                }
+                if (bytes.length - length < READ_AHEAD_BYTES) {
+                    bytes = Arrays.copyOf(bytes, bytes.length + Math.max(bytes.length / 2, READ_AHEAD_BYTES));
+                }
+                int read = readFully(channel, bytes, length, base + length, READ_AHEAD_BYTES);
+                if (read == 0) {
+                    break;
+                }
+                length += read;
+                recordEnd = recordEnd(bytes, offset, length, false);
+            }
+            if (recordEnd < 0) {
+                recordEnd = length;
+            }
+            int index = result.recordCount++;
+            if (!EmployeeCsvParser.isBlank(bytes, offset, recordEnd)) {
+                try {
+                    result.parsed(index, parser.parseRecord(bytes, offset, recordEnd));
+                } catch (InvalidSalaryException | InvalidDepartmentException | IllegalArgumentException e) {
+                    result.rejected(index, e.getMessage());
+                }
+            }
+            offset = recordEnd + 1;
+        }
+        return result;
+    }
+
+    // JSON strings cannot hold a raw newline, so only CSV tracks quotes
+    private int recordEnd(byte[] bytes, int from, int to, boolean quoted) {
+        if (format == EmployeeFileFormat.CSV) {
+            return EmployeeCsvParser.recordEnd(bytes, from, to, quoted);
+        }
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Reads until count bytes arrive or the file ends; returns the number read
+    private static int readFully(FileChannel channel, byte[] bytes, int at, long position, int count)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, at, count);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position() - at);
+            if (read < 0) {
+                break;
+            }
+        }
+        return buffer.position() - at;
+    }
+
+    private static <V> V await(Future<V> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Import failed", cause);
+        }
+    }
+
+    // Records are indexed within their block, counting blank ones, so the committer can number them
+    private static final class BlockResult {
+        final List<EmployeeRecord> records = new ArrayList<>();
+        int[] recordIndexes = new int[64];
+        final List<String> reasons = new ArrayList<>();
+        int[] rejectedIndexes = new int[8];
+        int rejectedCount;
+        int recordCount;
+
+        void parsed(int index, EmployeeRecord record) {
+            if (records.size() == recordIndexes.length) {
+                recordIndexes = Arrays.copyOf(recordIndexes, recordIndexes.length * 2);
+            }
+            recordIndexes[records.size()] = index;
+            records.add(record);
+        }
+
+        void rejected(int index, String reason) {
+            if (rejectedCount == rejectedIndexes.length) {
+                rejectedIndexes = Arrays.copyOf(rejectedIndexes, rejectedIndexes.length * 2);
+            }
+            rejectedIndexes[rejectedCount++] = index;
+            reasons.add(reason);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.employeemanagement;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The row numbers of a store, split for parallel scans. Splits fall on multiples of
+ * {@link #GRAIN}, which divides an off-heap chunk evenly, so no task straddles two chunks
+ * and neighbouring tasks never share a cache line of a heap column. The range is fixed when
+ * the scan starts; rows written while it runs may or may not be seen.
+ */
+final class RowSpliterator implements Spliterator.OfInt {
+    static final int GRAIN = 4096;
+    // Ranges at most this long are scanned by one task
+    private static final int ROWS_PER_TASK = 4 * GRAIN;
+
+    // Scans the rows from inclusive to exclusive with a plain loop
+    @FunctionalInterface
+    interface RangeScan<R> {
+        R scan(int from, int to);
+    }
+
+    private int from;
+    private final int to;
+
+    RowSpliterator(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    static IntStream rows(int end, boolean parallel) {
+        return StreamSupport.intStream(new RowSpliterator(0, end), parallel);
+    }
+
+    /**
+     * Scans rows 0 to end in one call on this thread, or, in parallel, splits them into ranges
+     * scanned as tasks on the calling thread's fork-join pool. Partial results are merged in
+     * row order, the earlier range's result first.
+     */
+    static <R> R scan(int end, boolean parallel, RangeScan<R> scan, BinaryOperator<R> merge) {
+        if (!parallel) {
+            return scan.scan(0, end);
+        }
+        return new ScanTask<>(new RowSpliterator(0, end), scan, merge).invoke();
+    }
+
+    // Never serialized; RecursiveTask is Serializable only by inheritance
+    @SuppressWarnings("serial")
+    private static final class ScanTask<R> extends RecursiveTask<R> {
+        private final RowSpliterator rows;
+        private final RangeScan<R> scan;
+        private final BinaryOperator<R> merge;
+
+        ScanTask(RowSpliterator rows, RangeScan<R> scan, BinaryOperator<R> merge) {
+            this.rows = rows;
+            this.scan = scan;
+            this.merge = merge;
+        }
+
+        @Override
+        protected R compute() {
+            RowSpliterator prefix = rows.estimateSize() > ROWS_PER_TASK ? rows.trySplit() : null;
+            if (prefix == null) {
+                return scan.scan(rows.from, rows.to);
+            }
+            ScanTask<R> earlier = new ScanTask<>(prefix, scan, merge);
+            earlier.fork();
+            R later = compute();
+            return merge.apply(earlier.join(), later);
+        }
+    }
+
+    @Override
+    public RowSpliterator trySplit() {
+        int middle = (from + to) >>> 1;
+        middle -= middle % GRAIN;
+        if (middle <= from) {
+            return null;
+        }
+        RowSpliterator prefix = new RowSpliterator(from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (from >= to) {
+            return false;
+        }
+        action.accept(from++);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        int row = from;
+        from = to;
+        for (; row < to; row++) {
+            action.accept(row);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | DISTINCT;
+    }
+}
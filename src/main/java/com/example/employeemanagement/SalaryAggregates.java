@@ -0,0 +1,67 @@
+package com.example.employeemanagement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running salary statistics per case-insensitive department, updated in constant time as
+ * salaries come, go and change. Count and total are always exact. Minimum and maximum are
+ * too until the salary holding one of them leaves or moves inwards; the department is then
+ * marked and its extremes recomputed by the next reader that needs them.
+ * <p>
+ * Each department's statistics are replaced whole, so readers need no lock and never see a
+ * count from one change with a total from another. Writes must be serialized by the caller.
+ */
+final class SalaryAggregates {
+    private final Map<String, DepartmentSalaryStats> departments;
+
+    SalaryAggregates(boolean concurrent) {
+        this.departments = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    void add(String department, double salary) {
+        String key = DepartmentIndex.normalize(department);
+        departments.put(key, departments.getOrDefault(key, DepartmentSalaryStats.EMPTY).plus(salary));
+    }
+
+    void remove(String department, double salary) {
+        String key = DepartmentIndex.normalize(department);
+        DepartmentSalaryStats stats = departments.get(key);
+        if (stats == null) {
+            return;
+        }
+        if (stats.getCount() == 1) {
+            departments.remove(key);
+        } else {
+            departments.put(key, stats.minus(salary));
+        }
+    }
+
+    void salaryChanged(String department, double oldSalary, double newSalary) {
+        String key = DepartmentIndex.normalize(department);
+        DepartmentSalaryStats stats = departments.get(key);
+        if (stats != null) {
+            departments.put(key, stats.changed(oldSalary, newSalary));
+        }
+    }
+
+    void departmentChanged(String oldDepartment, String newDepartment, double salary) {
+        remove(oldDepartment, salary);
+        add(newDepartment, salary);
+    }
+
+    // Installs recomputed extremes for a department whose extremes were stale
+    void setExtremes(String department, double min, double max) {
+        String key = DepartmentIndex.normalize(department);
+        DepartmentSalaryStats stats = departments.get(key);
+        if (stats != null) {
+            departments.put(key, stats.withExtremes(min, max));
+        }
+    }
+
+    /** Returns the department's statistics, whose extremes may be stale. */
+    DepartmentSalaryStats get(String department) {
+        return departments.getOrDefault(DepartmentIndex.normalize(department), DepartmentSalaryStats.EMPTY);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Orders employees by salary for range and top-N queries. Employees on the same salary are
+ * kept in database insertion order.
+ */
+final class SalaryIndex<T> implements EmployeeIndex<T> {
+    private static final Comparator<Employee<?>> INSERTION_ORDER = Comparator.comparingLong(Employee::getSequence);
+
+    private final boolean concurrent;
+    private final NavigableMap<Double, NavigableSet<Employee<T>>> bySalary;
+    // Odd while a salary change has the employee in two buckets; written under the write lock
+    private volatile long moves;
+
+    SalaryIndex(boolean concurrent) {
+        this.concurrent = concurrent;
+        this.bySalary = concurrent ? new ConcurrentSkipListMap<>() : new TreeMap<>();
+    }
+
+    // Folds -0.0 into 0.0 so both land in the same bucket
+    private static double key(double salary) {
+        return salary + 0.0;
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        bySalary.computeIfAbsent(key(employee.getSalary()), k -> newBucket()).add(employee);
+    }
+
+    // Groups equal salaries so each bucket is looked up once rather than once per employee
+    @Override
+    public void addAll(List<Employee<T>> employees) {
+        Map<Double, List<Employee<T>>> bySalaryInBatch = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            bySalaryInBatch.computeIfAbsent(key(employee.getSalary()), k -> new ArrayList<>()).add(employee);
+        }
+        for (Map.Entry<Double, List<Employee<T>>> group : bySalaryInBatch.entrySet()) {
+            bySalary.computeIfAbsent(group.getKey(), k -> newBucket()).addAll(group.getValue());
+        }
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        removeFrom(key(employee.getSalary()), employee);
+    }
+
+    @Override
+    public void salaryChanged(Employee<T> employee, double oldSalary) {
+        double oldKey = key(oldSalary);
+        if (oldKey == key(employee.getSalary())) {
+            return;
+        }
+        // Add before removing so a concurrent reader never finds the employee in neither bucket
+        moves++;
+        add(employee);
+        removeFrom(oldKey, employee);
+        moves++;
+    }
+
+    List<Employee<T>> range(double minSalary, double maxSalary) {
+        long movesBefore = moves;
+        List<Employee<T>> result = new ArrayList<>();
+        for (NavigableSet<Employee<T>> bucket : bySalary.subMap(key(minSalary), true, key(maxSalary), true).values()) {
+            result.addAll(bucket);
+        }
+        // An employee moved while the range was read may have been met in both buckets
+        if (concurrent && (movesBefore != moves || (movesBefore & 1) != 0)) {
+            Set<Employee<T>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            result.removeIf(employee -> !seen.add(employee));
+        }
+        return result;
+    }
+
+    // Stops once past the limit, which is all a query planner needs to know
+    int count(double minSalary, double maxSalary, int limit) {
+        int count = 0;
+        for (NavigableSet<Employee<T>> bucket : bySalary.subMap(key(minSalary), true, key(maxSalary), true).values()) {
+            count += bucket.size();
+            if (count > limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    List<Employee<T>> highest(int count) {
+        List<Employee<T>> result = new ArrayList<>(Math.min(count, 64));
+        Set<Employee<T>> seen = concurrent ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+        for (NavigableSet<Employee<T>> bucket : bySalary.descendingMap().values()) {
+            for (Employee<T> employee : bucket) {
+                if (result.size() == count) {
+                    return result;
+                }
+                if (seen == null || seen.add(employee)) {
+                    result.add(employee);
+                }
+            }
+        }
+        return result;
+    }
+
+    private NavigableSet<Employee<T>> newBucket() {
+        return concurrent ? new ConcurrentSkipListSet<>(INSERTION_ORDER) : new TreeSet<>(INSERTION_ORDER);
+    }
+
+    private void removeFrom(double key, Employee<T> employee) {
+        NavigableSet<Employee<T>> bucket = bySalary.get(key);
+        if (bucket != null && bucket.remove(employee) && bucket.isEmpty()) {
+            bySalary.remove(key);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.employeemanagement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The highest paid employees, best first, kept for the small counts dashboards ask for. The
+ * board always holds the exact top of the database, but may shrink: an employee leaving it,
+ * or paid less and overtaken by someone off the board, cannot be replaced without a scan, so
+ * the board answers only counts up to its size and is refilled by the caller otherwise. A
+ * newcomer who beats the last entry joins it, as it must then rank among the top.
+ * <p>
+ * Salary ties go to the employee added first. Entries hold IDs rather than employees, so the
+ * board serves every storage mode. Each change publishes a new board, so readers need no
+ * lock; writes must be serialized by the caller.
+ */
+final class SalaryLeaderboard<T> {
+    static final int CAPACITY = 16;
+
+    private static final class Entry<T> {
+        final T employeeId;
+        final double salary;
+        final long sequence;
+
+        Entry(T employeeId, double salary, long sequence) {
+            this.employeeId = employeeId;
+            this.salary = salary;
+            this.sequence = sequence;
+        }
+
+        boolean ranksBefore(Entry<T> other) {
+            int order = Double.compare(other.salary, salary);
+            return order < 0 || (order == 0 && sequence < other.sequence);
+        }
+    }
+
+    // Complete when it holds every employee in the database, so anyone may join it
+    private static final class Board<T> {
+        final Entry<T>[] entries;
+        final boolean complete;
+
+        Board(Entry<T>[] entries, boolean complete) {
+            this.entries = entries;
+            this.complete = complete;
+        }
+    }
+
+    private volatile Board<T> board;
+
+    /** Starts from the database's top employees, best first; complete if that is all of them. */
+    SalaryLeaderboard(List<Employee<T>> highest, boolean complete) {
+        @SuppressWarnings("unchecked")
+        Entry<T>[] entries = (Entry<T>[]) new Entry<?>[Math.min(highest.size(), CAPACITY)];
+        for (int i = 0; i < entries.length; i++) {
+            Employee<T> employee = highest.get(i);
+            entries[i] = new Entry<>(employee.getEmployeeId(), employee.getSalary(), employee.getSequence());
+        }
+        this.board = new Board<>(entries, complete && highest.size() <= CAPACITY);
+    }
+
+    void add(Employee<T> employee) {
+        board = joined(board, new Entry<>(employee.getEmployeeId(), employee.getSalary(), employee.getSequence()));
+    }
+
+    void remove(T employeeId) {
+        Board<T> current = board;
+        int index = indexOf(current, employeeId);
+        if (index >= 0) {
+            board = new Board<>(without(current.entries, index), current.complete);
+        }
+    }
+
+    void salaryChanged(Employee<T> employee) {
+        Board<T> current = board;
+        int index = indexOf(current, employee.getEmployeeId());
+        if (index >= 0) {
+            current = new Board<>(without(current.entries, index), current.complete);
+        }
+        board = joined(current, new Entry<>(employee.getEmployeeId(), employee.getSalary(), employee.getSequence()));
+    }
+
+    /** Returns the IDs of the count highest paid, best first, or null when the board is too short. */
+    List<T> highest(int count) {
+        Board<T> current = board;
+        if (count > current.entries.length && !current.complete) {
+            return null;
+        }
+        int n = Math.min(count, current.entries.length);
+        List<T> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(current.entries[i].employeeId);
+        }
+        return result;
+    }
+
+    private static <T> Board<T> joined(Board<T> current, Entry<T> entry) {
+        Entry<T>[] entries = current.entries;
+        int at = 0;
+        while (at < entries.length && entries[at].ranksBefore(entry)) {
+            at++;
+        }
+        if (at == entries.length && !current.complete) {
+            // Below the whole board, where someone off it may rank higher
+            return current;
+        }
+        boolean full = entries.length == CAPACITY;
+        if (full && at == CAPACITY) {
+            return new Board<>(entries, false);
+        }
+        Entry<T>[] updated = Arrays.copyOf(entries, full ? CAPACITY : entries.length + 1);
+        System.arraycopy(entries, at, updated, at + 1, updated.length - at - 1);
+        updated[at] = entry;
+        // Whoever fell off the end is no longer on the board
+        return new Board<>(updated, current.complete && !full);
+    }
+
+    private static <T> int indexOf(Board<T> current, T employeeId) {
+        for (int i = 0; i < current.entries.length; i++) {
+            if (current.entries[i].employeeId.equals(employeeId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T> Entry<T>[] without(Entry<T>[] entries, int index) {
+        Entry<T>[] copy = Arrays.copyOf(entries, entries.length - 1);
+        System.arraycopy(entries, index + 1, copy, index, entries.length - index - 1);
+        return copy;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.employeemanagement;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates ascending integer IDs from a single atomic counter.
+ */
+public class SequentialIdAllocator implements IdAllocator<Integer> {
+    private final AtomicLong lastId;
+
+    public SequentialIdAllocator() {
+        this(0);
+    }
+
+    public SequentialIdAllocator(int lastUsedId) {
+        this.lastId = new AtomicLong(lastUsedId);
+    }
+
+    @Override
+    public Integer nextId() {
+        return checkedId(lastId.incrementAndGet());
+    }
+
+    @Override
+    public void reserve(Integer id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Employee ID cannot be null");
+        }
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    static int checkedId(long id) {
+        if (id > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Employee ID space exhausted");
+        }
+        return (int) id;
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Every employee in the database, kept in the order of one sort key so a sorted read is an
+ * ordered walk rather than a sort. Employees with equal keys stay in insertion order. A
+ * change to the key moves the employee by removing the entry filed under the old value and
+ * inserting one under the new.
+ * <p>
+ * Entries live in sorted blocks of parallel arrays, so a read walks arrays instead of chasing
+ * a tree node per employee. Blocks are immutable: a change copies the one block it touches
+ * and publishes a new block list, so readers need no lock. Writes must be serialized by the
+ * caller.
+ * <p>
+ * Entries hold the employee when the store retains employees and only the ID otherwise, as
+ * off-heap views cannot be read once removed; {@link #remove} must therefore be called while
+ * the employee is still stored.
+ */
+final class SortedEmployeeView<T> implements EmployeeChangeListener<T> {
+    private static final int MAX_BLOCK_SIZE = 1024;
+    private static final Block[] NO_BLOCKS = new Block[0];
+
+    enum Key {
+        EXPERIENCE(true) {
+            @Override
+            double of(Employee<?> employee) {
+                return employee.getYearsOfExperience();
+            }
+        },
+        SALARY(false) {
+            @Override
+            double of(Employee<?> employee) {
+                return employee.getSalary();
+            }
+        },
+        PERFORMANCE(false) {
+            @Override
+            double of(Employee<?> employee) {
+                return employee.getPerformanceRating();
+            }
+        };
+
+        private final boolean descending;
+
+        Key(boolean descending) {
+            this.descending = descending;
+        }
+
+        abstract double of(Employee<?> employee);
+
+        // The view's order: by value, then insertion
+        int compare(Employee<?> a, Employee<?> b) {
+            int order = descending ? Double.compare(of(b), of(a)) : Double.compare(of(a), of(b));
+            return order != 0 ? order : Long.compare(a.getSequence(), b.getSequence());
+        }
+    }
+
+    // Entries are ordered by value, then sequence; refs hold employees or IDs
+    private static final class Block {
+        final double[] values;
+        final long[] sequences;
+        final Object[] refs;
+
+        Block(double[] values, long[] sequences, Object[] refs) {
+            this.values = values;
+            this.sequences = sequences;
+            this.refs = refs;
+        }
+
+        int size() {
+            return values.length;
+        }
+
+        Block inserted(int at, double value, long sequence, Object ref) {
+            int n = size();
+            double[] newValues = new double[n + 1];
+            long[] newSequences = new long[n + 1];
+            Object[] newRefs = new Object[n + 1];
+            System.arraycopy(values, 0, newValues, 0, at);
+            System.arraycopy(sequences, 0, newSequences, 0, at);
+            System.arraycopy(refs, 0, newRefs, 0, at);
+            newValues[at] = value;
+            newSequences[at] = sequence;
+            newRefs[at] = ref;
+            System.arraycopy(values, at, newValues, at + 1, n - at);
+            System.arraycopy(sequences, at, newSequences, at + 1, n - at);
+            System.arraycopy(refs, at, newRefs, at + 1, n - at);
+            return new Block(newValues, newSequences, newRefs);
+        }
+
+        Block removed(int at) {
+            int n = size();
+            double[] newValues = new double[n - 1];
+            long[] newSequences = new long[n - 1];
+            Object[] newRefs = new Object[n - 1];
+            System.arraycopy(values, 0, newValues, 0, at);
+            System.arraycopy(sequences, 0, newSequences, 0, at);
+            System.arraycopy(refs, 0, newRefs, 0, at);
+            System.arraycopy(values, at + 1, newValues, at, n - at - 1);
+            System.arraycopy(sequences, at + 1, newSequences, at, n - at - 1);
+            System.arraycopy(refs, at + 1, newRefs, at, n - at - 1);
+            return new Block(newValues, newSequences, newRefs);
+        }
+
+        Block range(int from, int to) {
+            return new Block(Arrays.copyOfRange(values, from, to), Arrays.copyOfRange(sequences, from, to),
+                Arrays.copyOfRange(refs, from, to));
+        }
+    }
+
+    private final Key key;
+    private final boolean retainEmployees;
+    // Never holds an empty block
+    private volatile Block[] blocks = NO_BLOCKS;
+
+    SortedEmployeeView(Key key, boolean retainEmployees) {
+        this.key = key;
+        this.retainEmployees = retainEmployees;
+    }
+
+    Key key() {
+        return key;
+    }
+
+    /** Fills an empty view with the given employees in one sort. */
+    void addAll(List<Employee<T>> employees) {
+        int n = employees.size();
+        double[] values = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = key.of(employees.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compare(values[a], employees.get(a).getSequence(),
+            values[b], employees.get(b).getSequence()));
+        List<Block> filled = new ArrayList<>(n / MAX_BLOCK_SIZE + 1);
+        // Half full, so inserts do not split every block straight away
+        int step = MAX_BLOCK_SIZE / 2;
+        for (int start = 0; start < n; start += step) {
+            int count = Math.min(step, n - start);
+            double[] blockValues = new double[count];
+            long[] blockSequences = new long[count];
+            Object[] blockRefs = new Object[count];
+            for (int i = 0; i < count; i++) {
+                int index = order[start + i];
+                Employee<T> employee = employees.get(index);
+                blockValues[i] = values[index];
+                blockSequences[i] = employee.getSequence();
+                blockRefs[i] = ref(employee);
+            }
+            filled.add(new Block(blockValues, blockSequences, blockRefs));
+        }
+        blocks = filled.toArray(NO_BLOCKS);
+    }
+
+    void add(Employee<T> employee) {
+        insert(key.of(employee), employee.getSequence(), ref(employee));
+    }
+
+    void remove(Employee<T> employee) {
+        delete(key.of(employee), employee.getSequence());
+    }
+
+    @Override
+    public void salaryChanged(Employee<T> employee, double oldSalary) {
+        if (key == Key.SALARY) {
+            moved(employee, oldSalary);
+        }
+    }
+
+    @Override
+    public void performanceRatingChanged(Employee<T> employee, double oldRating) {
+        if (key == Key.PERFORMANCE) {
+            moved(employee, oldRating);
+        }
+    }
+
+    @Override
+    public void yearsOfExperienceChanged(Employee<T> employee, int oldYears) {
+        if (key == Key.EXPERIENCE) {
+            moved(employee, oldYears);
+        }
+    }
+
+    /** Returns every employee in key order, looking up those the view holds only by ID. */
+    @SuppressWarnings("unchecked")
+    List<Employee<T>> toList(Function<T, Employee<T>> lookup) {
+        Block[] current = blocks;
+        int total = 0;
+        for (Block block : current) {
+            total += block.size();
+        }
+        List<Employee<T>> result = new ArrayList<>(total);
+        for (Block block : current) {
+            for (Object ref : block.refs) {
+                Employee<T> employee = retainEmployees ? (Employee<T>) ref : lookup.apply((T) ref);
+                // A concurrent removal may have taken it since the blocks were read
+                if (employee != null) {
+                    result.add(employee);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Counts the entries whose key is between min and max inclusive, without reading them. */
+    int count(double min, double max) {
+        Block[] current = blocks;
+        if (current.length == 0) {
+            return 0;
+        }
+        int from = position(current, key.descending ? max : min, Long.MIN_VALUE);
+        int to = position(current, key.descending ? min : max, Long.MAX_VALUE);
+        return Math.max(0, to - from);
+    }
+
+    /**
+     * Hands the employees whose key is between min and max inclusive to the action in key
+     * order, until the action returns false. Looks up those the view holds only by ID.
+     */
+    @SuppressWarnings("unchecked")
+    void walk(double min, double max, Function<T, Employee<T>> lookup, Predicate<Employee<T>> action) {
+        Block[] current = blocks;
+        if (current.length == 0) {
+            return;
+        }
+        double first = key.descending ? max : min;
+        double last = key.descending ? min : max;
+        int index = blockFor(current, first, Long.MIN_VALUE);
+        int at = search(current[index], first, Long.MIN_VALUE);
+        for (int i = at >= 0 ? at : -at - 1; index < current.length; index++, i = 0) {
+            Block block = current[index];
+            for (; i < block.size(); i++) {
+                if (compare(block.values[i], block.sequences[i], last, Long.MAX_VALUE) > 0) {
+                    return;
+                }
+                Object ref = block.refs[i];
+                Employee<T> employee = retainEmployees ? (Employee<T>) ref : lookup.apply((T) ref);
+                // A concurrent removal may have taken it since the blocks were read
+                if (employee != null && !action.test(employee)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void moved(Employee<T> employee, double oldValue) {
+        if (delete(oldValue, employee.getSequence())) {
+            add(employee);
+        }
+    }
+
+    private Object ref(Employee<T> employee) {
+        return retainEmployees ? employee : employee.getEmployeeId();
+    }
+
+    private void insert(double value, long sequence, Object ref) {
+        Block[] current = blocks;
+        if (current.length == 0) {
+            blocks = new Block[]{new Block(new double[]{value}, new long[]{sequence}, new Object[]{ref})};
+            return;
+        }
+        int index = blockFor(current, value, sequence);
+        Block block = current[index];
+        int at = -search(block, value, sequence) - 1;
+        Block grown = block.inserted(at, value, sequence, ref);
+        Block[] updated;
+        if (grown.size() > MAX_BLOCK_SIZE) {
+            int half = grown.size() / 2;
+            updated = new Block[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            updated[index] = grown.range(0, half);
+            updated[index + 1] = grown.range(half, grown.size());
+            System.arraycopy(current, index + 1, updated, index + 2, current.length - index - 1);
+        } else {
+            updated = current.clone();
+            updated[index] = grown;
+        }
+        blocks = updated;
+    }
+
+    // Returns whether the entry was there
+    private boolean delete(double value, long sequence) {
+        Block[] current = blocks;
+        if (current.length == 0) {
+            return false;
+        }
+        int index = blockFor(current, value, sequence);
+        Block block = current[index];
+        int at = search(block, value, sequence);
+        if (at < 0) {
+            return false;
+        }
+        Block[] updated;
+        if (block.size() == 1) {
+            updated = new Block[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+        } else {
+            updated = current.clone();
+            updated[index] = block.removed(at);
+        }
+        blocks = updated;
+        return true;
+    }
+
+    // The first block whose last entry is not before the given one, else the last block
+    private int blockFor(Block[] current, double value, long sequence) {
+        int low = 0;
+        int high = current.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Block block = current[mid];
+            int last = block.size() - 1;
+            if (compare(block.values[last], block.sequences[last], value, sequence) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Number of entries ordered before the given one
+    private int position(Block[] current, double value, long sequence) {
+        int index = blockFor(current, value, sequence);
+        int at = search(current[index], value, sequence);
+        int position = at >= 0 ? at : -at - 1;
+        for (int i = 0; i < index; i++) {
+            position += current[i].size();
+        }
+        return position;
+    }
+
+    // Index of the entry in the block, or -(insertion point) - 1
+    private int search(Block block, double value, long sequence) {
+        int low = 0;
+        int high = block.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = compare(block.values[mid], block.sequences[mid], value, sequence);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    private int compare(double value, long sequence, double otherValue, long otherSequence) {
+        int order = key.descending ? Double.compare(otherValue, value) : Double.compare(value, otherValue);
+        return order != 0 ? order : Long.compare(sequence, otherSequence);
+    }
+}
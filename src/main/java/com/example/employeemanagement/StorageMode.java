@@ -0,0 +1,20 @@
+package com.example.employeemanagement;
+
+/**
+ * How an {@link EmployeeDatabase} lays out its rows.
+ */
+public enum StorageMode {
+    /** Employee objects only. */
+    HEAP,
+    /**
+     * Employee objects plus primitive column copies of salary, rating, experience and a
+     * dictionary-encoded department, so analytics scan flat arrays instead of chasing
+     * pointers across the heap.
+     */
+    COLUMNAR,
+    /**
+     * Fixed-width rows and names kept in direct memory outside the garbage-collected heap;
+     * lookups return lightweight views over the rows. Requires Integer employee IDs.
+     */
+    OFF_HEAP
+}
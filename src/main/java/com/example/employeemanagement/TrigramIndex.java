@@ -0,0 +1,293 @@
+package com.example.employeemanagement;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from the three-character substrings of normalized names to the employees
+ * whose names contain them. A substring search intersects the posting lists of the term's
+ * trigrams and only compares the names of the employees left over, instead of scanning
+ * every name. Terms shorter than three characters cannot be answered here.
+ * <p>
+ * Postings are kept in database insertion order, so results come back in the same order as
+ * a scan. Readers need no lock, as with {@link EmployeeTable}.
+ */
+final class TrigramIndex<T> implements EmployeeIndex<T> {
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Posting> postings;
+
+    TrigramIndex(boolean concurrent) {
+        this.postings = concurrent ? new ConcurrentHashMap<>() : new HashMap<>();
+    }
+
+    static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // Whether search() can answer the normalized term
+    static boolean canSearch(String term) {
+        return term.length() >= GRAM_LENGTH;
+    }
+
+    @Override
+    public void add(Employee<T> employee) {
+        for (long gram : trigrams(employee.getName())) {
+            postings.computeIfAbsent(gram, k -> new Posting()).add(employee);
+        }
+    }
+
+    @Override
+    public void remove(Employee<T> employee) {
+        removeFrom(employee.getName(), employee);
+    }
+
+    @Override
+    public void nameChanged(Employee<T> employee, String oldName) {
+        removeFrom(oldName, employee);
+        add(employee);
+    }
+
+    /**
+     * Returns the employees whose normalized name contains the normalized term, which must
+     * pass {@link #canSearch}.
+     */
+    List<Employee<T>> search(String term) {
+        long[] grams = distinctGrams(term);
+        Posting.View[] views = new Posting.View[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            Posting posting = postings.get(grams[i]);
+            if (posting == null) {
+                return new ArrayList<>();
+            }
+            views[i] = posting.view();
+        }
+        // Walk the shortest list and probe the others, which only ever move forward
+        Arrays.sort(views, Comparator.comparingInt((Posting.View view) -> view.count));
+        Posting.View driver = views[0];
+        Posting.View[] others = Arrays.copyOfRange(views, 1, views.length);
+        int[] cursors = new int[others.length];
+        List<Employee<T>> result = new ArrayList<>();
+        candidates:
+        for (int i = 0; i < driver.count; i++) {
+            @SuppressWarnings("unchecked")
+            Employee<T> employee = (Employee<T>) driver.employees[i];
+            if (employee == null) {
+                continue;
+            }
+            long sequence = driver.sequences[i];
+            for (int j = 0; j < others.length; j++) {
+                cursors[j] = others[j].seek(sequence, cursors[j]);
+                if (!others[j].holds(cursors[j], sequence)) {
+                    continue candidates;
+                }
+            }
+            // Sharing every trigram does not make the term a substring, e.g. "anan" and "nana"
+            String name = employee.getName();
+            if (name != null && normalize(name).contains(term)) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bounds how many employees {@link #search} could return for the normalized term, which
+     * must pass {@link #canSearch}, without intersecting anything.
+     */
+    int estimate(String term) {
+        int fewest = Integer.MAX_VALUE;
+        for (long gram : distinctGrams(term)) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return 0;
+            }
+            fewest = Math.min(fewest, posting.size());
+        }
+        return fewest;
+    }
+
+    private void removeFrom(String name, Employee<T> employee) {
+        for (long gram : trigrams(name)) {
+            Posting posting = postings.get(gram);
+            if (posting != null && posting.remove(employee) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static long[] trigrams(String name) {
+        return name == null ? new long[0] : distinctGrams(normalize(name));
+    }
+
+    // Packs each trigram's three UTF-16 units into one key; duplicates are dropped
+    private static long[] distinctGrams(String text) {
+        int count = text.length() - GRAM_LENGTH + 1;
+        if (count <= 0) {
+            return new long[0];
+        }
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == count ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * The employees holding one trigram, ordered by database sequence. Removal leaves a
+     * tombstone (a null employee that keeps its sequence) so the order survives without
+     * shifting; tombstones are squeezed out once they outnumber the live entries.
+     */
+    private static final class Posting {
+        private static final int MIN_CAPACITY = 4;
+        private static final int MIN_TOMBSTONES_TO_COMPACT = 16;
+
+        // Swapped together so a reader never pairs mismatched arrays. Unused entries hold the
+        // largest sequence: a reader that loaded end before a compaction shrank it must still
+        // find everything below that end sorted.
+        private static final class Block {
+            final long[] sequences;
+            final Object[] employees;
+
+            Block(int capacity) {
+                this.sequences = new long[capacity];
+                this.employees = new Object[capacity];
+                Arrays.fill(sequences, Long.MAX_VALUE);
+            }
+        }
+
+        // A reader's snapshot: entries below count are sorted by sequence
+        private static final class View {
+            final long[] sequences;
+            final Object[] employees;
+            final int count;
+
+            View(Block block, int count) {
+                this.sequences = block.sequences;
+                this.employees = block.employees;
+                this.count = Math.min(count, block.sequences.length);
+            }
+
+            // First index at or after from whose sequence is not below the given one
+            int seek(long sequence, int from) {
+                int step = 1;
+                int high = from;
+                while (high < count && sequences[high] < sequence) {
+                    from = high + 1;
+                    high += step;
+                    step <<= 1;
+                }
+                int index = Arrays.binarySearch(sequences, from, Math.min(high, count), sequence);
+                return index >= 0 ? index : -index - 1;
+            }
+
+            boolean holds(int index, long sequence) {
+                return index < count && sequences[index] == sequence && employees[index] != null;
+            }
+        }
+
+        private volatile Block block = new Block(MIN_CAPACITY);
+        // Entries in use, live and tombstoned; always written after block
+        private volatile int end;
+        private int tombstones;
+
+        int size() {
+            return end - tombstones;
+        }
+
+        boolean isEmpty() {
+            return size() == 0;
+        }
+
+        View view() {
+            int count = end;
+            return new View(block, count);
+        }
+
+        void add(Employee<?> employee) {
+            long sequence = employee.getSequence();
+            Block current = block;
+            int n = end;
+            if (n == 0 || current.sequences[n - 1] < sequence) {
+                if (n == current.sequences.length) {
+                    current = tombstones >= n / 2 ? compact(current, n) : grow(current, n);
+                    n = end;
+                }
+                current.sequences[n] = sequence;
+                current.employees[n] = employee;
+                end = n + 1;
+                return;
+            }
+            int index = Arrays.binarySearch(current.sequences, 0, n, sequence);
+            if (index >= 0) {
+                // A renamed employee getting its trigram back fills its old tombstone
+                if (current.employees[index] == null) {
+                    current.employees[index] = employee;
+                    tombstones--;
+                }
+                return;
+            }
+            // Older employee after a rename: insert into a copy so readers never see a shift
+            int at = -index - 1;
+            int capacity = n == current.sequences.length ? n * 2 : current.sequences.length;
+            Block inserted = new Block(capacity);
+            System.arraycopy(current.sequences, 0, inserted.sequences, 0, at);
+            System.arraycopy(current.employees, 0, inserted.employees, 0, at);
+            inserted.sequences[at] = sequence;
+            inserted.employees[at] = employee;
+            System.arraycopy(current.sequences, at, inserted.sequences, at + 1, n - at);
+            System.arraycopy(current.employees, at, inserted.employees, at + 1, n - at);
+            block = inserted;
+            end = n + 1;
+        }
+
+        // Returns whether the employee was in the posting
+        boolean remove(Employee<?> employee) {
+            Block current = block;
+            int n = end;
+            int index = Arrays.binarySearch(current.sequences, 0, n, employee.getSequence());
+            if (index < 0 || current.employees[index] != employee) {
+                return false;
+            }
+            current.employees[index] = null;
+            tombstones++;
+            if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > n - tombstones) {
+                compact(current, n);
+            }
+            return true;
+        }
+
+        private Block grow(Block current, int n) {
+            Block grown = new Block(n * 2);
+            System.arraycopy(current.sequences, 0, grown.sequences, 0, n);
+            System.arraycopy(current.employees, 0, grown.employees, 0, n);
+            block = grown;
+            return grown;
+        }
+
+        // Copies live entries into fresh arrays so readers of the old ones are not disturbed
+        private Block compact(Block current, int n) {
+            int live = n - tombstones;
+            Block compacted = new Block(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, live)) * 2));
+            int next = 0;
+            for (int i = 0; i < n; i++) {
+                if (current.employees[i] != null) {
+                    compacted.sequences[next] = current.sequences[i];
+                    compacted.employees[next] = current.employees[i];
+                    next++;
+                }
+            }
+            tombstones = 0;
+            block = compacted;
+            end = next;
+            return compacted;
+        }
+    }
+}
@@ -0,0 +1,550 @@
+package com.example.employeemanagement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of database mutations. Each entry is framed as its body length, a CRC32C
+ * of the body, and the body itself: a sequence number, a type byte and the mutation's
+ * fields. Entries are appended to an in-memory batch under the database's write lock and
+ * made durable by {@link #commit}, outside that lock. The first committer to arrive writes
+ * and, depending on the {@link LogSyncPolicy}, fsyncs everything appended so far while the
+ * others wait for it, so concurrent commits share one write and one fsync.
+ *
+ * <p>Replay stops at the first entry that is truncated or fails its checksum, which is what
+ * a crash in the middle of a write leaves behind, and cuts the file back to the last good
+ * entry. A batch insert is logged as a batch entry followed by its additions; a batch that
+ * is cut short is discarded as a whole.
+ */
+final class WriteAheadLog implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(WriteAheadLog.class.getName());
+    static final long SYNC_INTERVAL_MILLIS = 100;
+    private static final int FRAME_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final int INITIAL_BATCH_BYTES = 1 << 16;
+
+    // Entry types
+    static final byte ADD = 1;
+    static final byte REMOVE = 2;
+    static final byte NAME = 3;
+    static final byte DEPARTMENT = 4;
+    static final byte SALARY = 5;
+    static final byte RATING = 6;
+    static final byte YEARS = 7;
+    static final byte ACTIVE = 8;
+    static final byte RAISE = 9;
+    static final byte BATCH = 10;
+
+    /** Receives replayed entries in log order. */
+    interface Replayer {
+        void added(int id, String name, String department, double salary, double rating, int years,
+                   boolean active) throws Exception;
+
+        void removed(int id) throws Exception;
+
+        void nameSet(int id, String name) throws Exception;
+
+        void departmentSet(int id, String department) throws Exception;
+
+        void salarySet(int id, double salary) throws Exception;
+
+        void ratingSet(int id, double rating) throws Exception;
+
+        void yearsSet(int id, int years) throws Exception;
+
+        void activeSet(int id, boolean active) throws Exception;
+
+        void raiseGiven(double percentage, double minRating) throws Exception;
+
+        // Brackets the additions of a complete batch
+        void batchStarted(int count) throws Exception;
+
+        void batchFinished() throws Exception;
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final LogSyncPolicy syncPolicy;
+    private final ScheduledExecutorService syncer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer batch = ByteBuffer.allocate(INITIAL_BATCH_BYTES);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BATCH_BYTES);
+    private long appendedSequence;
+    private long writtenSequence;
+    private long durableSequence;
+    private boolean flushing;
+    private boolean closed;
+    private IOException failure;
+
+    private WriteAheadLog(Path file, FileChannel channel, LogSyncPolicy syncPolicy, long lastSequence) {
+        this.file = file;
+        this.channel = channel;
+        this.syncPolicy = syncPolicy;
+        this.appendedSequence = lastSequence;
+        this.writtenSequence = lastSequence;
+        this.durableSequence = lastSequence;
+        if (syncPolicy == LogSyncPolicy.PERIODIC) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-log-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(this::periodicSync, SYNC_INTERVAL_MILLIS, SYNC_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            syncer = null;
+        }
+    }
+
+    /**
+     * Opens or creates the log and replays every entry after {@code coveredSequence}, the last
+     * sequence already included in the snapshot the database was restored from.
+     */
+    static WriteAheadLog open(Path file, LogSyncPolicy syncPolicy, long coveredSequence, Replayer replayer)
+            throws IOException {
+        if (syncPolicy == null) {
+            throw new IllegalArgumentException("Sync policy cannot be null");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long lastSequence = replay(file, channel, coveredSequence, replayer);
+            return new WriteAheadLog(file, channel, syncPolicy, Math.max(lastSequence, coveredSequence));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static long replay(Path file, FileChannel channel, long coveredSequence, Replayer replayer)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BATCH_BYTES).flip();
+        CRC32C checksum = new CRC32C();
+        long position = 0;
+        long lastSequence = 0;
+        int replayed = 0;
+        // Additions of the batch being read are held back until the whole batch is in
+        List<ByteBuffer> batchEntries = null;
+        int batchRemaining = 0;
+        long batchPosition = 0;
+        long beforeBatch = 0;
+        channel.position(0);
+        while (true) {
+            buffer = fill(channel, buffer, FRAME_BYTES);
+            if (buffer.remaining() < FRAME_BYTES) {
+                break;
+            }
+            int length = buffer.getInt(buffer.position());
+            int expected = buffer.getInt(buffer.position() + Integer.BYTES);
+            if (length <= Long.BYTES || length > MAX_BODY_BYTES) {
+                break;
+            }
+            buffer = fill(channel, buffer, FRAME_BYTES + length);
+            if (buffer.remaining() < FRAME_BYTES + length) {
+                break;
+            }
+            ByteBuffer body = buffer.slice(buffer.position() + FRAME_BYTES, length);
+            checksum.reset();
+            checksum.update(body.duplicate());
+            if ((int) checksum.getValue() != expected) {
+                break;
+            }
+            long sequence = body.getLong();
+            if (sequence <= lastSequence) {
+                break;
+            }
+            byte type = body.get(body.position());
+            if (batchRemaining > 0) {
+                if (type != ADD) {
+                    throw new IOException("Log entry " + sequence + " in " + file + " interrupts a batch");
+                }
+                batchEntries.add(ByteBuffer.allocate(length).put(body.rewind()).flip());
+                if (--batchRemaining == 0) {
+                    replayBatch(batchEntries, replayer, file);
+                    replayed += batchEntries.size();
+                    batchEntries = null;
+                }
+            } else if (sequence > coveredSequence && type == BATCH) {
+                batchRemaining = body.getInt(body.position() + 1);
+                batchEntries = new ArrayList<>(Math.min(batchRemaining, INITIAL_BATCH_BYTES));
+                batchPosition = position;
+                beforeBatch = lastSequence;
+            } else if (sequence > coveredSequence) {
+                apply(body.rewind(), replayer, file);
+                replayed++;
+            }
+            lastSequence = sequence;
+            buffer.position(buffer.position() + FRAME_BYTES + length);
+            position += FRAME_BYTES + length;
+        }
+        if (batchRemaining > 0) {
+            position = batchPosition;
+            lastSequence = beforeBatch;
+        }
+        if (position < channel.size()) {
+            LOGGER.log(Level.WARNING, "Discarding {0} bytes of incomplete entries at the end of {1}",
+                    new Object[]{channel.size() - position, file});
+            channel.truncate(position);
+            channel.force(true);
+        }
+        channel.position(position);
+        LOGGER.log(Level.INFO, "Replayed {0} log entries from {1}", new Object[]{replayed, file});
+        return lastSequence;
+    }
+
+    // Makes at least the wanted number of bytes readable, unless the file ends first
+    private static ByteBuffer fill(FileChannel channel, ByteBuffer buffer, int wanted) throws IOException {
+        if (buffer.remaining() >= wanted) {
+            return buffer;
+        }
+        if (buffer.capacity() < wanted) {
+            buffer = ByteBuffer.allocate(Math.max(wanted, buffer.capacity() * 2)).put(buffer).flip();
+        }
+        buffer.compact();
+        while (buffer.position() < wanted && channel.read(buffer) > 0) {
+            // keep reading until enough bytes arrive or the file ends
+        }
+        return buffer.flip();
+    }
+
+    private static void replayBatch(List<ByteBuffer> entries, Replayer replayer, Path file) throws IOException {
+        try {
+            replayer.batchStarted(entries.size());
+        } catch (Exception e) {
+            throw new IOException("Cannot replay batch from " + file, e);
+        }
+        for (ByteBuffer entry : entries) {
+            apply(entry, replayer, file);
+        }
+        try {
+            replayer.batchFinished();
+        } catch (Exception e) {
+            throw new IOException("Cannot replay batch from " + file, e);
+        }
+    }
+
+    private static void apply(ByteBuffer body, Replayer replayer, Path file) throws IOException {
+        long sequence = body.getLong();
+        byte type = body.get();
+        try {
+            switch (type) {
+                case ADD -> replayer.added(body.getInt(), readString(body), readString(body), body.getDouble(),
+                        body.getDouble(), body.getInt(), body.get() != 0);
+                case REMOVE -> replayer.removed(body.getInt());
+                case NAME -> replayer.nameSet(body.getInt(), readString(body));
+                case DEPARTMENT -> replayer.departmentSet(body.getInt(), readString(body));
+                case SALARY -> replayer.salarySet(body.getInt(), body.getDouble());
+                case RATING -> replayer.ratingSet(body.getInt(), body.getDouble());
+                case YEARS -> replayer.yearsSet(body.getInt(), body.getInt());
+                case ACTIVE -> replayer.activeSet(body.getInt(), body.get() != 0);
+                case RAISE -> replayer.raiseGiven(body.getDouble(), body.getDouble());
+                default -> throw new IOException("Unknown entry type " + type);
+            }
+        } catch (IOException e) {
+            throw new IOException("Cannot replay log entry " + sequence + " from " + file + ": " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new IOException("Cannot replay log entry " + sequence + " from " + file, e);
+        }
+    }
+
+    private static String readString(ByteBuffer body) {
+        byte[] utf8 = new byte[body.getInt()];
+        body.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    // Appends; each returns the entry's sequence number to pass to commit
+
+    long logAdd(int id, String name, String department, double salary, double rating, int years, boolean active) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        byte[] departmentBytes = department.getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try {
+            int start = begin(ADD, Integer.BYTES * 4 + nameBytes.length + departmentBytes.length
+                    + Double.BYTES * 2 + 1);
+            batch.putInt(id);
+            putString(nameBytes);
+            putString(departmentBytes);
+            batch.putDouble(salary).putDouble(rating).putInt(years).put((byte) (active ? 1 : 0));
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long logRemove(int id) {
+        lock.lock();
+        try {
+            int start = begin(REMOVE, Integer.BYTES);
+            batch.putInt(id);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long logString(byte type, int id, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try {
+            int start = begin(type, Integer.BYTES * 2 + utf8.length);
+            batch.putInt(id);
+            putString(utf8);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long logDouble(byte type, int id, double value) {
+        lock.lock();
+        try {
+            int start = begin(type, Integer.BYTES + Double.BYTES);
+            batch.putInt(id).putDouble(value);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long logInt(byte type, int id, int value) {
+        lock.lock();
+        try {
+            int start = begin(type, Integer.BYTES * 2);
+            batch.putInt(id).putInt(value);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long logActive(int id, boolean active) {
+        lock.lock();
+        try {
+            int start = begin(ACTIVE, Integer.BYTES + 1);
+            batch.putInt(id).put((byte) (active ? 1 : 0));
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Announces the additions that follow, so replay applies all of them or none
+    long logBatch(int count) {
+        lock.lock();
+        try {
+            int start = begin(BATCH, Integer.BYTES);
+            batch.putInt(count);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long logRaise(double percentage, double minRating) {
+        lock.lock();
+        try {
+            int start = begin(RAISE, Double.BYTES * 2);
+            batch.putDouble(percentage).putDouble(minRating);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Reserves room for the frame and writes the fields every entry starts with
+    private int begin(byte type, int fieldBytes) {
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log is closed");
+        }
+        int needed = FRAME_BYTES + Long.BYTES + 1 + fieldBytes;
+        if (needed - FRAME_BYTES > MAX_BODY_BYTES) {
+            throw new IllegalArgumentException("Log entry is too large");
+        }
+        if (batch.remaining() < needed) {
+            batch = ByteBuffer.allocate(Math.max(batch.capacity() * 2, batch.position() + needed))
+                    .put(batch.flip());
+        }
+        int start = batch.position();
+        batch.position(start + FRAME_BYTES);
+        batch.putLong(appendedSequence + 1).put(type);
+        return start;
+    }
+
+    private long end(int start) {
+        int length = batch.position() - start - FRAME_BYTES;
+        checksum.reset();
+        checksum.update(batch.slice(start + FRAME_BYTES, length));
+        batch.putInt(start, length).putInt(start + Integer.BYTES, (int) checksum.getValue());
+        return ++appendedSequence;
+    }
+
+    private void putString(byte[] utf8) {
+        batch.putInt(utf8.length).put(utf8);
+    }
+
+    long lastSequence() {
+        lock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the entry with the given sequence is written, and fsynced when the policy is
+     * {@link LogSyncPolicy#EVERY_COMMIT}. Must not be called while holding the database's write
+     * lock, or writers could not add to the batch being flushed.
+     */
+    void commit(long sequence) {
+        flush(sequence, syncPolicy == LogSyncPolicy.EVERY_COMMIT);
+    }
+
+    // Writes and fsyncs every appended entry
+    void sync() {
+        flush(lastSequence(), true);
+    }
+
+    private void periodicSync() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to sync write-ahead log " + file, e);
+        }
+    }
+
+    private void flush(long sequence, boolean force) {
+        ByteBuffer toWrite;
+        long batchEnd;
+        lock.lock();
+        try {
+            while (true) {
+                checkHealthy();
+                if ((force ? durableSequence : writtenSequence) >= sequence) {
+                    return;
+                }
+                if (!flushing) {
+                    break;
+                }
+                flushed.awaitUninterruptibly();
+            }
+            flushing = true;
+            toWrite = batch.flip();
+            batch = spare.clear();
+            batchEnd = appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+
+        IOException error = null;
+        try {
+            while (toWrite.hasRemaining()) {
+                channel.write(toWrite);
+            }
+            if (force) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            error = e;
+        }
+
+        lock.lock();
+        try {
+            flushing = false;
+            spare = toWrite.clear();
+            if (error == null) {
+                writtenSequence = batchEnd;
+                if (force) {
+                    durableSequence = batchEnd;
+                }
+            } else {
+                failure = error;
+                LOGGER.log(Level.SEVERE, "Failed to write to write-ahead log " + file, error);
+            }
+            flushed.signalAll();
+            checkHealthy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Fails as the next append or commit would, so a change can be refused before it is applied
+    void checkWritable() {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            checkHealthy();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A failed write leaves the file in an unknown state, so the log refuses further commits
+    private void checkHealthy() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log " + file + " failed", failure);
+        }
+    }
+
+    /**
+     * Empties the log once a snapshot covers every entry, dropping entries not yet written.
+     * Sequence numbers keep counting up, so entries written afterwards still sort after the
+     * snapshot.
+     */
+    void reset() throws IOException {
+        lock.lock();
+        try {
+            while (flushing) {
+                flushed.awaitUninterruptibly();
+            }
+            checkHealthy();
+            batch.clear();
+            writtenSequence = appendedSequence;
+            durableSequence = appendedSequence;
+            channel.truncate(0);
+            channel.position(0);
+            channel.force(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+        try {
+            sync();
+        } finally {
+            lock.lock();
+            try {
+                closed = true;
+            } finally {
+                lock.unlock();
+            }
+            channel.close();
+        }
+    }
+}
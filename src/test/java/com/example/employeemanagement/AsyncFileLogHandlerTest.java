@@ -0,0 +1,108 @@
+package com.example.employeemanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncFileLogHandlerTest {
+    @TempDir
+    Path dir;
+
+    private static LogRecord record(Level level, String message, Object... parameters) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName("test");
+        record.setParameters(parameters);
+        return record;
+    }
+
+    @Test
+    void testWritesRecordsFromManyThreadsInOrder() throws Exception {
+        Path file = dir.resolve("app.log");
+        AsyncFileLogHandler handler = new AsyncFileLogHandler(file, 100_000);
+        int threads = 4;
+        int perThread = 2000;
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            writers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    handler.publish(record(Level.INFO, "thread {0} record {1}", thread, i));
+                }
+            }));
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        handler.flush();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(threads * perThread, lines.size());
+        assertTrue(lines.get(0).contains(" INFO test - thread "));
+        int[] next = new int[threads];
+        for (String line : lines) {
+            String message = line.substring(line.indexOf(" - ") + 3);
+            String[] words = message.split(" ");
+            int thread = Integer.parseInt(words[1]);
+            assertEquals(next[thread]++, Integer.parseInt(words[3].replace(",", "")));
+        }
+        handler.close();
+    }
+
+    @Test
+    void testLevelsThrownAndClose() throws Exception {
+        Path file = dir.resolve("app.log");
+        AsyncFileLogHandler handler = new AsyncFileLogHandler(file);
+        handler.setLevel(Level.WARNING);
+        handler.publish(record(Level.INFO, "ignored"));
+        LogRecord failure = record(Level.SEVERE, "failed {0}", "badly");
+        failure.setThrown(new IllegalStateException("boom"));
+        handler.publish(failure);
+        handler.close();
+        handler.close();
+        handler.publish(record(Level.SEVERE, "after close"));
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assertFalse(content.contains("ignored"));
+        assertFalse(content.contains("after close"));
+        assertTrue(content.contains("SEVERE test - failed badly"));
+        assertTrue(content.contains("java.lang.IllegalStateException: boom"));
+        assertEquals(0, handler.droppedCount());
+    }
+
+    @Test
+    void testDatabaseReadsAndRecordWritesLogBelowInfo() throws Exception {
+        Logger logger = Logger.getLogger(EmployeeDatabase.class.getName());
+        Path file = dir.resolve("db.log");
+        AsyncFileLogHandler handler = new AsyncFileLogHandler(file);
+        logger.addHandler(handler);
+        try {
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+            Integer id = db.addEmployee(db.createEmployee("Alice Adams", "IT", 1000));
+            db.getEmployee(id);
+            db.getAllEmployees();
+            db.sortBySalary();
+            db.searchEmployeesByName("alice");
+            handler.flush();
+        } finally {
+            logger.removeHandler(handler);
+            handler.close();
+        }
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(content.contains("Initialized new EmployeeDatabase"));
+        assertFalse(content.contains("Added new employee with ID"));
+        assertFalse(content.contains("Retrieved"));
+        assertFalse(content.contains("Sorted"));
+        assertFalse(content.contains("matching search term"));
+    }
+}
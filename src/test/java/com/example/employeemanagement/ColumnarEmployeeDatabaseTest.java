@@ -0,0 +1,76 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the EmployeeDatabaseTest suite against the columnar storage mode and checks that
+ * the column copies follow every kind of change.
+ */
+public class ColumnarEmployeeDatabaseTest extends EmployeeDatabaseTest {
+
+    @Override
+    EmployeeDatabase<Integer> createDatabase() {
+        return new EmployeeDatabase<>(StorageMode.COLUMNAR);
+    }
+
+    @Test
+    void testColumnsFollowChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> db = createDatabase();
+        Employee<Integer> alice = new Employee<>("Alice Adams", "IT", 60000.0);
+        Employee<Integer> bob = new Employee<>("Bob Brown", "IT", 40000.0);
+        Employee<Integer> carol = new Employee<>("Carol Clark", "HR", 50000.0);
+        db.addEmployee(alice);
+        db.addEmployee(bob);
+        db.addEmployee(carol);
+        assertEquals(50000.0, db.getAverageDepartmentSalary("it"));
+
+        bob.setSalary(50000.0);
+        assertEquals(55000.0, db.getAverageDepartmentSalary("IT"));
+
+        carol.setDepartment("IT");
+        assertEquals(53333.33, db.getAverageDepartmentSalary("IT"));
+        assertEquals(0.0, db.getAverageDepartmentSalary("HR"));
+
+        alice.setPerformanceRating(4.5);
+        db.updateEmployeeDetails(carol.getEmployeeId(), "performancerating", 4.0);
+        assertEquals(List.of(alice, carol), db.getHighPerformingEmployees(4.0));
+
+        db.giveSalaryRaise(10.0, 4.0);
+        assertEquals(66000.0, alice.getSalary());
+        assertEquals(55000.0, carol.getSalary());
+        assertEquals(50000.0, bob.getSalary());
+
+        db.removeEmployee(alice.getEmployeeId());
+        assertEquals(52500.0, db.getAverageDepartmentSalary("IT"));
+        assertEquals(List.of(carol), db.getHighPerformingEmployees(4.0));
+    }
+
+    @Test
+    void testColumnsSurviveCompaction() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> db = createDatabase();
+        List<Employee<Integer>> kept = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Employee<Integer> employee = new Employee<>("Employee " + i, i % 2 == 0 ? "Sales" : "Finance", 1000.0 * i);
+            db.addEmployee(employee);
+            if (i % 10 == 0) {
+                employee.setPerformanceRating(5.0);
+                kept.add(employee);
+            }
+        }
+        for (Employee<Integer> employee : db.getAllEmployees()) {
+            if (!kept.contains(employee)) {
+                db.removeEmployee(employee.getEmployeeId());
+            }
+        }
+        assertEquals(kept, db.getHighPerformingEmployees(5.0));
+        double expected = kept.stream().mapToDouble(Employee::getSalary).average().orElse(0.0);
+        assertEquals(Math.round(expected * 100.0) / 100.0, db.getAverageDepartmentSalary("Sales"));
+        assertEquals(0.0, db.getAverageDepartmentSalary("Finance"));
+    }
+}
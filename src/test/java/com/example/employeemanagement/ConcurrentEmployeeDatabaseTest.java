@@ -0,0 +1,199 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the EmployeeDatabaseTest suite against ConcurrentEmployeeDatabase and adds
+ * stress tests for concurrent readers and writers.
+ */
+public class ConcurrentEmployeeDatabaseTest extends EmployeeDatabaseTest {
+    private static final Logger LOGGER = Logger.getLogger(ConcurrentEmployeeDatabaseTest.class.getName());
+    private static final String[] DEPARTMENTS = {"HR", "IT", "Finance", "Marketing", "Operations", "Sales"};
+
+    @Override
+    EmployeeDatabase<Integer> createDatabase() {
+        return new ConcurrentEmployeeDatabase<>();
+    }
+
+    private static List<Integer> populate(EmployeeDatabase<Integer> db, int count)
+            throws InvalidSalaryException, InvalidDepartmentException {
+        List<Integer> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(db.addEmployee(new Employee<>("Employee " + i, DEPARTMENTS[i % DEPARTMENTS.length], 30000.0 + i)));
+        }
+        return ids;
+    }
+
+    @Test
+    void testIndexesStayConsistentUnderConcurrentWrites() throws Exception {
+        ConcurrentEmployeeDatabase<Integer> db = new ConcurrentEmployeeDatabase<>();
+        List<Integer> ids = populate(db, 600);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            futures.add(pool.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 2000; i++) {
+                    Integer id = ids.get(random.nextInt(ids.size()));
+                    try {
+                        Employee<Integer> employee = db.getEmployee(id);
+                        switch ((i + seed) % 4) {
+                            case 0 -> employee.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                            case 1 -> employee.setSalary(20000.0 + random.nextInt(50000));
+                            case 2 -> db.updateEmployeeDetails(id, "salary", 20000.0 + random.nextInt(50000));
+                            default -> {
+                                db.getEmployeesByDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                                db.getEmployeesInSalaryRange(25000.0, 45000.0);
+                            }
+                        }
+                    } catch (EmployeeNotFoundException e) {
+                        // Removed by the churn below
+                    }
+                    if (seed == 0 && i % 10 == 0) {
+                        try {
+                            db.removeEmployee(id);
+                        } catch (EmployeeNotFoundException e) {
+                            // Already removed
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        List<Employee<Integer>> all = db.getAllEmployees();
+        int byDepartment = 0;
+        for (String department : DEPARTMENTS) {
+            for (Employee<Integer> employee : db.getEmployeesByDepartment(department)) {
+                assertEquals(department, employee.getDepartment());
+                byDepartment++;
+            }
+        }
+        assertEquals(all.size(), byDepartment);
+        List<Employee<Integer>> bySalary = db.getEmployeesInSalaryRange(0.0, Double.MAX_VALUE);
+        assertEquals(all.size(), bySalary.size());
+        for (int i = 1; i < bySalary.size(); i++) {
+            assertTrue(bySalary.get(i - 1).getSalary() <= bySalary.get(i).getSalary());
+        }
+    }
+
+    @Test
+    void testReadersFindEveryEmployeeDuringChanges() throws Exception {
+        ConcurrentEmployeeDatabase<Integer> db = new ConcurrentEmployeeDatabase<>();
+        int count = 2000;
+        List<Employee<Integer>> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee<Integer> employee = new Employee<>("Employee " + i, "Sales", 30000.0 + i);
+            db.addEmployee(employee);
+            employees.add(employee);
+        }
+        // Moves go one way only, in the order readers look, so an atomic change is never missed
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        Future<?> writer = pool.submit(() -> {
+            for (Employee<Integer> employee : employees) {
+                employee.setDepartment("Marketing");
+            }
+            for (int round = 1; round <= 5; round++) {
+                for (Employee<Integer> employee : employees) {
+                    employee.setSalary(employee.getSalary() + 10000.0);
+                }
+            }
+            return null;
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            readers.add(pool.submit(() -> {
+                do {
+                    Set<Integer> found = new HashSet<>();
+                    for (Employee<Integer> employee : db.getEmployeesByDepartment("Sales")) {
+                        found.add(employee.getEmployeeId());
+                    }
+                    for (Employee<Integer> employee : db.getEmployeesByDepartment("Marketing")) {
+                        found.add(employee.getEmployeeId());
+                    }
+                    assertEquals(count, found.size(), "Employee missing from both departments");
+
+                    List<Employee<Integer>> bySalary = db.getEmployeesInSalaryRange(0.0, Double.MAX_VALUE);
+                    assertEquals(count, bySalary.size(), "Employee missing or listed twice by salary");
+                    found.clear();
+                    for (Employee<Integer> employee : bySalary) {
+                        found.add(employee.getEmployeeId());
+                    }
+                    assertEquals(count, found.size());
+                } while (!writer.isDone());
+                return null;
+            }));
+        }
+        writer.get(60, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        assertEquals(count, db.getEmployeesByDepartment("Marketing").size());
+    }
+
+    @Test
+    void testLookupThroughputScalesAcrossCores() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        assumeTrue(cores >= 4, "Scaling check needs at least 4 cores");
+        ConcurrentEmployeeDatabase<Integer> db = new ConcurrentEmployeeDatabase<>();
+        List<Integer> ids = populate(db, 10000);
+        Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(Level.WARNING);
+        try {
+            long single = measureLookups(db, ids, 1);
+            long parallel = measureLookups(db, ids, cores);
+            LOGGER.log(Level.INFO, "Lookups per second: 1 thread={0}, {1} threads={2}",
+                    new Object[]{single, cores, parallel});
+            assertTrue(parallel > single, "Concurrent lookups did not scale beyond one thread");
+        } finally {
+            Logger.getLogger(EmployeeDatabase.class.getName()).setLevel(null);
+        }
+    }
+
+    private static long measureLookups(EmployeeDatabase<Integer> db, List<Integer> ids, int threads) throws Exception {
+        AtomicLong operations = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(500);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long deadline = System.nanoTime() + durationNanos;
+                long count = 0;
+                while (System.nanoTime() < deadline) {
+                    db.getEmployee(ids.get(random.nextInt(ids.size())));
+                    count++;
+                }
+                operations.addAndGet(count);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        return operations.get() * TimeUnit.SECONDS.toNanos(1) / durationNanos;
+    }
+}
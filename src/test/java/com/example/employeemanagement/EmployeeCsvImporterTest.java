@@ -0,0 +1,127 @@
+package com.example.employeemanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeCsvImporterTest {
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("employees.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void testImportsRecordsAndReportsRejections() throws Exception {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        Path file = write("""
+                Name,Department,Salary,PerformanceRating,YearsOfExperience\r
+                Alice Adams,IT,60000.50,4.5,3\r
+                "Brown, Bob",HR,40000,,\r
+                "Carol ""CC"" Clark",Sales,1e4,2,1
+
+                Dan Dunn,Legal,50000,3,2
+                Eve Evans,IT,-5,3,2
+                Fay Fox,IT,abc,3,2
+                Gus Green,IT
+                Hal Hill,Finance,30000,9,2
+                Ida Ivy,Marketing,45000.25,3.25,x
+                """);
+
+        ImportReport report = new EmployeeCsvImporter(db).importFile(file);
+
+        assertEquals(3, report.getImportedCount());
+        assertEquals(6, report.getRejectedCount());
+        List<Employee<Integer>> employees = db.getAllEmployees();
+        assertEquals(List.of("Alice Adams", "Brown, Bob", "Carol \"CC\" Clark"),
+                employees.stream().map(Employee::getName).toList());
+        assertEquals(60000.50, employees.get(0).getSalary());
+        assertEquals(4.5, employees.get(0).getPerformanceRating());
+        assertEquals(3, employees.get(0).getYearsOfExperience());
+        assertEquals(0.0, employees.get(1).getPerformanceRating());
+        assertEquals(10000.0, employees.get(2).getSalary());
+
+        List<ImportReport.RejectedRow> rejected = report.getRejectedRows();
+        assertEquals(List.of(6L, 7L, 8L, 9L, 10L, 11L),
+                rejected.stream().map(ImportReport.RejectedRow::getRecordNumber).toList());
+        assertTrue(rejected.get(0).getReason().contains("Invalid department"));
+        assertEquals("Salary cannot be negative", rejected.get(1).getReason());
+        assertTrue(rejected.get(2).getReason().contains("abc"));
+        assertTrue(rejected.get(3).getReason().contains("fields"));
+    }
+
+    @Test
+    void testExplicitIdsAndDuplicates() throws Exception {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        db.addEmployee(new Employee<>(900001, "Existing One", "IT", 1000.0));
+        Path file = write("""
+                id,name,department,salary,active,notes
+                900002,Alice Adams,IT,60000,false,ignored
+                900001,Bob Brown,HR,40000,true,
+                900003,Carol Clark,HR,50000,,
+                """);
+
+        ImportReport report = new EmployeeCsvImporter(db, 2).importFile(file);
+
+        assertEquals(2, report.getImportedCount());
+        assertEquals(1, report.getRejectedCount());
+        assertEquals(3L, report.getRejectedRows().get(0).getRecordNumber());
+        assertFalse(db.getEmployee(900002).isActive());
+        assertTrue(db.getEmployee(900003).isActive());
+        assertEquals("Existing One", db.getEmployee(900001).getName());
+        assertTrue(db.nextEmployeeId() > 900003);
+    }
+
+    @Test
+    void testRecordsSpanningReadBuffers() throws Exception {
+        Logger employeeLogger = Logger.getLogger(Employee.class.getName());
+        employeeLogger.setLevel(Level.WARNING);
+        try {
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>(StorageMode.OFF_HEAP);
+            Path file = dir.resolve("large.csv");
+            int count = 60000;
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("name,department,salary,performanceRating,yearsOfExperience\n");
+                for (int i = 0; i < count; i++) {
+                    writer.write("\"Employee " + i + "\",Operations," + (1000 + i) + ".75,2.5," + (i % 40) + "\n");
+                }
+            }
+            assertTrue(Files.size(file) > 2L * EmployeeCsvImporter.BUFFER_BYTES);
+
+            ImportReport report = new EmployeeCsvImporter(db).importFile(file);
+
+            assertEquals(count, report.getImportedCount());
+            assertEquals(0, report.getRejectedCount());
+            List<Employee<Integer>> employees = db.getAllEmployees();
+            assertEquals("Employee 0", employees.get(0).getName());
+            assertEquals("Employee 59999", employees.get(count - 1).getName());
+            assertEquals(1000.0 + count - 1 + 0.75, db.getTopPaidEmployees(1).get(0).getSalary());
+        } finally {
+            employeeLogger.setLevel(null);
+        }
+    }
+
+    @Test
+    void testMissingColumnsFailTheImport() throws IOException {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        Path file = write("name,salary\nAlice Adams,1000\n");
+        IOException error = assertThrows(IOException.class, () -> new EmployeeCsvImporter(db).importFile(file));
+        assertTrue(error.getMessage().contains("department"));
+        assertThrows(IOException.class, () -> new EmployeeCsvImporter(db).importFile(write("")));
+        assertTrue(db.getAllEmployees().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeCsvImporter(db, 0));
+    }
+}
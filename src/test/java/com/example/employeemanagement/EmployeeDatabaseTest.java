@@ -3,6 +3,15 @@ package com.example.employeemanagement;
 import com.example.employeemanagement.Exception.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class EmployeeDatabaseTest {
@@ -12,11 +21,20 @@ public class EmployeeDatabaseTest {
 
     @BeforeEach
     void setUp() throws InvalidSalaryException, InvalidDepartmentException {
-        database = new EmployeeDatabase<>();
+        database = createDatabase();
         testEmployee = new Employee<>("John Doe", "IT", 50000.0);
         testEmployeeId = database.addEmployee(testEmployee);
     }
 
+    EmployeeDatabase<Integer> createDatabase() {
+        return new EmployeeDatabase<>();
+    }
+
+    // Heap storage hands back the very object that was added
+    void assertStored(Employee<Integer> expected, Employee<Integer> actual) {
+        assertSame(expected, actual);
+    }
+
     @Test
     void testAddEmployee() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
         Employee<Integer> newEmployee = new Employee<>("Jane Smith", "HR", 60000.0);
@@ -30,11 +48,62 @@ public class EmployeeDatabaseTest {
     @Test
     void testAddDuplicateEmployee() throws InvalidSalaryException, InvalidDepartmentException {
         assertThrows(IllegalArgumentException.class, () -> {
-            Employee<Integer> duplicate = new Employee<>("John Doe", "IT", 50000.0);
+            Employee<Integer> duplicate = new Employee<>(testEmployeeId, "John Doe", "IT", 50000.0);
             database.addEmployee(duplicate);
         });
     }
 
+    @Test
+    void testAddEmployeesInOneBatch() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        List<Employee<Integer>> batch = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            batch.add(new Employee<>("Batch " + i, i % 3 == 0 ? "HR" : "Sales", 1000.0 + i));
+        }
+        List<Integer> ids = database.addEmployees(batch);
+
+        assertEquals(batch.stream().map(Employee::getEmployeeId).toList(), ids);
+        assertEquals(301, database.getAllEmployees().size());
+        assertEquals(batch.get(299), database.getAllEmployees().get(300));
+        assertStored(batch.get(42), database.getEmployee(ids.get(42)));
+        assertEquals(100, database.getEmployeesByDepartment("hr").size());
+        assertEquals(List.of(batch.get(299)), database.getEmployeesInSalaryRange(1299.0, 1299.0));
+        assertEquals(testEmployee, database.getTopPaidEmployees(1).get(0));
+        assertEquals(List.of(), database.addEmployees(List.of()));
+
+        database.getEmployee(ids.get(0)).setSalary(90000.0);
+        assertEquals(batch.get(0), database.getTopPaidEmployees(1).get(0));
+    }
+
+    @Test
+    void testAddEmployeesIsAllOrNothing() throws InvalidSalaryException, InvalidDepartmentException {
+        Employee<Integer> fresh = new Employee<>("Jane Smith", "HR", 60000.0);
+        Employee<Integer> duplicate = new Employee<>(testEmployeeId, "John Again", "IT", 1.0);
+        assertThrows(IllegalArgumentException.class, () -> database.addEmployees(List.of(fresh, duplicate)));
+        assertThrows(IllegalArgumentException.class, () -> database.addEmployees(List.of(fresh, fresh)));
+        assertThrows(IllegalArgumentException.class, () -> database.addEmployees(Arrays.asList(fresh, null)));
+        assertThrows(IllegalArgumentException.class, () -> database.addEmployees(null));
+        assertEquals(List.of(testEmployee), database.getAllEmployees());
+        assertEquals(List.of(), database.getEmployeesByDepartment("HR"));
+
+        database.addEmployees(List.of(fresh));
+        assertEquals(List.of(testEmployee, fresh), database.getAllEmployees());
+    }
+
+    @Test
+    void testBatchBuilder() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeBatch<Integer> batch = database.newBatch()
+                .add("Jane Smith", "HR", 60000.0)
+                .add("Max Miller", "Finance", 70000.0, 4.0, 5);
+        assertEquals(2, batch.size());
+        assertEquals(1, database.getAllEmployees().size());
+
+        List<Integer> ids = batch.commit();
+        assertEquals("Max Miller", database.getEmployee(ids.get(1)).getName());
+        assertTrue(ids.get(0) > testEmployeeId);
+        assertThrows(IllegalStateException.class, batch::commit);
+        assertThrows(IllegalStateException.class, () -> batch.add("Late Comer", "IT", 1.0));
+    }
+
     @Test
     void testGetNonExistentEmployee() {
         assertThrows(EmployeeNotFoundException.class, () -> {
@@ -50,6 +119,70 @@ public class EmployeeDatabaseTest {
         });
     }
 
+    @Test
+    void testMassRemovalKeepsInsertionOrder() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        List<Employee<Integer>> expected = new ArrayList<>(List.of(testEmployee));
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Employee<Integer> employee = new Employee<>("Employee " + i, "Sales", 30000.0 + i);
+            database.addEmployee(employee);
+            added.add(employee);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            if (i % 5 == 0) {
+                expected.add(added.get(i));
+            } else {
+                database.removeEmployee(added.get(i).getEmployeeId());
+            }
+        }
+        Employee<Integer> late = new Employee<>("Late Joiner", "HR", 40000.0);
+        database.addEmployee(late);
+        expected.add(late);
+
+        assertEquals(expected, database.getAllEmployees());
+        for (Employee<Integer> employee : expected) {
+            assertStored(employee, database.getEmployee(employee.getEmployeeId()));
+        }
+        database.removeEmployee(late.getEmployeeId());
+        expected.remove(late);
+        assertEquals(expected, database.getAllEmployees());
+    }
+
+    @Test
+    void testMixedIdTypesStayAddressable() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Object> mixed = new EmployeeDatabase<>(new IdAllocator<>() {
+            private int next;
+
+            @Override
+            public Object nextId() {
+                return ++next;
+            }
+
+            @Override
+            public void reserve(Object id) {
+            }
+        });
+        List<Employee<Object>> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Employee<Object> employee = new Employee<>("Employee " + i, "Sales", 30000.0 + i);
+            mixed.addEmployee(employee);
+            added.add(employee);
+        }
+        Employee<Object> named = new Employee<>("E-1", "Named Employee", "HR", 40000.0);
+        mixed.addEmployee(named);
+        for (int i = 0; i < 100; i += 2) {
+            mixed.removeEmployee(added.get(i).getEmployeeId());
+        }
+
+        assertSame(named, mixed.getEmployee("E-1"));
+        for (int i = 1; i < 100; i += 2) {
+            assertSame(added.get(i), mixed.getEmployee(added.get(i).getEmployeeId()));
+        }
+        assertThrows(EmployeeNotFoundException.class, () -> mixed.getEmployee(added.get(0).getEmployeeId()));
+        assertThrows(EmployeeNotFoundException.class, () -> mixed.getEmployee(1L));
+        assertEquals(51, mixed.getAllEmployees().size());
+    }
+
     @Test
     void testRemoveNonExistentEmployee() {
         assertThrows(EmployeeNotFoundException.class, () -> {
@@ -83,6 +216,25 @@ public class EmployeeDatabaseTest {
         assertEquals(0, database.getEmployeesByDepartment("HR").size());
     }
 
+    @Test
+    void testDepartmentIndexFollowsDepartmentChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> other = new Employee<>("Jane Smith", "HR", 60000.0);
+        database.addEmployee(other);
+
+        database.updateEmployeeDetails(testEmployeeId, "department", "HR");
+        assertEquals(0, database.getEmployeesByDepartment("IT").size());
+        assertEquals(List.of(testEmployee, other), database.getEmployeesByDepartment("hr"));
+
+        other.setDepartment("Sales");
+        assertEquals(List.of(testEmployee), database.getEmployeesByDepartment("HR"));
+        assertEquals(List.of(other), database.getEmployeesByDepartment("Sales"));
+
+        database.removeEmployee(other.getEmployeeId());
+        assertEquals(0, database.getEmployeesByDepartment("Sales").size());
+        other.setDepartment("IT");
+        assertEquals(0, database.getEmployeesByDepartment("IT").size());
+    }
+
     @Test
     void testGetEmployeesByInvalidDepartment() {
         assertThrows(InvalidDepartmentException.class, () -> {
@@ -96,6 +248,159 @@ public class EmployeeDatabaseTest {
         assertEquals(0, database.searchEmployeesByName("Jane").size());
     }
 
+    @Test
+    void testNameSearchFollowsNameChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> nana = new Employee<>("Nana Mensah", "HR", 60000.0);
+        Employee<Integer> johanna = new Employee<>("Johanna Doerr", "IT", 45000.0);
+        database.addEmployee(nana);
+        database.addEmployee(johanna);
+
+        assertEquals(List.of(testEmployee, johanna), database.searchEmployeesByName("JOH"));
+        assertEquals(List.of(testEmployee, johanna), database.searchEmployeesByName("doe"));
+        assertEquals(List.of(nana, johanna), database.searchEmployeesByName("an"));
+        assertEquals(List.of(johanna), database.searchEmployeesByName("hanna d"));
+        // "Nana" holds both trigrams of "anan" but not the term itself
+        assertEquals(0, database.searchEmployeesByName("anan").size());
+
+        nana.setName("Ananya Mensah");
+        assertEquals(List.of(nana), database.searchEmployeesByName("anan"));
+        assertEquals(0, database.searchEmployeesByName("nana m").size());
+        testEmployee.setName("Jon Do");
+        assertEquals(List.of(johanna), database.searchEmployeesByName("joh"));
+        testEmployee.setName("John Doe");
+        assertEquals(List.of(testEmployee, johanna), database.searchEmployeesByName("joh"));
+
+        database.removeEmployee(johanna.getEmployeeId());
+        assertEquals(List.of(testEmployee), database.searchEmployeesByName("john"));
+        johanna.setName("John Smith");
+        assertEquals(List.of(testEmployee), database.searchEmployeesByName("john"));
+    }
+
+    @Test
+    void testNameIndexBuiltLateSeesEarlierChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> nana = new Employee<>("Nana Mensah", "HR", 60000.0);
+        database.addEmployee(nana);
+        nana.setName("Ananya Mensah");
+        testEmployee.setName("Jon Do");
+        database.newBatch().add("Johanna Doerr", "IT", 45000.0).commit();
+
+        // The first search of three or more characters indexes the names as they are now
+        assertEquals(List.of(nana), database.searchEmployeesByName("anan"));
+        assertEquals(List.of("Johanna Doerr"),
+            database.searchEmployeesByName("johanna").stream().map(Employee::getName).toList());
+        assertEquals(0, database.searchEmployeesByName("john").size());
+        database.removeEmployee(nana.getEmployeeId());
+        assertEquals(0, database.searchEmployeesByName("anan").size());
+    }
+
+    @Test
+    void testNameSearchAfterManyRemovals() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Employee<Integer> employee = new Employee<>("Sam Tanaka " + i, "Sales", 40000.0 + i);
+            database.addEmployee(employee);
+            added.add(employee);
+        }
+        // Search first so the removals go through a built index
+        assertEquals(added, database.searchEmployeesByName("tanaka"));
+        List<Employee<Integer>> expected = new ArrayList<>();
+        for (int i = 0; i < added.size(); i++) {
+            if (i % 5 == 0) {
+                expected.add(added.get(i));
+            } else {
+                database.removeEmployee(added.get(i).getEmployeeId());
+            }
+        }
+        assertEquals(expected, database.searchEmployeesByName("tanaka"));
+        assertEquals(List.of(added.get(250)), database.searchEmployeesByName("Tanaka 250"));
+        assertEquals(0, database.searchEmployeesByName("Tanaka 251").size());
+    }
+
+    @Test
+    void testSuggestNamesByWordPrefix() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> jane = new Employee<>("Jane Smith", "HR", 60000.0);
+        database.addEmployee(jane);
+        database.addEmployee(new Employee<>("Smita Rao", "IT", 45000.0));
+        database.addEmployee(new Employee<>("Johanna Doerr", "IT", 45000.0));
+
+        assertEquals(List.of("Johanna Doerr", "John Doe"), database.suggestNames("jo", 10));
+        assertEquals(List.of("Smita Rao", "Jane Smith"), database.suggestNames("  SMI", 10));
+        assertEquals(List.of("John Doe", "Johanna Doerr"), database.suggestNames("doe", 10));
+        assertEquals(List.of("Johanna Doerr"), database.suggestNames("doer", 10));
+        assertEquals(List.of("Jane Smith"), database.suggestNames("j", 1));
+        assertEquals(0, database.suggestNames("john x", 10).size());
+        assertEquals(0, database.suggestNames(" ", 10).size());
+
+        // Kept current once built
+        Employee<Integer> second = new Employee<>("jane smith", "Sales", 50000.0);
+        database.addEmployee(second);
+        assertEquals(List.of("Jane Smith"), database.suggestNames("jane", 10));
+        database.removeEmployee(jane.getEmployeeId());
+        assertEquals(List.of("Jane Smith"), database.suggestNames("jane", 10));
+        second.setName("Janet Smithers");
+        assertEquals(List.of("Janet Smithers"), database.suggestNames("jan", 10));
+        assertEquals(List.of("Smita Rao", "Janet Smithers"), database.suggestNames("smi", 10));
+        testEmployee.setName("Jon Do");
+        assertEquals(List.of("Johanna Doerr", "Jon Do"), database.suggestNames("jo", 10));
+        database.addEmployees(List.of(new Employee<>("Joan Miro", "HR", 40000.0)));
+        assertEquals(List.of("Joan Miro", "Johanna Doerr", "Jon Do"), database.suggestNames("jo", 10));
+
+        assertThrows(IllegalArgumentException.class, () -> database.suggestNames(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> database.suggestNames("jo", 0));
+    }
+
+    @Test
+    void testFuzzySearchByNameRanksByDistance() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> joan = new Employee<>("Joan Doe", "HR", 60000.0);
+        database.addEmployee(joan);
+        database.addEmployee(new Employee<>("Jon Doerr", "IT", 45000.0));
+        database.addEmployee(new Employee<>("Smita Rao", "IT", 45000.0));
+
+        assertEquals(List.of(joan, testEmployee), database.fuzzySearchByName("Jon Do", 2));
+        assertEquals(List.of(joan, testEmployee), database.fuzzySearchByName("jon doe", 1));
+        assertEquals(List.of("Jon Doerr", "Joan Doe", "John Doe"),
+            database.fuzzySearchByName("JON DOER", 2).stream().map(Employee::getName).toList());
+        assertEquals(0, database.fuzzySearchByName("jon doe", 0).size());
+        assertEquals(List.of(testEmployee), database.fuzzySearchByName(" John Doe ", 0));
+
+        // Kept current once built
+        Employee<Integer> twin = new Employee<>("john doe", "Sales", 50000.0);
+        database.addEmployee(twin);
+        assertEquals(List.of(joan, testEmployee, twin), database.fuzzySearchByName("jon doe", 1));
+        database.removeEmployee(testEmployee.getEmployeeId());
+        assertEquals(List.of(joan, twin), database.fuzzySearchByName("jon doe", 1));
+        joan.setName("Joanna Dee");
+        assertEquals(List.of(twin), database.fuzzySearchByName("jon doe", 1));
+        assertEquals(List.of(joan), database.fuzzySearchByName("joana de", 2));
+        database.addEmployees(List.of(new Employee<>("Jon Dow", "HR", 40000.0)));
+        assertEquals(List.of("john doe", "Jon Dow"),
+            database.fuzzySearchByName("jon doe", 1).stream().map(Employee::getName).toList());
+
+        assertThrows(IllegalArgumentException.class, () -> database.fuzzySearchByName(" ", 1));
+        assertThrows(IllegalArgumentException.class, () -> database.fuzzySearchByName("jon", 3));
+        assertThrows(IllegalArgumentException.class, () -> database.fuzzySearchByName("jon", -1));
+    }
+
+    @Test
+    void testFuzzySearchAfterManyRemovals() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            ids.add(database.addEmployee(new Employee<>("Temp Worker " + i, "IT", 40000.0)));
+        }
+        assertEquals(1, database.fuzzySearchByName("temp worker 2999", 0).size());
+        // Enough names die to rebuild the tree under the survivors
+        for (int i = 0; i < 2900; i++) {
+            database.removeEmployee(ids.get(i));
+        }
+        assertEquals(List.of("Temp Worker 2950", "Temp Worker 2900", "Temp Worker 2910", "Temp Worker 2920",
+                "Temp Worker 2930", "Temp Worker 2940", "Temp Worker 2951", "Temp Worker 2952", "Temp Worker 2953",
+                "Temp Worker 2954", "Temp Worker 2955", "Temp Worker 2956", "Temp Worker 2957", "Temp Worker 2958",
+                "Temp Worker 2959", "Temp Worker 2960", "Temp Worker 2970", "Temp Worker 2980", "Temp Worker 2990"),
+            database.fuzzySearchByName("temp worker 2950", 1).stream().map(Employee::getName).toList());
+        assertEquals(0, database.fuzzySearchByName("temp worker 12", 1).size());
+        assertEquals(List.of(testEmployee), database.fuzzySearchByName("jon doe", 1));
+    }
+
     @Test
     void testSearchEmployeesWithEmptyName() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -109,6 +414,296 @@ public class EmployeeDatabaseTest {
         assertEquals(0, database.getEmployeesInSalaryRange(60001.0, 70000.0).size());
     }
 
+    @Test
+    void testSortedViewsFollowChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> jane = new Employee<>(database.nextEmployeeId(), "Jane Smith", "HR", 60000.0, 4.0, 10);
+        Employee<Integer> bob = new Employee<>(database.nextEmployeeId(), "Bob Wilson", "IT", 45000.0, 2.5, 3);
+        database.addEmployee(jane);
+        database.addEmployee(bob);
+
+        assertEquals(List.of(jane, bob, testEmployee), database.sortByExperience());
+        assertEquals(List.of(bob, testEmployee, jane), database.sortBySalary());
+        assertEquals(List.of(testEmployee, bob, jane), database.sortByPerformance());
+
+        testEmployee.setYearsOfExperience(12);
+        bob.setSalary(60000.0);
+        jane.setPerformanceRating(1.0);
+        assertEquals(List.of(testEmployee, jane, bob), database.sortByExperience());
+        // Equal salaries keep insertion order
+        assertEquals(List.of(testEmployee, jane, bob), database.sortBySalary());
+        assertEquals(List.of(testEmployee, jane, bob), database.sortByPerformance());
+
+        Employee<Integer> max = new Employee<>(database.nextEmployeeId(), "Max Miller", "Finance", 50000.0, 5.0, 10);
+        database.addEmployees(List.of(max));
+        database.giveSalaryRaise(10.0, 2.0);
+        database.removeEmployee(testEmployeeId);
+        assertEquals(List.of(jane, max, bob), database.sortByExperience());
+        assertEquals(List.of(max, jane, bob), database.sortBySalary());
+        assertEquals(List.of(jane, bob, max), database.sortByPerformance());
+    }
+
+    @Test
+    void testSortedViewsMatchFullSortAtScale() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Random random = new Random(11);
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Employee<Integer> employee = new Employee<>(database.nextEmployeeId(), "Employee " + i, "Sales",
+                1000.0 * (1 + random.nextInt(100)), random.nextInt(11) / 2.0, random.nextInt(30));
+            added.add(employee);
+        }
+        database.addEmployees(added.subList(0, 1000));
+        database.sortByExperience();
+        database.sortBySalary();
+        database.sortByPerformance();
+        // Added after the views exist, so blocks fill up and split
+        for (Employee<Integer> employee : added.subList(1000, added.size())) {
+            database.addEmployee(employee);
+        }
+        for (int round = 0; round < 2000; round++) {
+            Employee<Integer> employee = added.get(random.nextInt(added.size()));
+            switch (round % 4) {
+                case 0 -> employee.setSalary(1000.0 * (1 + random.nextInt(100)));
+                case 1 -> employee.setPerformanceRating(random.nextInt(11) / 2.0);
+                case 2 -> employee.setYearsOfExperience(random.nextInt(30));
+                default -> {
+                    database.removeEmployee(employee.getEmployeeId());
+                    added.remove(employee);
+                }
+            }
+        }
+        List<Employee<Integer>> all = database.getAllEmployees();
+        assertEquals(all.stream().sorted().toList(), database.sortByExperience());
+        assertEquals(all.stream().sorted(Comparator.comparingDouble(Employee::getSalary)).toList(),
+            database.sortBySalary());
+        assertEquals(all.stream().sorted(Comparator.comparingDouble(Employee::getPerformanceRating)).toList(),
+            database.sortByPerformance());
+    }
+
+    @Test
+    void testQueryMatchesStreamPipeline() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Random random = new Random(23);
+        String[] departments = {"IT", "HR", "Sales", "Finance"};
+        for (int i = 0; i < 2000; i++) {
+            Employee<Integer> employee = new Employee<>(database.nextEmployeeId(), "Employee " + random.nextInt(500),
+                departments[random.nextInt(departments.length)], 1000.0 * (1 + random.nextInt(100)),
+                random.nextInt(11) / 2.0, random.nextInt(30));
+            employee.setActive(random.nextInt(4) != 0);
+            database.addEmployee(employee);
+        }
+        for (int round = 0; round < 200; round++) {
+            EmployeeQuery<Integer> query = database.query();
+            List<Predicate<Employee<Integer>>> filters = new ArrayList<>();
+            if (random.nextBoolean()) {
+                String department = departments[random.nextInt(departments.length)];
+                query.inDepartment(department.toLowerCase());
+                filters.add(e -> e.getDepartment().equals(department));
+            }
+            if (random.nextInt(3) == 0) {
+                String term = "ee " + random.nextInt(50);
+                query.nameContains(term.toUpperCase());
+                filters.add(e -> e.getName().toLowerCase().contains(term));
+            }
+            if (random.nextBoolean()) {
+                double min = 1000.0 * random.nextInt(100);
+                double max = min + 1000.0 * random.nextInt(30);
+                query.salaryBetween(min, max);
+                filters.add(e -> e.getSalary() >= min && e.getSalary() <= max);
+            }
+            if (random.nextInt(3) == 0) {
+                double rating = random.nextInt(11) / 2.0;
+                query.minRating(rating);
+                filters.add(e -> e.getPerformanceRating() >= rating);
+            }
+            if (random.nextInt(3) == 0) {
+                int years = random.nextInt(30);
+                query.minExperience(years);
+                filters.add(e -> e.getYearsOfExperience() >= years);
+            }
+            if (random.nextInt(3) == 0) {
+                boolean active = random.nextBoolean();
+                query.active(active);
+                filters.add(e -> e.isActive() == active);
+            }
+            Comparator<Employee<Integer>> order = null;
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    query.sortBy(EmployeeQuery.Sort.EXPERIENCE);
+                    order = Comparator.naturalOrder();
+                }
+                case 1 -> {
+                    query.sortBy(EmployeeQuery.Sort.SALARY);
+                    order = Comparator.comparingDouble(Employee::getSalary);
+                }
+                case 2 -> {
+                    query.sortBy(EmployeeQuery.Sort.PERFORMANCE);
+                    order = Comparator.comparingDouble(Employee::getPerformanceRating);
+                }
+                default -> {
+                }
+            }
+            int limit = random.nextBoolean() ? 1 + random.nextInt(20) : Integer.MAX_VALUE;
+            if (limit != Integer.MAX_VALUE) {
+                query.limit(limit);
+            }
+
+            Stream<Employee<Integer>> expected = database.getAllEmployees().stream()
+                .filter(e -> filters.stream().allMatch(filter -> filter.test(e)));
+            if (order != null) {
+                expected = expected.sorted(order);
+            }
+            assertEquals(expected.limit(limit).toList(), query.list(), "round " + round);
+        }
+    }
+
+    @Test
+    void testParallelScansMatchSequentialScans() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Random random = new Random(31);
+        String[] departments = {"IT", "HR", "Sales", "Finance"};
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Employee<Integer> employee = new Employee<>(database.nextEmployeeId(), "Employee " + i,
+                departments[random.nextInt(departments.length)], 1000.0 * (1 + random.nextInt(100)),
+                random.nextInt(11) / 2.0, random.nextInt(30));
+            employee.setActive(random.nextInt(3) != 0);
+            added.add(employee);
+        }
+        database.addEmployees(added);
+        for (int i = 0; i < added.size(); i += 7) {
+            database.removeEmployee(added.get(i).getEmployeeId());
+        }
+        database.getAverageDepartmentSalary("IT");
+        // Leaves the extremes stale, so reading them scans the department
+        database.removeEmployee(database.query().inDepartment("IT").sortBy(EmployeeQuery.Sort.SALARY).list()
+            .get(0).getEmployeeId());
+
+        List<List<Employee<Integer>>> results = new ArrayList<>();
+        List<String> stats = new ArrayList<>();
+        for (int threshold : new int[]{Integer.MAX_VALUE, 0}) {
+            database.setParallelScanThreshold(threshold);
+            results.add(database.getHighPerformingEmployees(4.0));
+            results.add(database.getEmployeesInSalaryRange(20_000, 30_000));
+            results.add(database.getEmployeesByDepartment("hr"));
+            results.add(database.searchEmployeesByName("ee 19"));
+            results.add(database.query().active(false).limit(5000).list());
+            stats.add(database.getDepartmentSalaryStats("IT").toString());
+        }
+        int half = results.size() / 2;
+        assertEquals(results.subList(0, half), results.subList(half, results.size()));
+        assertEquals(stats.get(0), stats.get(1));
+        assertEquals(5000, results.get(half - 1).size());
+        assertThrows(IllegalArgumentException.class, () -> database.setParallelScanThreshold(-1));
+    }
+
+    @Test
+    void testQueryPlansOnMostSelectiveIndex() throws InvalidSalaryException, InvalidDepartmentException {
+        EmployeeDatabase<Integer> heap = new EmployeeDatabase<>();
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Employee<Integer> employee = heap.createEmployee("Employee " + i, i < 10 ? "Operations" : "Sales", 1000.0 + i);
+            heap.addEmployee(employee);
+            added.add(employee);
+        }
+        Employee<Integer> zelda = heap.createEmployee("Zelda Quinn", "Sales", 5000.0);
+        heap.addEmployee(zelda);
+
+        assertEquals(EmployeeQuery.Access.SCAN, heap.query().active(true).plan());
+        assertEquals(EmployeeQuery.Access.DEPARTMENT, heap.query().inDepartment("operations").plan());
+        assertEquals(EmployeeQuery.Access.NAME, heap.query().inDepartment("Sales").nameContains("zelda").plan());
+        assertEquals(EmployeeQuery.Access.SALARY, heap.query().inDepartment("Sales").salaryBetween(1500, 1510).plan());
+        assertEquals(EmployeeQuery.Access.DEPARTMENT,
+            heap.query().inDepartment("Operations").salaryBetween(1000, 1500).plan());
+        assertEquals(EmployeeQuery.Access.SCAN, heap.query().sortBy(EmployeeQuery.Sort.PERFORMANCE).plan());
+        heap.sortByPerformance();
+        assertEquals(EmployeeQuery.Access.PERFORMANCE, heap.query().sortBy(EmployeeQuery.Sort.PERFORMANCE).plan());
+        assertEquals(List.of(zelda), heap.query().inDepartment("sales").nameContains("ZELDA").list());
+        assertEquals(added.subList(0, 3), heap.query().sortBy(EmployeeQuery.Sort.SALARY).limit(3).list());
+        assertEquals(added.subList(0, 2),
+            heap.query().inDepartment("Operations").sortBy(EmployeeQuery.Sort.EXPERIENCE).limit(2).list());
+    }
+
+    @Test
+    void testPlannedQueryBuildsNoViews() throws InvalidSalaryException, InvalidDepartmentException {
+        EmployeeDatabase<Integer> heap = new EmployeeDatabase<>();
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Employee<Integer> employee = heap.createEmployee("Employee " + i, i % 2 == 0 ? "IT" : "Sales", 1000.0 + i);
+            employee.setPerformanceRating(i % 5);
+            heap.addEmployee(employee);
+            added.add(employee);
+        }
+
+        EmployeeQuery<Integer> query = heap.query().inDepartment("IT").salaryBetween(1000, 1600)
+            .minRating(4.0).sortBy(EmployeeQuery.Sort.SALARY).limit(3);
+        assertEquals(List.of(added.get(4), added.get(14), added.get(24)),
+            heap.query().inDepartment("IT").minRating(4.0).sortBy(EmployeeQuery.Sort.SALARY).limit(3).list());
+        assertEquals(List.of(added.get(4), added.get(14), added.get(24)), query.list());
+        for (SortedEmployeeView.Key key : SortedEmployeeView.Key.values()) {
+            assertFalse(heap.hasSortedView(key), key + " view built by a single query");
+        }
+
+        // Repeated use earns the view
+        query.list();
+        query.list();
+        assertTrue(heap.hasSortedView(SortedEmployeeView.Key.PERFORMANCE));
+        assertEquals(List.of(added.get(4), added.get(14), added.get(24)), query.list());
+    }
+
+    @Test
+    void testSalaryIndexFollowsSalaryChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> jane = new Employee<>("Jane Smith", "HR", 60000.0);
+        Employee<Integer> bob = new Employee<>("Bob Wilson", "IT", 45000.0);
+        database.addEmployee(jane);
+        database.addEmployee(bob);
+
+        assertEquals(List.of(bob, testEmployee), database.getEmployeesInSalaryRange(40000.0, 55000.0));
+        assertEquals(List.of(jane, testEmployee), database.getTopPaidEmployees(2));
+
+        database.updateEmployeeDetails(testEmployeeId, "salary", 70000.0);
+        assertEquals(List.of(bob), database.getEmployeesInSalaryRange(40000.0, 55000.0));
+        assertEquals(List.of(testEmployee, jane), database.getTopPaidEmployees(2));
+
+        bob.setPerformanceRating(4.5);
+        database.giveSalaryRaise(100.0, 4.0);
+        assertEquals(List.of(bob, testEmployee, jane), database.getTopPaidEmployees(5));
+        assertEquals(List.of(bob), database.getEmployeesInSalaryRange(90000.0, 90000.0));
+
+        database.removeEmployee(bob.getEmployeeId());
+        assertEquals(List.of(testEmployee), database.getTopPaidEmployees(1));
+    }
+
+    @Test
+    void testTopPaidLeaderboardMatchesFullSort() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Random random = new Random(7);
+        List<Employee<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Employee<Integer> employee = new Employee<>("Employee " + i, "Sales", 1000.0 * (1 + random.nextInt(50)));
+            database.addEmployee(employee);
+            added.add(employee);
+        }
+        for (int round = 0; round < 300; round++) {
+            Employee<Integer> employee = added.get(random.nextInt(added.size()));
+            switch (round % 3) {
+                case 0 -> employee.setSalary(1000.0 * (1 + random.nextInt(50)));
+                case 1 -> {
+                    // Take from the top so the leaderboard runs short and must be refilled
+                    Employee<Integer> top = database.getTopPaidEmployees(1).get(0);
+                    database.removeEmployee(top.getEmployeeId());
+                    added.remove(top);
+                }
+                default -> {
+                    Employee<Integer> hire = new Employee<>("Hire " + round, "HR", 1000.0 * (1 + random.nextInt(60)));
+                    database.addEmployee(hire);
+                    added.add(hire);
+                }
+            }
+            List<Employee<Integer>> sorted = database.getAllEmployees().stream()
+                .sorted(Comparator.comparingDouble(Employee<Integer>::getSalary).reversed())
+                .toList();
+            int count = 1 + round % 20;
+            assertEquals(sorted.subList(0, count), database.getTopPaidEmployees(count));
+        }
+    }
+
     @Test
     void testGetEmployeesWithInvalidSalaryRange() {
         assertThrows(InvalidSalaryException.class, () -> {
@@ -140,6 +735,50 @@ public class EmployeeDatabaseTest {
         assertEquals(0.0, database.getAverageDepartmentSalary("HR"));
     }
 
+    @Test
+    void testDepartmentSalaryStatsFollowChanges() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        Employee<Integer> low = new Employee<>("Low Paid", "IT", 30000.0);
+        Employee<Integer> high = new Employee<>("High Paid", "IT", 90000.0);
+        database.addEmployee(low);
+        database.addEmployee(high);
+
+        DepartmentSalaryStats stats = database.getDepartmentSalaryStats("it");
+        assertEquals(3, stats.getCount());
+        assertEquals(170000.0, stats.getTotal());
+        assertEquals(56666.67, stats.getAverage());
+        assertEquals(30000.0, stats.getMin());
+        assertEquals(90000.0, stats.getMax());
+
+        // Moving the maximum inwards and removing the minimum both need the next one found
+        high.setSalary(40000.0);
+        assertEquals(50000.0, database.getDepartmentSalaryStats("IT").getMax());
+        database.removeEmployee(low.getEmployeeId());
+        stats = database.getDepartmentSalaryStats("IT");
+        assertEquals(2, stats.getCount());
+        assertEquals(40000.0, stats.getMin());
+        assertEquals(45000.0, database.getAverageDepartmentSalary("IT"));
+
+        high.setDepartment("HR");
+        database.addEmployees(List.of(new Employee<>("New Hire", "HR", 20000.0)));
+        assertEquals(30000.0, database.getAverageDepartmentSalary("HR"));
+        assertEquals(20000.0, database.getDepartmentSalaryStats("HR").getMin());
+        assertEquals(50000.0, database.getDepartmentSalaryStats("IT").getMax());
+
+        database.giveSalaryRaise(10.0, 0.0);
+        stats = database.getDepartmentSalaryStats("HR");
+        assertEquals(33000.0, stats.getAverage());
+        assertEquals(22000.0, stats.getMin());
+        assertEquals(44000.0, stats.getMax());
+        assertEquals(55000.0, database.getDepartmentSalaryStats("IT").getTotal());
+
+        database.removeEmployee(testEmployeeId);
+        stats = database.getDepartmentSalaryStats("IT");
+        assertEquals(0, stats.getCount());
+        assertEquals(0.0, stats.getAverage());
+        assertEquals(0.0, stats.getMax());
+        assertThrows(InvalidDepartmentException.class, () -> database.getDepartmentSalaryStats(" "));
+    }
+
     @Test
     void testGetAverageSalaryWithInvalidDepartment() {
         assertThrows(InvalidDepartmentException.class, () -> {
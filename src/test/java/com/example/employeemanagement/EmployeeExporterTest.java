@@ -0,0 +1,135 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.EmployeeNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeExporterTest {
+    @TempDir
+    Path dir;
+
+    private static EmployeeDatabase<Integer> sample(StorageMode mode) throws Exception {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>(mode);
+        db.addEmployee(new Employee<>(700001, "Alice Adams", "IT", 60000.5, 4.5, 3));
+        db.addEmployee(new Employee<>(700002, "Brown, \"Bob\"", "HR", 40000.0, 0.0, 0));
+        db.addEmployee(new Employee<>(700003, " Zoë\nLine\t\\ 😀", "Sales", 1234.567, 3.25, 12));
+        Employee<Integer> inactive = new Employee<>(700004, "Dan Dunn", "Finance", 0.1, 2.0, 1);
+        inactive.setActive(false);
+        db.addEmployee(inactive);
+        return db;
+    }
+
+    private static List<String> describe(List<Employee<Integer>> employees) {
+        List<String> result = new ArrayList<>();
+        for (Employee<Integer> e : employees) {
+            result.add(e.getEmployeeId() + "|" + e.getName() + "|" + e.getDepartment() + "|" + e.getSalary() + "|"
+                    + e.getPerformanceRating() + "|" + e.getYearsOfExperience() + "|" + e.isActive());
+        }
+        return result;
+    }
+
+    @Test
+    void testCsvRoundTrip() throws Exception {
+        for (StorageMode mode : StorageMode.values()) {
+            EmployeeDatabase<Integer> db = sample(mode);
+            Path file = dir.resolve("export-" + mode + ".csv");
+            assertEquals(4, new EmployeeExporter(EmployeeFileFormat.CSV, 32).exportFile(db, file));
+
+            EmployeeDatabase<Integer> copy = new EmployeeDatabase<>();
+            ImportReport report = new EmployeeCsvImporter(copy).importFile(file);
+
+            assertEquals(0, report.getRejectedCount(), report.getRejectedRows().toString());
+            assertEquals(describe(db.getAllEmployees()), describe(copy.getAllEmployees()));
+        }
+    }
+
+    @Test
+    void testJsonLinesRoundTrip() throws Exception {
+        EmployeeDatabase<Integer> db = sample(StorageMode.HEAP);
+        Path file = dir.resolve("export.jsonl");
+        new EmployeeExporter(EmployeeFileFormat.JSON_LINES, 32).exportFile(db, file);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(4, lines.size());
+        assertEquals("{\"id\":700001,\"name\":\"Alice Adams\",\"department\":\"IT\",\"salary\":60000.5,"
+                + "\"performanceRating\":4.5,\"yearsOfExperience\":3,\"active\":true}", lines.get(0));
+        assertTrue(lines.get(1).contains("\"name\":\"Brown, \\\"Bob\\\"\""));
+        assertTrue(lines.get(2).contains("\"salary\":1234.567"));
+        assertTrue(lines.get(2).contains("\\n") && lines.get(2).contains("\\t") && lines.get(2).contains("\\\\"));
+
+        EmployeeDatabase<Integer> copy = new EmployeeDatabase<>();
+        ImportReport report = new ParallelEmployeeImporter(copy, EmployeeFileFormat.JSON_LINES, 2).importFile(file);
+        assertEquals(0, report.getRejectedCount(), report.getRejectedRows().toString());
+        assertEquals(describe(db.getAllEmployees()), describe(copy.getAllEmployees()));
+    }
+
+    @Test
+    void testFilteredExports() throws Exception {
+        EmployeeDatabase<Integer> db = sample(StorageMode.HEAP);
+        EmployeeExporter exporter = new EmployeeExporter(EmployeeFileFormat.CSV);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, exporter.export(db.getEmployeesByDepartment("IT"), Channels.newChannel(out)));
+        assertEquals(EmployeeExporter.CSV_HEADER + "700001,Alice Adams,IT,60000.5,4.5,3,true\n",
+                out.toString(StandardCharsets.UTF_8));
+
+        out.reset();
+        assertEquals(2, exporter.export(db, e -> e.getSalary() < 2000, Channels.newChannel(out)));
+        assertEquals(EmployeeExporter.CSV_HEADER
+                        + "700003,\" Zoë\nLine\t\\ 😀\",Sales,1234.567,3.25,12,true\n"
+                        + "700004,Dan Dunn,Finance,0.1,2,1,false\n",
+                out.toString(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeExporter(null));
+        assertThrows(IllegalArgumentException.class, () -> exporter.export(db, null, Channels.newChannel(out)));
+    }
+
+    @Test
+    void testOffHeapWalkSurvivesCompaction() throws Exception {
+        Logger employeeLogger = Logger.getLogger(Employee.class.getName());
+        employeeLogger.setLevel(Level.WARNING);
+        try {
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>(StorageMode.OFF_HEAP);
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < 3000; i++) {
+                ids.add(db.addEmployee(db.createEmployee("Employee " + i, "IT", 1000 + i)));
+            }
+            Set<Integer> seen = new HashSet<>();
+            List<Integer> order = new ArrayList<>();
+            db.forEachEmployee(employee -> {
+                if (order.size() == 1500) {
+                    // Enough removals to force a compaction, both behind and ahead of the walk
+                    try {
+                        for (int i = 0; i < 1400; i++) {
+                            db.removeEmployee(ids.get(i));
+                        }
+                        for (int i = 2500; i < 3000; i++) {
+                            db.removeEmployee(ids.get(i));
+                        }
+                    } catch (EmployeeNotFoundException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+                order.add(employee.getEmployeeId());
+                assertTrue(seen.add(employee.getEmployeeId()));
+            });
+            assertEquals(ids.subList(0, 2500), order);
+        } finally {
+            employeeLogger.setLevel(null);
+        }
+    }
+}
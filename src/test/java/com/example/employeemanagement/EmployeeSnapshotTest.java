@@ -0,0 +1,134 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeSnapshotTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSnapshotRoundTrip() throws Exception {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        Employee<Integer> alice = new Employee<>("Alice Ångström", "IT", 60000.0, 4.5, 6);
+        Employee<Integer> bob = new Employee<>("Bob Brown", "HR", 40000.0, 3.0, 2);
+        db.addEmployee(alice);
+        db.addEmployee(bob);
+        bob.setActive(false);
+        Path file = dir.resolve("employees.snapshot");
+        db.saveSnapshot(file);
+
+        EmployeeDatabase<Integer> restored = EmployeeDatabase.openSnapshot(file);
+        assertEquals(List.of(alice, bob), restored.getAllEmployees());
+        Employee<Integer> restoredAlice = restored.getEmployee(alice.getEmployeeId());
+        assertEquals("Alice Ångström", restoredAlice.getName());
+        assertEquals("IT", restoredAlice.getDepartment());
+        assertEquals(4.5, restoredAlice.getPerformanceRating());
+        assertEquals(6, restoredAlice.getYearsOfExperience());
+        assertFalse(restored.getEmployee(bob.getEmployeeId()).isActive());
+        assertEquals(List.of(alice), restored.getEmployeesByDepartment("it"));
+        assertEquals(List.of(alice, bob), restored.getTopPaidEmployees(2));
+
+        Employee<Integer> carol = restored.createEmployee("Carol Clark", "IT", 50000.0);
+        assertTrue(carol.getEmployeeId() > bob.getEmployeeId());
+        restored.addEmployee(carol);
+        restored.giveSalaryRaise(10.0, 4.0);
+        assertEquals(58000.0, restored.getAverageDepartmentSalary("IT"));
+
+        // Changes stay in memory until the next save
+        assertEquals(2, EmployeeDatabase.openSnapshot(file).getAllEmployees().size());
+        restored.saveSnapshot(file);
+        EmployeeDatabase<Integer> reopened = EmployeeDatabase.openSnapshot(file);
+        assertEquals(List.of(alice, bob, carol), reopened.getAllEmployees());
+        assertEquals(66000.0, reopened.getEmployee(alice.getEmployeeId()).getSalary());
+    }
+
+    @Test
+    void testSnapshotSpanningSeveralChunks() throws Exception {
+        Logger employeeLogger = Logger.getLogger(Employee.class.getName());
+        Logger databaseLogger = Logger.getLogger(EmployeeDatabase.class.getName());
+        employeeLogger.setLevel(Level.WARNING);
+        databaseLogger.setLevel(Level.WARNING);
+        try {
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>(StorageMode.OFF_HEAP);
+            int count = 70000;
+            for (int i = 0; i < count; i++) {
+                db.addEmployee(new Employee<>(i, "Employee " + i, i % 2 == 0 ? "Sales" : "IT", 1000.0 + i));
+            }
+            Path file = dir.resolve("large.snapshot");
+            db.saveSnapshot(file);
+
+            EmployeeDatabase<Integer> restored = EmployeeDatabase.openSnapshot(file);
+            assertEquals(count, restored.getAllEmployees().size());
+            assertEquals("Employee 69999", restored.getEmployee(69999).getName());
+            restored.removeEmployee(10);
+            restored.addEmployee(new Employee<>(count, "Late Joiner", "HR", 500.0));
+            assertEquals(List.of(restored.getEmployee(count)), restored.getEmployeesByDepartment("HR"));
+            assertEquals(count, restored.getAllEmployees().size());
+            assertEquals(1000.0 + count - 1, restored.getTopPaidEmployees(1).get(0).getSalary());
+        } finally {
+            employeeLogger.setLevel(null);
+            databaseLogger.setLevel(null);
+        }
+    }
+
+    @Test
+    void testCorruptSnapshotIsRejected() throws Exception {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        db.addEmployee(new Employee<>("Alice Adams", "IT", 60000.0));
+        Path file = dir.resolve("corrupt.snapshot");
+        db.saveSnapshot(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), EmployeeSnapshot.HEADER_BYTES + 10);
+        }
+        IOException error = assertThrows(IOException.class, () -> EmployeeDatabase.openSnapshot(file));
+        assertTrue(error.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void testUnknownVersionIsRejected() throws Exception {
+        Path file = dir.resolve("future.snapshot");
+        new EmployeeDatabase<Integer>().saveSnapshot(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, EmployeeSnapshot.FORMAT_VERSION + 1), 8);
+        }
+        IOException error = assertThrows(IOException.class, () -> EmployeeDatabase.openSnapshot(file));
+        assertTrue(error.getMessage().contains("version"));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> EmployeeDatabase.openSnapshot(file));
+    }
+
+    @Test
+    void testNonIntegerIdsCannotBeSnapshotted() throws InvalidSalaryException, InvalidDepartmentException {
+        EmployeeDatabase<String> db = new EmployeeDatabase<>(new IdAllocator<>() {
+            private int next;
+
+            @Override
+            public String nextId() {
+                return "E-" + ++next;
+            }
+
+            @Override
+            public void reserve(String id) {
+            }
+        });
+        db.addEmployee(new Employee<>("E-1", "Alice Adams", "IT", 60000.0));
+        assertThrows(IllegalArgumentException.class, () -> db.saveSnapshot(dir.resolve("strings.snapshot")));
+        assertFalse(Files.exists(dir.resolve("strings.snapshot")));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdAllocatorTest {
+
+    private static Set<Integer> allocateConcurrently(IdAllocator<Integer> allocator, int threads, int perThread)
+            throws Exception {
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    assertTrue(ids.add(allocator.nextId()), "Duplicate ID allocated");
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        return ids;
+    }
+
+    @Test
+    void testSequentialAllocatorIsUniqueAcrossThreads() throws Exception {
+        Set<Integer> ids = allocateConcurrently(new SequentialIdAllocator(), 8, 5000);
+        assertEquals(40000, ids.size());
+        assertEquals(40000, ids.stream().mapToInt(Integer::intValue).max().orElse(0));
+    }
+
+    @Test
+    void testBlockAllocatorIsUniqueAcrossThreads() throws Exception {
+        Set<Integer> ids = allocateConcurrently(new BlockIdAllocator(0, 16), 8, 5000);
+        assertEquals(40000, ids.size());
+    }
+
+    @Test
+    void testAllocatorsCarryOnAboveReservedIds() {
+        IdAllocator<Integer> sequential = new SequentialIdAllocator();
+        sequential.reserve(41);
+        sequential.reserve(7);
+        assertEquals(42, sequential.nextId());
+
+        IdAllocator<Integer> block = new BlockIdAllocator(0, 8);
+        block.reserve(100);
+        assertEquals(101, block.nextId());
+    }
+
+    @Test
+    void testBlockAllocatorSkipsIdReservedInsideActiveBlock() throws Exception {
+        BlockIdAllocator allocator = new BlockIdAllocator(0, 8);
+        assertEquals(1, allocator.nextId());
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        assertEquals(9, other.submit(allocator::nextId).get(30, TimeUnit.SECONDS));
+
+        // Both blocks are live when these IDs turn up from storage
+        allocator.reserve(5);
+        allocator.reserve(12);
+
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            drained.add(allocator.nextId());
+        }
+        List<Integer> otherDrained = other.submit(() -> {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                ids.add(allocator.nextId());
+            }
+            return ids;
+        }).get(30, TimeUnit.SECONDS);
+        other.shutdown();
+
+        assertEquals(List.of(2, 3, 4, 6, 7, 8, 17, 18), drained);
+        assertEquals(List.of(10, 11, 13, 14, 15, 16, 25, 26), otherDrained);
+    }
+
+    @Test
+    void testDatabaseAllocatorContinuesAfterReload() throws InvalidSalaryException, InvalidDepartmentException {
+        EmployeeDatabase<Integer> first = new EmployeeDatabase<>(new SequentialIdAllocator());
+        Employee<Integer> alice = first.createEmployee("Alice Adams", "IT", 50000.0);
+        Employee<Integer> bob = first.createEmployee("Bob Brown", "HR", 45000.0);
+        first.addEmployee(alice);
+        first.addEmployee(bob);
+        assertEquals(1, alice.getEmployeeId());
+        assertEquals(2, bob.getEmployeeId());
+
+        // Reload the persisted rows into a fresh database with a fresh allocator
+        EmployeeDatabase<Integer> reloaded = new EmployeeDatabase<>(new SequentialIdAllocator());
+        reloaded.addEmployee(new Employee<>(bob.getEmployeeId(), bob.getName(), bob.getDepartment(), bob.getSalary()));
+        reloaded.addEmployee(new Employee<>(alice.getEmployeeId(), alice.getName(), alice.getDepartment(), alice.getSalary()));
+        assertEquals(3, reloaded.nextEmployeeId());
+    }
+
+    @Test
+    void testDefaultConstructorIdsAreUniqueAcrossThreads() throws Exception {
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    assertTrue(ids.add(new Employee<Integer>("Worker " + i, "IT", 1000.0).getEmployeeId()));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        assertEquals(1000, ids.size());
+    }
+}
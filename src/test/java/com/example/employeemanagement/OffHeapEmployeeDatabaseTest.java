@@ -0,0 +1,136 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the EmployeeDatabaseTest suite against the off-heap storage mode and checks that the
+ * rows and views stay in step with every kind of change.
+ */
+public class OffHeapEmployeeDatabaseTest extends EmployeeDatabaseTest {
+    @TempDir
+    Path dir;
+
+    @Override
+    EmployeeDatabase<Integer> createDatabase() {
+        return new EmployeeDatabase<>(StorageMode.OFF_HEAP);
+    }
+
+    // Lookups return views over the stored row rather than the added object
+    @Override
+    void assertStored(Employee<Integer> expected, Employee<Integer> actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDepartment(), actual.getDepartment());
+        assertEquals(expected.getSalary(), actual.getSalary());
+    }
+
+    @Test
+    void testViewsReadAndWriteRows() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> db = createDatabase();
+        Employee<Integer> alice = new Employee<>("Alice Adams", "IT", 60000.0, 3.5, 4);
+        db.addEmployee(alice);
+
+        Employee<Integer> view = db.getEmployee(alice.getEmployeeId());
+        assertEquals("Alice Adams", view.getName());
+        assertEquals(3.5, view.getPerformanceRating());
+        assertEquals(4, view.getYearsOfExperience());
+
+        view.setName("Alice Baker");
+        view.setSalary(65000.0);
+        view.setActive(false);
+        Employee<Integer> again = db.getEmployee(alice.getEmployeeId());
+        assertEquals("Alice Baker", again.getName());
+        assertEquals(65000.0, again.getSalary());
+        assertFalse(again.isActive());
+        assertEquals(List.of(view), db.searchEmployeesByName("baker"));
+
+        alice.setYearsOfExperience(7);
+        assertEquals(7, view.getYearsOfExperience());
+
+        db.removeEmployee(alice.getEmployeeId());
+        assertThrows(IllegalStateException.class, view::getName);
+        alice.setSalary(1.0);
+        assertEquals(0, db.getEmployeesInSalaryRange(0.0, 10.0).size());
+    }
+
+    @Test
+    void testReaddedEmployeeIgnoresStaleViews() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> db = createDatabase();
+        Employee<Integer> bob = new Employee<>("Bob Brown", "HR", 40000.0);
+        db.addEmployee(bob);
+        Employee<Integer> staleView = db.getEmployee(bob.getEmployeeId());
+        db.removeEmployee(bob.getEmployeeId());
+
+        Employee<Integer> replacement = new Employee<>(bob.getEmployeeId(), "Bob Brown", "Sales", 45000.0);
+        db.addEmployee(replacement);
+        bob.setDepartment("IT");
+        assertThrows(IllegalStateException.class, () -> staleView.setSalary(1.0));
+        assertEquals("Sales", db.getEmployee(bob.getEmployeeId()).getDepartment());
+        assertEquals(45000.0, db.getEmployee(bob.getEmployeeId()).getSalary());
+    }
+
+    @Test
+    void testRowsAndNamesSurviveCompaction() throws InvalidSalaryException, InvalidDepartmentException, EmployeeNotFoundException {
+        EmployeeDatabase<Integer> db = createDatabase();
+        List<Employee<Integer>> kept = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Employee<Integer> employee = new Employee<>("Employee " + i, i % 2 == 0 ? "Sales" : "Finance", 1000.0 * i);
+            db.addEmployee(employee);
+            if (i % 10 == 0) {
+                employee.setPerformanceRating(5.0);
+                kept.add(employee);
+            }
+        }
+        for (Employee<Integer> employee : db.getAllEmployees()) {
+            if (!kept.contains(employee)) {
+                db.removeEmployee(employee.getEmployeeId());
+            }
+        }
+        assertEquals(kept, db.getAllEmployees());
+        assertEquals(kept, db.getHighPerformingEmployees(5.0));
+        for (Employee<Integer> employee : kept) {
+            assertStored(employee, db.getEmployee(employee.getEmployeeId()));
+        }
+        assertEquals(List.of(kept.get(kept.size() - 1), kept.get(kept.size() - 2)), db.getTopPaidEmployees(2));
+        assertEquals(0.0, db.getAverageDepartmentSalary("Finance"));
+    }
+
+    // Removal hands back a fresh view, so the added object itself must stop reporting changes
+    @Test
+    void testRemovedOriginalLeavesStatsAndLogUntouched() throws Exception {
+        Path snapshot = dir.resolve("employees.snapshot");
+        Path log = dir.resolve("employees.log");
+        Employee<Integer> alice = new Employee<>("Alice Adams", "IT", 50000.0);
+        Employee<Integer> bob = new Employee<>("Bob Brown", "IT", 70000.0);
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot, log, LogSyncPolicy.EVERY_COMMIT)) {
+            db.addEmployee(alice);
+            db.addEmployee(bob);
+            // Build the lazy aggregates and leaderboard before the removal
+            assertEquals(2, db.getDepartmentSalaryStats("IT").getCount());
+            assertEquals(List.of(bob, alice), db.getTopPaidEmployees(5));
+            db.removeEmployee(alice.getEmployeeId());
+            alice.setSalary(1_000_000.0);
+            DepartmentSalaryStats stats = db.getDepartmentSalaryStats("IT");
+            assertEquals(1, stats.getCount());
+            assertEquals(70000.0, stats.getTotal());
+            assertEquals(List.of(bob), db.getTopPaidEmployees(5));
+
+            alice.setName("Alice Baker");
+            alice.setDepartment("HR");
+            assertEquals(List.of(), db.searchEmployeesByName("baker"));
+            assertEquals(List.of(), db.getEmployeesByDepartment("HR"));
+        }
+        try (EmployeeDatabase<Integer> reopened = EmployeeDatabase.open(snapshot, log, LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(List.of(bob), reopened.getAllEmployees());
+            assertEquals(70000.0, reopened.getDepartmentSalaryStats("IT").getTotal());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.employeemanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelEmployeeImporterTest {
+    private static final String CSV = """
+            name,department,salary,notes
+            Alice Adams,IT,60000.50,"one line"
+            "Brown, Bob",HR,40000,"spans
+            two lines, with ""quotes""\"
+            Carol Clark,Sales,1e4,
+
+            Dan Dunn,Legal,50000,"also
+            spans"
+            Eve Evans,IT,-5,
+            "Fay
+            Fox",Finance,30000,x
+            Gus Green,IT
+            Hal Hill,Marketing,45000,"last"
+            """;
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void testMatchesSequentialImportForAnyBlockSize() throws Exception {
+        Path file = write("employees.csv", CSV);
+        EmployeeDatabase<Integer> expected = new EmployeeDatabase<>();
+        ImportReport sequential = new EmployeeCsvImporter(expected).importFile(file);
+        assertEquals(5, sequential.getImportedCount());
+
+        for (int blockBytes = 1; blockBytes <= CSV.length() + 1; blockBytes++) {
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+            ImportReport report = new ParallelEmployeeImporter(db, EmployeeFileFormat.CSV, 3, blockBytes).importFile(file);
+
+            assertEquals(sequential.toString(), report.toString(), "block size " + blockBytes);
+            assertEquals(rejectedNumbers(sequential), rejectedNumbers(report), "block size " + blockBytes);
+            assertEquals(describe(expected), describe(db), "block size " + blockBytes);
+        }
+    }
+
+    @Test
+    void testImportsJsonLines() throws Exception {
+        Path file = write("employees.jsonl", """
+                {"name": "Alice Adams", "department": "IT", "salary": 60000.5, "performanceRating": 4.5}
+                {"id": 500, "name": "Bob \\"B\\" Brown\\u00e9", "department": "HR", "salary": 40000, "active": false}
+                {"name": "Carol Clark", "extra": {"nested": [1, 2, {"x": "}"}]}, "department": "Sales", "salary": 1e4}
+
+                {"name": "Dan Dunn", "department": "Legal"}
+                {"name": "Eve Evans", "department": "Nowhere", "salary": 100}
+                {"name": "Fay Fox", "department": "IT", "salary": 100,
+                {"name": "Gus Green", "department": "IT", "salary": 20000, "yearsOfExperience": 7}
+                """);
+
+        for (int blockBytes : new int[]{1, 5, 64, ParallelEmployeeImporter.DEFAULT_BLOCK_BYTES}) {
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+            ImportReport report = new ParallelEmployeeImporter(db, EmployeeFileFormat.JSON_LINES, 2, blockBytes)
+                    .importFile(file);
+
+            assertEquals(4, report.getImportedCount());
+            assertEquals(List.of(5L, 6L, 7L), rejectedNumbers(report));
+            assertEquals("Missing salary", report.getRejectedRows().get(0).getReason());
+            assertTrue(report.getRejectedRows().get(1).getReason().contains("Invalid department"));
+            assertTrue(report.getRejectedRows().get(2).getReason().startsWith("Malformed JSON"));
+
+            List<Employee<Integer>> employees = db.getAllEmployees();
+            assertEquals(List.of("Alice Adams", "Bob \"B\" Browné", "Carol Clark", "Gus Green"),
+                    employees.stream().map(Employee::getName).toList());
+            assertEquals(4.5, employees.get(0).getPerformanceRating());
+            assertFalse(db.getEmployee(500).isActive());
+            assertEquals(10000.0, employees.get(2).getSalary());
+            assertEquals(7, employees.get(3).getYearsOfExperience());
+        }
+    }
+
+    @Test
+    void testLargeFileKeepsFileOrder() throws Exception {
+        Logger employeeLogger = Logger.getLogger(Employee.class.getName());
+        employeeLogger.setLevel(Level.WARNING);
+        try {
+            Path file = dir.resolve("large.csv");
+            int count = 20000;
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write("name,department,salary,yearsOfExperience\n");
+                for (int i = 0; i < count; i++) {
+                    String name = i % 7 == 0 ? "\"Employee\n" + i + "\"" : "Employee " + i;
+                    writer.write(name + ",Operations," + (1000 + i) + "," + (i % 40) + "\n");
+                }
+            }
+
+            EmployeeDatabase<Integer> db = new EmployeeDatabase<>(StorageMode.OFF_HEAP);
+            ImportReport report = new ParallelEmployeeImporter(db, EmployeeFileFormat.CSV, 4, 8192).importFile(file);
+
+            assertEquals(count, report.getImportedCount());
+            List<Employee<Integer>> employees = db.getAllEmployees();
+            for (int i = 0; i < count; i++) {
+                assertEquals(1000.0 + i, employees.get(i).getSalary());
+                assertEquals(i % 7 == 0 ? "Employee\n" + i : "Employee " + i, employees.get(i).getName());
+                if (i > 0) {
+                    assertTrue(employees.get(i).getEmployeeId() > employees.get(i - 1).getEmployeeId());
+                }
+            }
+        } finally {
+            employeeLogger.setLevel(null);
+        }
+    }
+
+    @Test
+    void testInvalidInputFailsTheImport() throws IOException {
+        EmployeeDatabase<Integer> db = new EmployeeDatabase<>();
+        Path file = write("missing.csv", "name,salary\nAlice Adams,1000\n");
+        IOException error = assertThrows(IOException.class,
+                () -> new ParallelEmployeeImporter(db, EmployeeFileFormat.CSV, 2).importFile(file));
+        assertTrue(error.getMessage().contains("department"));
+        assertThrows(IOException.class,
+                () -> new ParallelEmployeeImporter(db, EmployeeFileFormat.CSV, 2).importFile(write("empty.csv", "")));
+        assertEquals(0, new ParallelEmployeeImporter(db, EmployeeFileFormat.JSON_LINES, 2)
+                .importFile(write("empty.jsonl", "")).getImportedCount());
+        assertTrue(db.getAllEmployees().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ParallelEmployeeImporter(db, EmployeeFileFormat.CSV, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelEmployeeImporter(db, null));
+    }
+
+    private static List<Long> rejectedNumbers(ImportReport report) {
+        return report.getRejectedRows().stream().map(ImportReport.RejectedRow::getRecordNumber).toList();
+    }
+
+    // IDs relative to the first, since every database draws from the same allocator
+    private static List<String> describe(EmployeeDatabase<Integer> db) {
+        List<Employee<Integer>> employees = db.getAllEmployees();
+        int firstId = employees.get(0).getEmployeeId();
+        return employees.stream()
+                .map(e -> (e.getEmployeeId() - firstId) + "|" + e.getName() + "|" + e.getDepartment() + "|" + e.getSalary())
+                .toList();
+    }
+}
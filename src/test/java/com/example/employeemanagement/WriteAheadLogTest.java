@@ -0,0 +1,218 @@
+package com.example.employeemanagement;
+
+import com.example.employeemanagement.Exception.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteAheadLogTest {
+    @TempDir
+    Path dir;
+
+    private Path snapshot() {
+        return dir.resolve("employees.snapshot");
+    }
+
+    private Path log() {
+        return dir.resolve("employees.log");
+    }
+
+    @Test
+    void testMutationsSurviveRestartWithoutCheckpoint() throws Exception {
+        EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT);
+        Employee<Integer> alice = new Employee<>("Alice Adams", "IT", 60000.0, 4.5, 3);
+        Employee<Integer> bob = new Employee<>("Bob Brown", "HR", 40000.0);
+        Employee<Integer> carol = new Employee<>("Carol Clark", "IT", 50000.0);
+        db.addEmployee(alice);
+        db.addEmployee(bob);
+        db.addEmployee(carol);
+        db.updateEmployeeDetails(bob.getEmployeeId(), "department", "Sales");
+        alice.setName("Alice Baker");
+        db.getEmployee(carol.getEmployeeId()).setYearsOfExperience(9);
+        bob.setActive(false);
+        db.giveSalaryRaise(10.0, 4.0);
+        db.removeEmployee(carol.getEmployeeId());
+
+        // No close: EVERY_COMMIT entries are already on disk, as after a crash
+        EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT);
+        assertEquals(List.of(alice, bob), restored.getAllEmployees());
+        Employee<Integer> restoredAlice = restored.getEmployee(alice.getEmployeeId());
+        assertEquals("Alice Baker", restoredAlice.getName());
+        assertEquals(66000.0, restoredAlice.getSalary());
+        assertEquals("Sales", restored.getEmployee(bob.getEmployeeId()).getDepartment());
+        assertFalse(restored.getEmployee(bob.getEmployeeId()).isActive());
+        assertTrue(restored.createEmployee("Dan Dunn", "IT", 1.0).getEmployeeId() > carol.getEmployeeId());
+        restored.close();
+        db.close();
+    }
+
+    @Test
+    void testCheckpointFoldsLogIntoSnapshot() throws Exception {
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.NONE)) {
+            db.addEmployee(new Employee<>("Alice Adams", "IT", 60000.0));
+            db.checkpoint();
+            assertEquals(0, Files.size(log()));
+            db.addEmployee(new Employee<>("Bob Brown", "HR", 40000.0));
+            assertTrue(Files.size(log()) > 0);
+        }
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.NONE)) {
+            assertEquals(2, restored.getAllEmployees().size());
+            assertEquals(1, restored.getEmployeesByDepartment("HR").size());
+        }
+    }
+
+    @Test
+    void testRepeatedCheckpointsNeverReplaceTheMappedSnapshot() throws Exception {
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.NONE)) {
+            db.addEmployee(new Employee<>("Alice Adams", "IT", 60000.0));
+            db.checkpoint();
+        }
+        Path first = EmployeeSnapshot.latestGeneration(snapshot());
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.NONE)) {
+            // Served from the mapping of the first generation while both checkpoints run
+            db.addEmployee(new Employee<>("Bob Brown", "HR", 40000.0));
+            db.checkpoint();
+            Path second = EmployeeSnapshot.latestGeneration(snapshot());
+            assertNotEquals(first, second);
+            db.getAllEmployees().get(0).setSalary(65000.0);
+            db.checkpoint();
+            assertNotEquals(second, EmployeeSnapshot.latestGeneration(snapshot()));
+            assertEquals(0, Files.size(log()));
+        }
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.NONE)) {
+            assertEquals(2, restored.getAllEmployees().size());
+            assertEquals(65000.0, restored.getEmployeesByDepartment("IT").get(0).getSalary());
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(EmployeeSnapshot.latestGeneration(snapshot()), log()),
+                files.sorted(Comparator.comparing(Path::toString).reversed()).toList());
+        }
+    }
+
+    @Test
+    void testEntriesAlreadyInSnapshotAreSkipped() throws Exception {
+        Path staleLog = dir.resolve("stale.log");
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            db.addEmployee(new Employee<>("Alice Adams", "IT", 60000.0, 4.0, 1));
+            db.giveSalaryRaise(10.0, 4.0);
+            Files.copy(log(), staleLog);
+            db.checkpoint();
+        }
+        // As if the process died after writing the snapshot but before emptying the log
+        Files.copy(staleLog, log(), StandardCopyOption.REPLACE_EXISTING);
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(1, restored.getAllEmployees().size());
+            assertEquals(66000.0, restored.getAllEmployees().get(0).getSalary());
+        }
+    }
+
+    @Test
+    void testTornTailIsDiscarded() throws Exception {
+        Employee<Integer> alice = new Employee<>("Alice Adams", "IT", 60000.0);
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            db.addEmployee(alice);
+        }
+        long intact = Files.size(log());
+        Files.write(log(), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(List.of(alice), restored.getAllEmployees());
+            assertEquals(intact, Files.size(log()));
+            restored.updateEmployeeDetails(alice.getEmployeeId(), "salary", 70000.0);
+        }
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(70000.0, restored.getEmployee(alice.getEmployeeId()).getSalary());
+        }
+    }
+
+    @Test
+    void testBatchIsReplayedWholeOrNotAtAll() throws Exception {
+        try (EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            db.newBatch().add("Alice Adams", "IT", 60000.0).add("Bob Brown", "HR", 40000.0).commit();
+        }
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(2, restored.getAllEmployees().size());
+            long firstBatchEnd = Files.size(log());
+            restored.newBatch().add("Carol Clark", "IT", 50000.0).add("Dan Dunn", "Sales", 30000.0).commit();
+            // Cut the second batch off part way through its last addition
+            try (FileChannel channel = FileChannel.open(log(), StandardOpenOption.WRITE)) {
+                channel.truncate(Files.size(log()) - 5);
+            }
+            assertTrue(Files.size(log()) > firstBatchEnd);
+        }
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(2, restored.getAllEmployees().size());
+            assertEquals(List.of(), restored.searchEmployeesByName("Carol"));
+        }
+    }
+
+    @Test
+    void testClosedLogRejectsMutations() throws Exception {
+        EmployeeDatabase<Integer> db = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.PERIODIC);
+        Employee<Integer> alice = new Employee<>("Alice Adams", "IT", 60000.0);
+        db.addEmployee(alice);
+        db.close();
+        assertThrows(IllegalStateException.class, () -> db.addEmployee(new Employee<>("Bob Brown", "HR", 40000.0)));
+        // Setters are refused before the field, indexes or store change
+        assertThrows(IllegalStateException.class, () -> alice.setSalary(70000.0));
+        assertThrows(IllegalStateException.class, () -> db.getEmployee(alice.getEmployeeId()).setName("Alice Baker"));
+        assertEquals(60000.0, alice.getSalary());
+        assertEquals(60000.0, db.getEmployee(alice.getEmployeeId()).getSalary());
+        assertEquals(List.of(alice), db.searchEmployeesByName("Adams"));
+        assertThrows(IllegalStateException.class, () -> new EmployeeDatabase<Integer>().checkpoint());
+    }
+
+    @Test
+    void testConcurrentWritersShareCommits() throws Exception {
+        Logger employeeLogger = Logger.getLogger(Employee.class.getName());
+        Logger databaseLogger = Logger.getLogger(EmployeeDatabase.class.getName());
+        employeeLogger.setLevel(Level.WARNING);
+        databaseLogger.setLevel(Level.WARNING);
+        int threads = 4;
+        int perThread = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (ConcurrentEmployeeDatabase<Integer> db =
+                     ConcurrentEmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        Employee<Integer> employee = db.createEmployee("Employee " + i, "Sales", 1000.0 + i);
+                        db.addEmployee(employee);
+                        employee.setSalary(2000.0 + i);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+            employeeLogger.setLevel(null);
+            databaseLogger.setLevel(null);
+        }
+        try (EmployeeDatabase<Integer> restored = EmployeeDatabase.open(snapshot(), log(), LogSyncPolicy.EVERY_COMMIT)) {
+            assertEquals(threads * perThread, restored.getAllEmployees().size());
+            assertEquals(0, restored.getEmployeesInSalaryRange(0.0, 1999.0).size());
+        } catch (InvalidSalaryException e) {
+            fail(e);
+        }
+    }
+}